@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.common;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the similarity functions of {@link VectorUtil} against a plain single accumulator loop, for one pair of
+ * vectors and for a query scored against {@link #ROWS} candidates. Both sides are scalar, the benchmark measures the
+ * unrolled loops of Lucene against a single accumulator. Run with -Djmh.includes=VectorSimilarityBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class VectorSimilarityBenchmark {
+
+    private static final int ROWS = 100;
+
+    @Param({ "384", "768", "1536" })
+    public int dimension;
+
+    private float[] query;
+    private float[][] matrix;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        query = randomVector(random);
+        matrix = new float[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            matrix[i] = randomVector(random);
+        }
+    }
+
+    @Benchmark
+    public float dotProductScalarLoop() {
+        return scalarDotProduct(query, matrix[0]);
+    }
+
+    @Benchmark
+    public float dotProduct() {
+        return VectorUtil.dotProduct(query, matrix[0]);
+    }
+
+    @Benchmark
+    public float cosineScalarLoop() {
+        return scalarCosine(query, matrix[0]);
+    }
+
+    @Benchmark
+    public float cosine() {
+        return VectorUtil.cosine(query, matrix[0]);
+    }
+
+    @Benchmark
+    public float[] cosinesScalarLoop() {
+        final float[] similarities = new float[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            similarities[i] = scalarCosine(query, matrix[i]);
+        }
+        return similarities;
+    }
+
+    @Benchmark
+    public float[] cosines() {
+        return VectorUtil.cosines(query, matrix);
+    }
+
+    private static float scalarDotProduct(final float[] a, final float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static float scalarCosine(final float[] a, final float[] b) {
+        return scalarDotProduct(a, b) / (float) Math.sqrt(scalarDotProduct(a, a) * scalarDotProduct(b, b));
+    }
+
+    private float[] randomVector(final Random random) {
+        final float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link VectorUtil#vectorAsListToArray} over a list of boxed floats, as parsed from a request, and
+ * {@link VectorUtil#vectorAsArrayToList}, which copies a vector into the list put into a document by the text
+ * embedding processor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class VectorUtilBenchmark {
+
+    @Param({ "384", "768", "1536" })
+    public int dimension;
+
+    private float[] vector;
+    private List<Float> boxedVector;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        vector = new float[dimension];
+        boxedVector = new ArrayList<>(dimension);
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat();
+            boxedVector.add(vector[i]);
+        }
+    }
+
+    @Benchmark
+    public float[] boxedListToArray() {
+        return VectorUtil.vectorAsListToArray(boxedVector);
+    }
+
+    @Benchmark
+    public List<Float> arrayToList() {
+        return VectorUtil.vectorAsArrayToList(vector);
+    }
+}
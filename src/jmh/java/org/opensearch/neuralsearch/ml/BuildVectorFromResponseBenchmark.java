@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the conversion of the output of a text embedding model to vectors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BuildVectorFromResponseBenchmark {
+
+    private static final int BATCH_SIZE = 16;
+
+    @Param({ "384", "768", "1536" })
+    public int dimension;
+
+    private MLOutput output;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final List<ModelTensors> tensorsList = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final Float[] data = new Float[dimension];
+            for (int j = 0; j < dimension; j++) {
+                data[j] = random.nextFloat();
+            }
+            final ModelTensor tensor = new ModelTensor(
+                "sentence_embedding",
+                data,
+                new long[] { dimension },
+                MLResultDataType.FLOAT32,
+                null,
+                null,
+                Collections.emptyMap()
+            );
+            tensorsList.add(new ModelTensors(List.of(tensor)));
+        }
+        output = new ModelTensorOutput(tensorsList);
+    }
+
+    @Benchmark
+    public List<float[]> buildVectorFromResponse() {
+        return MLCommonsClientAccessor.buildVectorFromResponse(output);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.processor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the assembly of the LLM context of {@link GenerativeTextLLMProcessor} from the hits of a search response.
+ * The sources of the hits are parsed during the warmup, so only the assembly is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GenerativeTextLLMProcessorBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int hitCount;
+
+    private GenerativeTextLLMProcessor processor;
+    private SearchRequest searchRequest;
+    private SearchResponse searchResponse;
+
+    @Setup
+    public void setup() {
+        processor = new GenerativeTextLLMProcessor("tag", null, null, List.of("title", "text"), "modelId", null, new NeuralStats());
+        searchRequest = new SearchRequest();
+        final SearchHit[] hits = new SearchHit[hitCount];
+        for (int i = 0; i < hitCount; i++) {
+            hits[i] = new SearchHit(i);
+            hits[i].sourceRef(
+                new BytesArray(
+                    "{\"title\":\"Document "
+                        + i
+                        + "\",\"text\":\"OpenSearch is a community-driven, open source search and analytics suite derived from "
+                        + "Apache 2.0 licensed Elasticsearch 7.10.2 and Kibana 7.10.2.\",\"views\":"
+                        + i
+                        + "}"
+                )
+            );
+        }
+        final InternalSearchResponse internalResponse = new InternalSearchResponse(
+            new SearchHits(hits, new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO), 1.0f),
+            null,
+            null,
+            null,
+            false,
+            null,
+            1
+        );
+        searchResponse = new SearchResponse(
+            internalResponse,
+            null,
+            1,
+            1,
+            0,
+            10,
+            ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY
+        );
+    }
+
+    @Benchmark
+    public String createContext() {
+        return processor.createContextForLLM(searchRequest, searchResponse);
+    }
+}
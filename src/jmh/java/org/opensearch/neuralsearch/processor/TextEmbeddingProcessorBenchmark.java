@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.neuralsearch.cache.EmbeddingCache;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.vector.VectorEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the field traversal of {@link TextEmbeddingProcessor} and the writing of the vectors back to the
+ * document, over flat, list and deeply nested documents, and the serialization of the source with each vector
+ * encoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TextEmbeddingProcessorBenchmark {
+
+    private static final int FLAT_FIELD_COUNT = 20;
+    private static final int LIST_SIZE = 100;
+    private static final int NESTED_DEPTH = 10;
+    private static final int DIMENSION = 768;
+    private static final long MAPPING_DEPTH_LIMIT = 20;
+    private static final String TEXT = "OpenSearch is a community-driven, open source search and analytics suite derived from Apache 2.0 "
+        + "licensed Elasticsearch 7.10.2 and Kibana 7.10.2.";
+
+    @Param({ "flat", "list", "nested" })
+    public String documentShape;
+
+    @Param({ "array", "base64_float32", "base64_float16" })
+    public String encoding;
+
+    private TextEmbeddingProcessor processor;
+    private IngestDocument sourceDocument;
+    private IngestDocument targetDocument;
+    private FieldMapPlan.Extraction extraction;
+    private List<float[]> vectors;
+
+    @Setup
+    public void setup() {
+        final Map<String, Object> fieldMap = new HashMap<>();
+        final Map<String, Object> source = new HashMap<>();
+        switch (documentShape) {
+            case "flat":
+                for (int i = 0; i < FLAT_FIELD_COUNT; i++) {
+                    fieldMap.put("text_" + i, "text_" + i + "_knn");
+                    source.put("text_" + i, TEXT);
+                }
+                break;
+            case "list":
+                final List<String> passages = new ArrayList<>(LIST_SIZE);
+                for (int i = 0; i < LIST_SIZE; i++) {
+                    passages.add(TEXT);
+                }
+                fieldMap.put("passages", "passages_knn");
+                source.put("passages", passages);
+                break;
+            case "nested":
+                fieldMap.put("document", nestedFieldMap(NESTED_DEPTH));
+                source.put("document", nestedSource(NESTED_DEPTH));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown document shape [" + documentShape + "]");
+        }
+        processor = new TextEmbeddingProcessor(
+            "tag",
+            "description",
+            "modelId",
+            FieldMapPlan.compile(fieldMap, MAPPING_DEPTH_LIMIT),
+            false,
+            null,
+            null,
+            null,
+            VectorEncoding.fromName(encoding),
+            null,
+            new EmbeddingCache(0),
+            null,
+            new NeuralStats()
+        );
+        // vectors are written to a separate document, nested vectors would otherwise be traversed by the extraction
+        sourceDocument = new IngestDocument(source, new HashMap<>());
+        targetDocument = new IngestDocument(deepCopy(source), new HashMap<>());
+        extraction = processor.extractFields(targetDocument);
+        vectors = new ArrayList<>();
+        final Random random = new Random(0);
+        for (int i = 0; i < extraction.getTexts().size(); i++) {
+            final float[] vector = new float[DIMENSION];
+            for (int j = 0; j < DIMENSION; j++) {
+                vector[j] = random.nextFloat() * 2 - 1;
+            }
+            vectors.add(vector);
+        }
+    }
+
+    @Benchmark
+    public List<String> extractTexts() {
+        return processor.extractFields(sourceDocument).getTexts();
+    }
+
+    @Benchmark
+    public IngestDocument appendVectors() {
+        // every invocation writes the same target fields, so the document does not grow
+        processor.appendVectorFieldsToDocument(targetDocument, extraction, vectors);
+        return targetDocument;
+    }
+
+    @Benchmark
+    public BytesReference appendVectorsAndSerialize() throws IOException {
+        processor.appendVectorFieldsToDocument(targetDocument, extraction, vectors);
+        return BytesReference.bytes(XContentFactory.jsonBuilder().map(targetDocument.getSourceAndMetadata()));
+    }
+
+    private static Map<String, Object> nestedFieldMap(final int depth) {
+        final Map<String, Object> fieldMap = new HashMap<>();
+        fieldMap.put("title", "title_knn");
+        if (depth > 1) {
+            fieldMap.put("child", nestedFieldMap(depth - 1));
+        }
+        return fieldMap;
+    }
+
+    private static Map<String, Object> nestedSource(final int depth) {
+        final Map<String, Object> source = new HashMap<>();
+        source.put("title", TEXT);
+        source.put("body", List.of(TEXT, TEXT));
+        if (depth > 1) {
+            source.put("child", nestedSource(depth - 1));
+        }
+        return source;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> deepCopy(final Map<String, Object> source) {
+        final Map<String, Object> copy = new HashMap<>();
+        source.forEach((key, value) -> copy.put(key, value instanceof Map ? deepCopy((Map<String, Object>) value) : value));
+        return copy;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import org.opensearch.action.ActionListener;
+
+/**
+ * Utility class for running inference only for the texts whose vectors are not available in a cache or store
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CacheAwareInference {
+
+    /**
+     * Resolves the vectors of the input texts with the lookup function and runs the inference only for the texts which
+     * are not found. The inferred vectors are passed to the store consumer and merged with the found ones, so the
+     * listener is called with the vectors of all the input texts in their original order.
+     *
+     * @param inputText {@link List} of {@link String} for which vectors are needed
+     * @param lookup function returning the known vector of a text or null
+     * @param inference function running the inference of the missing texts
+     * @param store consumer of every text and its inferred vector
+     * @param listener {@link ActionListener} which will be called with the vectors of all the input texts
+     */
+    public static void inferenceSentences(
+        final List<String> inputText,
+        final Function<String, float[]> lookup,
+        final BiConsumer<List<String>, ActionListener<List<float[]>>> inference,
+        final BiConsumer<String, float[]> store,
+        final ActionListener<List<float[]>> listener
+    ) {
+        final List<float[]> vectors = new ArrayList<>(inputText.size());
+        final List<Integer> missIndexes = new ArrayList<>();
+        final List<String> missTexts = new ArrayList<>();
+        for (int i = 0; i < inputText.size(); i++) {
+            final float[] knownVector = lookup.apply(inputText.get(i));
+            vectors.add(knownVector);
+            if (knownVector == null) {
+                missIndexes.add(i);
+                missTexts.add(inputText.get(i));
+            }
+        }
+        if (missTexts.isEmpty()) {
+            listener.onResponse(vectors);
+            return;
+        }
+        inference.accept(missTexts, ActionListener.wrap(missVectors -> {
+            if (missVectors.size() != missTexts.size()) {
+                throw new IllegalStateException(
+                    "Unexpected number of vectors produced. Expected [" + missTexts.size() + "] but got [" + missVectors.size() + "]"
+                );
+            }
+            for (int i = 0; i < missVectors.size(); i++) {
+                vectors.set(missIndexes.get(i), missVectors.get(i));
+                store.accept(missTexts.get(i), missVectors.get(i));
+            }
+            listener.onResponse(vectors);
+        }, listener::onFailure));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.cache;
+
+import java.util.Map;
+
+import lombok.NonNull;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+
+/**
+ * Node level, size bounded LRU cache of the vectors produced by a model for an input text. Entries are keyed by the
+ * model id and a 128 bit hash of the text, so the cache does not keep the input texts on heap.
+ */
+public class EmbeddingCache {
+
+    // approximation of the key, the cache entry and the header of the array holding the vector
+    private static final long ENTRY_OVERHEAD_BYTES = 112;
+
+    private final Cache<EmbeddingKey, float[]> cache;
+
+    public EmbeddingCache(final long maxSizeInBytes) {
+        if (maxSizeInBytes <= 0) {
+            this.cache = null;
+        } else {
+            this.cache = CacheBuilder.<EmbeddingKey, float[]>builder()
+                .setMaximumWeight(maxSizeInBytes)
+                .weigher((key, vector) -> ENTRY_OVERHEAD_BYTES + key.getModelId().length() + (long) Float.BYTES * vector.length)
+                .build();
+        }
+    }
+
+    /**
+     * Creates the cache from the node settings.
+     *
+     * @param settings node {@link Settings}
+     * @return {@link EmbeddingCache}
+     */
+    public static EmbeddingCache create(final Settings settings) {
+        return new EmbeddingCache(NeuralSearchSettings.EMBEDDING_CACHE_SIZE.get(settings).getBytes());
+    }
+
+    /**
+     * @return true if vectors are cached, false if the cache is disabled by its size setting
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Gets the vector produced by the model for the text.
+     *
+     * @param modelId {@link String}
+     * @param text {@link String}
+     * @return cached vector or null if the text was not embedded by the model before
+     */
+    public float[] get(@NonNull final String modelId, @NonNull final String text) {
+        if (cache == null) {
+            return null;
+        }
+        return cache.get(EmbeddingKey.of(modelId, text));
+    }
+
+    /**
+     * Caches the vector produced by the model for the text.
+     *
+     * @param modelId {@link String}
+     * @param text {@link String}
+     * @param vector produced by the model
+     */
+    public void put(@NonNull final String modelId, @NonNull final String text, @NonNull final float[] vector) {
+        if (cache == null) {
+            return;
+        }
+        cache.put(EmbeddingKey.of(modelId, text), vector);
+    }
+
+    /**
+     * @return number of vectors in the cache
+     */
+    public int count() {
+        return cache == null ? 0 : cache.count();
+    }
+
+    /**
+     * @return estimated heap memory used by the cached vectors in bytes
+     */
+    public long weightInBytes() {
+        return cache == null ? 0 : cache.weight();
+    }
+
+    /**
+     * @return hit, miss and eviction counts of the cache
+     */
+    public Cache.CacheStats stats() {
+        return cache == null ? new Cache.CacheStats(0, 0, 0) : cache.stats();
+    }
+
+    /**
+     * @return number of vectors, estimated heap memory, hit, miss and eviction counts of the cache
+     */
+    public Map<String, Object> statsAsMap() {
+        final Cache.CacheStats stats = stats();
+        return Map.of(
+            "count",
+            (long) count(),
+            "size_in_bytes",
+            weightInBytes(),
+            "hit_count",
+            stats.getHits(),
+            "miss_count",
+            stats.getMisses(),
+            "eviction_count",
+            stats.getEvictions()
+        );
+    }
+}
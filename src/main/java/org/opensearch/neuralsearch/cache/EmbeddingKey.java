@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import org.opensearch.common.hash.MurmurHash3;
+
+/**
+ * Identifies the vector a model produces for an input text by the model id and a 128 bit hash of the text, so caches
+ * do not need to keep the input texts.
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+final class EmbeddingKey {
+    private static final long MURMUR_SEED = 0;
+
+    private final String modelId;
+    private final long textHashHigh;
+    private final long textHashLow;
+
+    static EmbeddingKey of(final String modelId, final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, MURMUR_SEED, new MurmurHash3.Hash128());
+        return new EmbeddingKey(modelId, hash.h1, hash.h2);
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+
+/**
+ * Append only store of the vectors produced by a model for an input text, kept in a memory mapped file on the node data
+ * path so it survives node restarts. Lookups return read only views of the mapped file rather than copies, callers
+ * which need the vector as an array, such as the ingest documents and the k-NN queries, copy it to the heap. Only a
+ * small index of the record positions lives on heap and is rebuilt from the file on start up.
+ *
+ * Once the file is full, a compaction rewrites the most recently added records into a new file, dropping older and
+ * duplicated records, and atomically replaces the old one. Appends are dropped while a compaction runs, they are
+ * counted by {@link #getDroppedPutCount()}.
+ *
+ * Layout of the file, all values are little endian:
+ * header: magic (int), version (int), end of the last committed record (long)
+ * record: body length (int), crc32 of body (int), body
+ * body: model id length (int), model id (utf-8), text hash (2 * long), dimension (int), vector (dimension * float)
+ */
+@Log4j2
+public class PersistentEmbeddingStore implements Closeable {
+
+    static final String DIRECTORY_NAME = "neural-search";
+    static final String FILE_NAME = "embeddings.store";
+    private static final String COMPACTION_FILE_NAME = "embeddings.store.compacting";
+
+    private static final int MAGIC = 0x4E534553;
+    private static final int VERSION = 1;
+    private static final int END_OFFSET_POSITION = 8;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 8;
+    // model id length, text hash and dimension
+    private static final int FIXED_BODY_BYTES = 4 + 16 + 4;
+
+    private final Path path;
+    private final int capacity;
+    private final Executor compactionExecutor;
+    private final AtomicBoolean compacting = new AtomicBoolean(false);
+    private final AtomicLong droppedPutCount = new AtomicLong();
+
+    private volatile Segment segment;
+    private int endOffset;
+    private boolean closed;
+
+    PersistentEmbeddingStore(final Path directory, final int capacity, final Executor compactionExecutor) throws IOException {
+        if (capacity <= HEADER_BYTES) {
+            throw new IllegalArgumentException("capacity of embedding store must be greater than [" + HEADER_BYTES + "] bytes");
+        }
+        Files.createDirectories(directory);
+        this.path = directory.resolve(FILE_NAME);
+        this.capacity = capacity;
+        this.compactionExecutor = compactionExecutor;
+        Files.deleteIfExists(directory.resolve(COMPACTION_FILE_NAME));
+        this.segment = open(path, capacity);
+        this.endOffset = segment.endOffset;
+    }
+
+    /**
+     * Creates the store in the first data path of the node if it is enabled by the node settings.
+     *
+     * @param settings node {@link Settings}
+     * @param nodeEnvironment {@link NodeEnvironment} providing the data paths of the node
+     * @param compactionExecutor {@link Executor} running the compactions
+     * @return {@link PersistentEmbeddingStore} or null if the store is disabled
+     * @throws IOException if the store file can not be opened
+     */
+    public static PersistentEmbeddingStore create(
+        final Settings settings,
+        final NodeEnvironment nodeEnvironment,
+        final Executor compactionExecutor
+    ) throws IOException {
+        if (!NeuralSearchSettings.EMBEDDING_STORE_ENABLED.get(settings)) {
+            return null;
+        }
+        final Path directory = nodeEnvironment.nodeDataPaths()[0].resolve(DIRECTORY_NAME);
+        final int capacity = Math.toIntExact(NeuralSearchSettings.EMBEDDING_STORE_SIZE.get(settings).getBytes());
+        return new PersistentEmbeddingStore(directory, capacity, compactionExecutor);
+    }
+
+    /**
+     * Gets the vector produced by the model for the text.
+     *
+     * @param modelId {@link String}
+     * @param text {@link String}
+     * @return read only {@link FloatBuffer} view of the stored vector, or null if the vector is not in the store
+     */
+    public FloatBuffer get(@NonNull final String modelId, @NonNull final String text) {
+        final Segment current = segment;
+        final Entry entry = current.index.get(EmbeddingKey.of(modelId, text));
+        if (entry == null) {
+            return null;
+        }
+        return slice(current.buffer, entry.vectorOffset, entry.dimension * Float.BYTES).asReadOnlyBuffer()
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asFloatBuffer();
+    }
+
+    /**
+     * Appends the vector produced by the model for the text to the store. If the store is full, a compaction is started
+     * and the vector is not stored, nor are the vectors appended while the compaction runs.
+     *
+     * @param modelId {@link String}
+     * @param text {@link String}
+     * @param vector produced by the model
+     */
+    public void put(@NonNull final String modelId, @NonNull final String text, @NonNull final float[] vector) {
+        if (compacting.get()) {
+            droppedPutCount.incrementAndGet();
+            return;
+        }
+        final EmbeddingKey key = EmbeddingKey.of(modelId, text);
+        final byte[] modelIdBytes = modelId.getBytes(StandardCharsets.UTF_8);
+        final int bodyLength = FIXED_BODY_BYTES + modelIdBytes.length + vector.length * Float.BYTES;
+        final int recordLength = RECORD_HEADER_BYTES + bodyLength;
+        if (recordLength > capacity - HEADER_BYTES) {
+            return;
+        }
+        synchronized (this) {
+            if (closed || segment.index.containsKey(key)) {
+                return;
+            }
+            if (compacting.get()) {
+                droppedPutCount.incrementAndGet();
+                return;
+            }
+            if (endOffset + recordLength > capacity) {
+                droppedPutCount.incrementAndGet();
+                startCompaction();
+                return;
+            }
+            final ByteBuffer body = slice(segment.buffer, endOffset + RECORD_HEADER_BYTES, bodyLength);
+            body.putInt(modelIdBytes.length)
+                .put(modelIdBytes)
+                .putLong(key.getTextHashHigh())
+                .putLong(key.getTextHashLow())
+                .putInt(vector.length);
+            for (float value : vector) {
+                body.putFloat(value);
+            }
+            segment.buffer.putInt(endOffset, bodyLength);
+            segment.buffer.putInt(endOffset + Integer.BYTES, checksum(slice(segment.buffer, endOffset + RECORD_HEADER_BYTES, bodyLength)));
+            final int vectorOffset = endOffset + recordLength - vector.length * Float.BYTES;
+            segment.index.put(key, new Entry(endOffset, recordLength, vectorOffset, vector.length));
+            endOffset += recordLength;
+            segment.buffer.putLong(END_OFFSET_POSITION, endOffset);
+        }
+    }
+
+    /**
+     * @return number of vectors in the store
+     */
+    public int count() {
+        return segment.index.size();
+    }
+
+    /**
+     * @return size of the committed records in the store file in bytes
+     */
+    public synchronized long sizeInBytes() {
+        return endOffset;
+    }
+
+    /**
+     * @return number of vectors which were not stored as the store was full or being compacted
+     */
+    public long getDroppedPutCount() {
+        return droppedPutCount.get();
+    }
+
+    /**
+     * @return number of vectors, size and dropped appends of the store
+     */
+    public Map<String, Object> statsAsMap() {
+        return Map.of("count", (long) count(), "size_in_bytes", sizeInBytes(), "dropped_put_count", getDroppedPutCount());
+    }
+
+    private void startCompaction() {
+        if (compacting.compareAndSet(false, true) == false) {
+            return;
+        }
+        try {
+            compactionExecutor.execute(() -> {
+                try {
+                    compact();
+                } catch (Exception e) {
+                    log.warn("Failed to compact the embedding store at [" + path + "]", e);
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        } catch (Exception e) {
+            compacting.set(false);
+            log.warn("Failed to start the compaction of the embedding store at [" + path + "]", e);
+        }
+    }
+
+    /**
+     * Rewrites the most recently added records, up to half of the capacity, into a new file which then replaces the
+     * current one. Readers holding views of the old file are not affected, the old mapping is released once it is no
+     * longer referenced.
+     */
+    void compact() throws IOException {
+        final Segment current;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            current = segment;
+        }
+        final List<Map.Entry<EmbeddingKey, Entry>> liveEntries = new ArrayList<>(current.index.entrySet());
+        liveEntries.sort(Comparator.comparingInt((Map.Entry<EmbeddingKey, Entry> e) -> e.getValue().recordOffset).reversed());
+        final int targetBytes = (capacity - HEADER_BYTES) / 2;
+        int keptBytes = 0;
+        int keptEntries = 0;
+        while (keptEntries < liveEntries.size() && keptBytes + liveEntries.get(keptEntries).getValue().recordLength <= targetBytes) {
+            keptBytes += liveEntries.get(keptEntries).getValue().recordLength;
+            keptEntries++;
+        }
+        final List<Map.Entry<EmbeddingKey, Entry>> keptRecords = new ArrayList<>(liveEntries.subList(0, keptEntries));
+        keptRecords.sort(Comparator.comparingInt(e -> e.getValue().recordOffset));
+
+        final Path compactionPath = path.resolveSibling(COMPACTION_FILE_NAME);
+        Files.deleteIfExists(compactionPath);
+        final Segment compacted = open(compactionPath, capacity);
+        int offset = HEADER_BYTES;
+        for (Map.Entry<EmbeddingKey, Entry> record : keptRecords) {
+            final Entry entry = record.getValue();
+            slice(compacted.buffer, offset, entry.recordLength).put(slice(current.buffer, entry.recordOffset, entry.recordLength));
+            compacted.index.put(
+                record.getKey(),
+                new Entry(offset, entry.recordLength, offset + (entry.vectorOffset - entry.recordOffset), entry.dimension)
+            );
+            offset += entry.recordLength;
+        }
+        compacted.buffer.putLong(END_OFFSET_POSITION, offset);
+        compacted.buffer.force();
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            Files.move(compactionPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            segment = compacted;
+            endOffset = offset;
+        }
+        log.info("Compacted embedding store at [{}] from [{}] to [{}] vectors", path, liveEntries.size(), keptRecords.size());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        segment.buffer.force();
+    }
+
+    private static Segment open(final Path path, final int capacity) throws IOException {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final Segment segment = new Segment(buffer, new ConcurrentHashMap<>(), HEADER_BYTES);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            buffer.putInt(0, MAGIC).putInt(Integer.BYTES, VERSION).putLong(END_OFFSET_POSITION, HEADER_BYTES);
+            return segment;
+        }
+        final long committedEnd = Math.min(buffer.getLong(END_OFFSET_POSITION), capacity);
+        int offset = HEADER_BYTES;
+        while (offset + RECORD_HEADER_BYTES <= committedEnd) {
+            final int bodyLength = buffer.getInt(offset);
+            if (bodyLength < FIXED_BODY_BYTES || offset + RECORD_HEADER_BYTES + bodyLength > committedEnd) {
+                break;
+            }
+            final ByteBuffer body = slice(buffer, offset + RECORD_HEADER_BYTES, bodyLength);
+            if (checksum(body.duplicate()) != buffer.getInt(offset + Integer.BYTES)) {
+                log.warn("Found corrupted record in embedding store at [{}], dropping all records after offset [{}]", path, offset);
+                break;
+            }
+            final byte[] modelIdBytes = new byte[body.getInt()];
+            body.get(modelIdBytes);
+            final EmbeddingKey key = new EmbeddingKey(new String(modelIdBytes, StandardCharsets.UTF_8), body.getLong(), body.getLong());
+            final int dimension = body.getInt();
+            final int recordLength = RECORD_HEADER_BYTES + bodyLength;
+            segment.index.put(key, new Entry(offset, recordLength, offset + recordLength - dimension * Float.BYTES, dimension));
+            offset += recordLength;
+        }
+        buffer.putLong(END_OFFSET_POSITION, offset);
+        return new Segment(buffer, segment.index, offset);
+    }
+
+    private static ByteBuffer slice(final ByteBuffer buffer, final int offset, final int length) {
+        final ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(offset).limit(offset + length);
+        return duplicate.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int checksum(final ByteBuffer body) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(body);
+        return (int) crc32.getValue();
+    }
+
+    @AllArgsConstructor
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final Map<EmbeddingKey, Entry> index;
+        private final int endOffset;
+    }
+
+    @AllArgsConstructor
+    private static final class Entry {
+        private final int recordOffset;
+        private final int recordLength;
+        private final int vectorOffset;
+        private final int dimension;
+    }
+}
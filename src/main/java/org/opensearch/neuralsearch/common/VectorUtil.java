@@ -5,13 +5,18 @@
 
 package org.opensearch.neuralsearch.common;
 
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 /**
- * Utility class for working with vectors
+ * Utility class for working with vectors. The similarity functions delegate to the VectorUtil of Lucene 9.5, whose
+ * kernels are unrolled scalar loops. There is no SIMD code path, the Panama Vector API needs a newer JDK than the Java 11
+ * target of the plugin.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class VectorUtil {
@@ -29,4 +34,170 @@ public class VectorUtil {
         }
         return vector;
     }
+
+    /**
+     * Converts a vector represented as a buffer to an array
+     *
+     * @param vectorAsBuffer {@link FloatBuffer} representing the vector, from its position to its limit
+     * @return array of floats produced from input buffer
+     */
+    public static float[] vectorAsBufferToArray(FloatBuffer vectorAsBuffer) {
+        float[] vector = new float[vectorAsBuffer.remaining()];
+        vectorAsBuffer.duplicate().get(vector);
+        return vector;
+    }
+
+    /**
+     * Copies a vector represented as an array into a mutable list, which is put into a document source. The list does
+     * not share the array, which may be held by the embedding caches, so later processors of the pipeline can modify it.
+     *
+     * @param vectorAsArray array of floats representing the vector
+     * @return {@link List} of {@link Float}'s copied from the input array
+     */
+    public static List<Float> vectorAsArrayToList(float[] vectorAsArray) {
+        final List<Float> vector = new ArrayList<>(vectorAsArray.length);
+        for (float value : vectorAsArray) {
+            vector.add(value);
+        }
+        return vector;
+    }
+
+    /**
+     * Reads a vector back from a document source, as written by the text_embedding processor.
+     *
+     * @param sourceValue value of the vector field in the document source
+     * @return the vector, or null if the value is not a vector
+     */
+    public static float[] vectorFromSourceValue(Object sourceValue) {
+        if (!(sourceValue instanceof List)) {
+            return null;
+        }
+        List<?> values = (List<?>) sourceValue;
+        float[] vector = new float[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            Object value = values.get(i);
+            if (!(value instanceof Number)) {
+                return null;
+            }
+            vector[i] = ((Number) value).floatValue();
+        }
+        return vector;
+    }
+
+    /**
+     * Copies a byte vector into a mutable list, which is written to a document source as a list of numbers.
+     *
+     * @param vectorAsArray array of bytes representing the vector
+     * @return {@link List} of {@link Byte}'s copied from the input array
+     */
+    public static List<Byte> vectorAsByteArrayToList(byte[] vectorAsArray) {
+        final List<Byte> vector = new ArrayList<>(vectorAsArray.length);
+        for (byte value : vectorAsArray) {
+            vector.add(value);
+        }
+        return vector;
+    }
+
+    /**
+     * @param a first vector
+     * @param b second vector, of the same dimension
+     * @return dot product of the vectors
+     */
+    public static float dotProduct(float[] a, float[] b) {
+        return org.apache.lucene.util.VectorUtil.dotProduct(a, b);
+    }
+
+    /**
+     * @param a first vector
+     * @param b second vector, of the same dimension
+     * @return cosine similarity of the vectors, 0 if one of them is a zero vector
+     */
+    public static float cosine(float[] a, float[] b) {
+        final float normProduct = norm(a) * norm(b);
+        return normProduct == 0 ? 0 : dotProduct(a, b) / normProduct;
+    }
+
+    /**
+     * @param a first vector
+     * @param b second vector, of the same dimension
+     * @return euclidean distance between the vectors
+     */
+    public static float l2Distance(float[] a, float[] b) {
+        return (float) Math.sqrt(org.apache.lucene.util.VectorUtil.squareDistance(a, b));
+    }
+
+    /**
+     * @param vector vector
+     * @return euclidean norm of the vector
+     */
+    public static float norm(float[] vector) {
+        return (float) Math.sqrt(dotProduct(vector, vector));
+    }
+
+    /**
+     * Scales the vector to unit length in place, a zero vector is left unchanged.
+     *
+     * @param vector vector to normalize
+     * @return the input vector
+     */
+    public static float[] normalize(float[] vector) {
+        final float norm = norm(vector);
+        if (norm == 0 || norm == 1) {
+            return vector;
+        }
+        final float scale = 1 / norm;
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    /**
+     * Keeps the first dimensions of a vector and scales them to unit length, which is how the embeddings of the models
+     * trained with nested dimensions, such as Matryoshka representation learning, are shortened.
+     *
+     * @param vector vector, it is not modified
+     * @param dimensions number of dimensions to keep, positive and at most the dimension of the vector
+     * @return new normalized vector of the given dimension
+     */
+    public static float[] truncate(float[] vector, int dimensions) {
+        if (dimensions <= 0 || dimensions > vector.length) {
+            throw new IllegalArgumentException(
+                "can not truncate vector of dimension [" + vector.length + "] to [" + dimensions + "] dimensions"
+            );
+        }
+        return normalize(Arrays.copyOf(vector, dimensions));
+    }
+
+    /**
+     * Computes the dot products of a query vector with every row of a matrix, such as the candidates to rerank.
+     *
+     * @param query query vector
+     * @param matrix rows of the same dimension as the query
+     * @return dot product of the query with each row, in row order
+     */
+    public static float[] dotProducts(float[] query, float[][] matrix) {
+        final float[] products = new float[matrix.length];
+        for (int i = 0; i < matrix.length; i++) {
+            products[i] = dotProduct(query, matrix[i]);
+        }
+        return products;
+    }
+
+    /**
+     * Computes the cosine similarities of a query vector with every row of a matrix. The query norm is computed once.
+     *
+     * @param query query vector
+     * @param matrix rows of the same dimension as the query
+     * @return cosine similarity of the query with each row, in row order, 0 for zero vectors
+     */
+    public static float[] cosines(float[] query, float[][] matrix) {
+        final float queryNorm = norm(query);
+        final float[] similarities = new float[matrix.length];
+        for (int i = 0; i < matrix.length; i++) {
+            final float normProduct = queryNorm * norm(matrix[i]);
+            similarities[i] = normProduct == 0 ? 0 : dotProduct(query, matrix[i]) / normProduct;
+        }
+        return similarities;
+    }
 }
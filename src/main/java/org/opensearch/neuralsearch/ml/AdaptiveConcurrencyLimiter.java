@@ -0,0 +1,362 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.transport.ReceiveTimeoutTransportException;
+
+/**
+ * Limits the number of in-flight predict calls to a model with an AIMD (additive increase, multiplicative decrease)
+ * algorithm. The limit grows by one every time a full limit worth of calls succeeds while the limit is in use, and
+ * shrinks by {@link #BACKOFF_RATIO} when a call signals that the model is overloaded: it is rejected, times out, fails
+ * with a 429 or 503 error, or takes longer than {@link #LATENCY_TOLERANCE} times the latency of the model without load.
+ * Other failures, such as client errors, leave the limit unchanged. The limit shrinks at most once per latency window:
+ * calls which were already in flight when the limit last shrank can not shrink it again. The latency without load is
+ * the minimum latency of the last {@link #LATENCY_WINDOW_SIZE} successful calls.
+ *
+ * Calls are split into {@link InferencePriority} lanes. A share of the limit is reserved for interactive calls, bulk
+ * calls can only use the rest of it, and interactive calls waiting for the limit are always dispatched before bulk
+ * calls. Calls over the limit wait in a bounded queue per lane, calls which do not fit in the queue are rejected with
+ * an {@link OpenSearchRejectedExecutionException}, which is returned to clients as a retryable 429 error. Queued calls
+ * are dispatched to the given executor once a slot frees up, rather than on the thread which releases the slot.
+ */
+@Log4j2
+public class AdaptiveConcurrencyLimiter {
+
+    static final double BACKOFF_RATIO = 0.9;
+    static final double LATENCY_TOLERANCE = 2.0;
+    static final int LATENCY_WINDOW_SIZE = 100;
+    private static final int MIN_LIMIT = 1;
+
+    private final String name;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final double interactiveReservedRatio;
+    private final LongSupplier nanoTime;
+    private final Executor executor;
+    private final Map<InferencePriority, Lane> lanes = new EnumMap<>(InferencePriority.class);
+
+    private double limit;
+    private int inFlight;
+    private long noLoadLatencyNanos = Long.MAX_VALUE;
+    private long windowMinLatencyNanos = Long.MAX_VALUE;
+    private int windowSampleCount;
+    private long lastBackoffNanos = Long.MIN_VALUE;
+
+    public AdaptiveConcurrencyLimiter(
+        final String name,
+        final int initialLimit,
+        final int maxLimit,
+        final int maxQueueSize,
+        final double interactiveReservedRatio,
+        final LongSupplier nanoTime,
+        final Executor executor
+    ) {
+        this.name = name;
+        this.limit = Math.max(MIN_LIMIT, Math.min(initialLimit, maxLimit));
+        this.maxLimit = maxLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.interactiveReservedRatio = interactiveReservedRatio;
+        this.nanoTime = nanoTime;
+        this.executor = executor;
+        for (InferencePriority priority : InferencePriority.values()) {
+            lanes.put(priority, new Lane());
+        }
+    }
+
+    /**
+     * Runs the task as soon as the number of in-flight calls is under the limit of its lane. The task is given a
+     * {@link Permit} which must be released once its call completes.
+     *
+     * @param priority {@link InferencePriority} lane of the call
+     * @param task task which makes the call
+     * @throws OpenSearchRejectedExecutionException if the limit is reached and the queue of the lane is full
+     */
+    public void execute(final InferencePriority priority, final Consumer<Permit> task) {
+        final Lane lane = lanes.get(priority);
+        synchronized (this) {
+            if (inFlight >= laneLimit(priority)) {
+                if (lane.queue.size() >= maxQueueSize) {
+                    lane.rejectedCount++;
+                    throw new OpenSearchRejectedExecutionException(
+                        "rejected "
+                            + priority.name().toLowerCase(Locale.ROOT)
+                            + " inference for model ["
+                            + name
+                            + "], ["
+                            + inFlight
+                            + "] calls are in flight and ["
+                            + lane.queue.size()
+                            + "] are queued"
+                    );
+                }
+                lane.queue.add(new QueuedTask(task, nanoTime.getAsLong()));
+                return;
+            }
+            inFlight++;
+            lane.dispatchedCount++;
+        }
+        task.accept(new Permit());
+    }
+
+    /**
+     * Interactive calls can use the whole limit, bulk calls the part of it which is not reserved for interactive calls
+     * but at least one slot.
+     */
+    private int laneLimit(final InferencePriority priority) {
+        final int currentLimit = (int) limit;
+        if (priority == InferencePriority.INTERACTIVE) {
+            return currentLimit;
+        }
+        return Math.max(MIN_LIMIT, currentLimit - (int) Math.ceil(currentLimit * interactiveReservedRatio));
+    }
+
+    /**
+     * @param e {@link Exception} a call failed with
+     * @return true if the failure tells that the model is overloaded: a rejection, a timeout or a 429 or 503 error
+     */
+    public static boolean isOverloadFailure(final Exception e) {
+        if (ExceptionsHelper.unwrap(
+            e,
+            OpenSearchTimeoutException.class,
+            ReceiveTimeoutTransportException.class,
+            TimeoutException.class
+        ) != null) {
+            return true;
+        }
+        final RestStatus status = ExceptionsHelper.status(e);
+        return status == RestStatus.TOO_MANY_REQUESTS || status == RestStatus.SERVICE_UNAVAILABLE;
+    }
+
+    private void release(final long startNanos, final long latencyNanos, final Exception failure) {
+        final List<Consumer<Permit>> tasksToRun = new ArrayList<>();
+        synchronized (this) {
+            final boolean limitInUse = inFlight * 2 >= (int) limit;
+            inFlight--;
+            if (failure == null) {
+                updateNoLoadLatency(latencyNanos);
+            }
+            final boolean overloaded = failure == null ? latencyNanos > noLoadLatencyNanos * LATENCY_TOLERANCE : isOverloadFailure(failure);
+            if (overloaded) {
+                // calls in flight when the limit last shrank saw the same overload, they do not shrink it again
+                if (startNanos > lastBackoffNanos) {
+                    limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+                    lastBackoffNanos = nanoTime.getAsLong();
+                    log.debug("Decreased inference concurrency limit of model [{}] to [{}]", name, (int) limit);
+                }
+            } else if (failure == null && limitInUse) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            // lanes are iterated in priority order, so bulk calls only run once no interactive call waits
+            for (Map.Entry<InferencePriority, Lane> entry : lanes.entrySet()) {
+                final Lane lane = entry.getValue();
+                final int laneLimit = laneLimit(entry.getKey());
+                while (inFlight < laneLimit && !lane.queue.isEmpty()) {
+                    final QueuedTask queuedTask = lane.queue.poll();
+                    inFlight++;
+                    lane.dispatchedCount++;
+                    lane.totalQueueTimeNanos += nanoTime.getAsLong() - queuedTask.enqueueNanos;
+                    tasksToRun.add(queuedTask.task);
+                }
+            }
+        }
+        tasksToRun.forEach(this::dispatch);
+    }
+
+    private void dispatch(final Consumer<Permit> task) {
+        try {
+            executor.execute(() -> task.accept(new Permit()));
+        } catch (OpenSearchRejectedExecutionException e) {
+            // the call already holds its slot, it runs on the releasing thread rather than being dropped
+            task.accept(new Permit());
+        }
+    }
+
+    private void updateNoLoadLatency(final long latencyNanos) {
+        windowMinLatencyNanos = Math.min(windowMinLatencyNanos, latencyNanos);
+        noLoadLatencyNanos = Math.min(noLoadLatencyNanos, latencyNanos);
+        if (++windowSampleCount >= LATENCY_WINDOW_SIZE) {
+            noLoadLatencyNanos = windowMinLatencyNanos;
+            windowMinLatencyNanos = Long.MAX_VALUE;
+            windowSampleCount = 0;
+        }
+    }
+
+    /**
+     * @return current limit of in-flight calls
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return number of in-flight calls
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of calls waiting for the limit in all the lanes
+     */
+    public synchronized int getQueueSize() {
+        int queueSize = 0;
+        for (Lane lane : lanes.values()) {
+            queueSize += lane.queue.size();
+        }
+        return queueSize;
+    }
+
+    /**
+     * @return number of calls rejected in all the lanes as their queue was full
+     */
+    public synchronized long getRejectedCount() {
+        long rejectedCount = 0;
+        for (Lane lane : lanes.values()) {
+            rejectedCount += lane.rejectedCount;
+        }
+        return rejectedCount;
+    }
+
+    /**
+     * @param priority {@link InferencePriority} of the lane
+     * @return {@link LaneStats} snapshot of the lane
+     */
+    public synchronized LaneStats getLaneStats(final InferencePriority priority) {
+        final Lane lane = lanes.get(priority);
+        return new LaneStats(lane.queue.size(), lane.dispatchedCount, lane.rejectedCount, lane.totalQueueTimeNanos);
+    }
+
+    /**
+     * @return limit, in-flight calls, queued calls and rejections of the limiter, with the stats of every lane keyed by
+     *         lane name
+     */
+    public synchronized Map<String, Object> statsAsMap() {
+        final Map<String, Object> laneStats = new TreeMap<>();
+        lanes.forEach(
+            (priority, lane) -> laneStats.put(
+                priority.name().toLowerCase(Locale.ROOT),
+                Map.of(
+                    "queue_size",
+                    (long) lane.queue.size(),
+                    "dispatched_count",
+                    lane.dispatchedCount,
+                    "rejected_count",
+                    lane.rejectedCount,
+                    "total_queue_time_in_nanos",
+                    lane.totalQueueTimeNanos
+                )
+            )
+        );
+        return Map.of(
+            "limit",
+            (long) getLimit(),
+            "in_flight",
+            (long) inFlight,
+            "queue_size",
+            (long) getQueueSize(),
+            "rejected_count",
+            getRejectedCount(),
+            "lanes",
+            laneStats
+        );
+    }
+
+    /**
+     * Point in time statistics of a lane.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class LaneStats {
+        /**
+         * Number of calls waiting for the limit
+         */
+        private final int queueSize;
+        /**
+         * Number of calls dispatched to the model
+         */
+        private final long dispatchedCount;
+        /**
+         * Number of calls rejected as the queue was full
+         */
+        private final long rejectedCount;
+        /**
+         * Total time the dispatched calls waited in the queue, calls dispatched without waiting count for 0
+         */
+        private final long totalQueueTimeNanos;
+
+        /**
+         * @return average time a dispatched call waited in the queue, in nanoseconds
+         */
+        public long getAverageQueueTimeNanos() {
+            return dispatchedCount == 0 ? 0 : totalQueueTimeNanos / dispatchedCount;
+        }
+    }
+
+    private static final class Lane {
+        private final Queue<QueuedTask> queue = new ArrayDeque<>();
+        private long dispatchedCount;
+        private long rejectedCount;
+        private long totalQueueTimeNanos;
+    }
+
+    @AllArgsConstructor
+    private static final class QueuedTask {
+        private final Consumer<Permit> task;
+        private final long enqueueNanos;
+    }
+
+    /**
+     * Slot of an in-flight call, which measures the latency of the call.
+     */
+    public final class Permit {
+        private final long startNanos = nanoTime.getAsLong();
+        private boolean released;
+
+        /**
+         * Releases the slot of a successful call and adjusts the limit to its latency. Releasing twice has no effect.
+         */
+        public void release() {
+            release(null);
+        }
+
+        /**
+         * Releases the slot of the call and adjusts the limit to its outcome. Releasing twice has no effect.
+         *
+         * @param failure {@link Exception} the call failed with, null if it succeeded
+         */
+        public void release(final Exception failure) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            AdaptiveConcurrencyLimiter.this.release(startNanos, nanoTime.getAsLong() - startNanos, failure);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.util.TokenBudget;
+import org.opensearch.threadpool.Scheduler;
+
+/**
+ * Hedges the interactive inference calls against the latency tail of the model. When a call has not returned after
+ * the configured percentile of the recent latencies of its model, a second identical call is sent and the first
+ * response wins, the other one is ignored. Hedges are paid for by a {@link TokenBudget}, so that hedges can not add
+ * more than the configured share of extra load to the model. The budget and the latencies are kept per model, so a
+ * slow model can not spend the hedges of the other models. Only the latencies of the calls which reached the model
+ * are recorded through {@link #recordLatency(String, long)}, responses served from a cache or joined to a call in
+ * flight would otherwise pull the hedge delay down to zero.
+ */
+@Log4j2
+public class HedgedInference {
+
+    static final int LATENCY_WINDOW_SIZE = 256;
+    static final int MIN_LATENCY_SAMPLES = 20;
+    // hedges which can be sent in a burst after a quiet period
+    private static final double MAX_BUDGET = 10;
+
+    private final double latencyPercentile;
+    private final double budgetRatio;
+    private final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler;
+    private final Map<String, ModelHedging> modelHedgings = new ConcurrentHashMap<>();
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+
+    public HedgedInference(
+        final double latencyPercentile,
+        final double budgetRatio,
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler
+    ) {
+        this.latencyPercentile = latencyPercentile;
+        this.budgetRatio = budgetRatio;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates the hedging from the node settings if it is enabled.
+     *
+     * @param settings node {@link Settings}
+     * @param scheduler function which schedules a {@link Runnable} after a delay in milliseconds
+     * @return {@link HedgedInference} or null if hedging is disabled
+     */
+    public static HedgedInference create(
+        final Settings settings,
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler
+    ) {
+        if (!NeuralSearchSettings.INFERENCE_HEDGING_ENABLED.get(settings)) {
+            return null;
+        }
+        return new HedgedInference(
+            NeuralSearchSettings.INFERENCE_HEDGING_LATENCY_PERCENTILE.get(settings),
+            NeuralSearchSettings.INFERENCE_HEDGING_BUDGET_RATIO.get(settings),
+            scheduler
+        );
+    }
+
+    /**
+     * Sends the call and hedges it once it is slower than the latency percentile of the model.
+     *
+     * @param modelId {@link String} model the latencies and the budget are tracked for
+     * @param call sends the call and completes the given listener
+     * @param hedge sends the hedged call and completes the given listener
+     * @param listener {@link ActionListener} called with the first response, or with the failure once no call is
+     *                 left in flight
+     * @param <T> type of the response
+     */
+    public <T> void execute(
+        final String modelId,
+        final Consumer<ActionListener<T>> call,
+        final Consumer<ActionListener<T>> hedge,
+        final ActionListener<T> listener
+    ) {
+        callCount.incrementAndGet();
+        final ModelHedging modelHedging = modelHedging(modelId);
+        modelHedging.budget.deposit();
+        final long hedgeDelayNanos = modelHedging.latencyWindow.percentile(latencyPercentile);
+        final HedgedCall<T> hedgedCall = new HedgedCall<>(listener);
+        if (hedgeDelayNanos >= 0) {
+            final long hedgeDelayMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+            hedgedCall.hedgeTask = scheduler.apply(hedgeDelayMillis, () -> sendHedge(modelId, modelHedging, hedgedCall, hedge));
+        }
+        call.accept(ActionListener.wrap(response -> hedgedCall.onResponse(response, false), hedgedCall::onFailure));
+    }
+
+    /**
+     * Records the latency of a successful call which reached the model, whether it was hedged or is a hedge.
+     *
+     * @param modelId {@link String} model which served the call
+     * @param latencyNanos latency of the call in nanoseconds
+     */
+    public void recordLatency(final String modelId, final long latencyNanos) {
+        modelHedging(modelId).latencyWindow.add(latencyNanos);
+    }
+
+    private ModelHedging modelHedging(final String modelId) {
+        return modelHedgings.computeIfAbsent(modelId, id -> new ModelHedging(new TokenBudget(budgetRatio, MAX_BUDGET, 0)));
+    }
+
+    private <T> void sendHedge(
+        final String modelId,
+        final ModelHedging modelHedging,
+        final HedgedCall<T> hedgedCall,
+        final Consumer<ActionListener<T>> hedge
+    ) {
+        if (!hedgedCall.startHedge(modelHedging.budget::tryAcquire)) {
+            return;
+        }
+        hedgeCount.incrementAndGet();
+        log.debug("Hedging inference call to model [{}]", modelId);
+        hedge.accept(ActionListener.wrap(response -> {
+            if (hedgedCall.onResponse(response, true)) {
+                hedgeWinCount.incrementAndGet();
+            }
+        }, hedgedCall::onFailure));
+    }
+
+    /**
+     * @return number of calls made through the hedging
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * @return number of hedged calls sent
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * @return number of hedged calls which returned before the call they hedged
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    /**
+     * @return share of the calls which were hedged
+     */
+    public double getHedgeRate() {
+        final long calls = callCount.get();
+        return calls == 0 ? 0 : (double) hedgeCount.get() / calls;
+    }
+
+    /**
+     * @return share of the hedged calls which returned first
+     */
+    public double getHedgeWinRate() {
+        final long hedges = hedgeCount.get();
+        return hedges == 0 ? 0 : (double) hedgeWinCount.get() / hedges;
+    }
+
+    /**
+     * The hedge rates are not included as they can not be summed across nodes, they are derived from the counters.
+     *
+     * @return call, hedge and hedge win counts
+     */
+    public Map<String, Object> statsAsMap() {
+        return Map.of("call_count", callCount.get(), "hedge_count", hedgeCount.get(), "hedge_win_count", hedgeWinCount.get());
+    }
+
+    /**
+     * Hedge budget and recent latencies of a model.
+     */
+    private static final class ModelHedging {
+        private final TokenBudget budget;
+        private final LatencyWindow latencyWindow = new LatencyWindow();
+
+        private ModelHedging(final TokenBudget budget) {
+            this.budget = budget;
+        }
+    }
+
+    /**
+     * State of a call and its hedge, only the first response or the last failure completes the listener.
+     */
+    private static final class HedgedCall<T> {
+        private final ActionListener<T> listener;
+        private volatile Scheduler.ScheduledCancellable hedgeTask;
+        private boolean done;
+        private int inFlight = 1;
+
+        private HedgedCall(final ActionListener<T> listener) {
+            this.listener = listener;
+        }
+
+        private synchronized boolean startHedge(final BooleanSupplier acquireBudget) {
+            if (done || !acquireBudget.getAsBoolean()) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        private boolean onResponse(final T response, final boolean hedge) {
+            synchronized (this) {
+                if (done) {
+                    return false;
+                }
+                done = true;
+            }
+            cancelHedge();
+            listener.onResponse(response);
+            return hedge;
+        }
+
+        private void onFailure(final Exception e) {
+            synchronized (this) {
+                if (done || --inFlight > 0) {
+                    return;
+                }
+                done = true;
+            }
+            cancelHedge();
+            listener.onFailure(e);
+        }
+
+        private void cancelHedge() {
+            final Scheduler.ScheduledCancellable task = hedgeTask;
+            if (task != null) {
+                task.cancel();
+            }
+        }
+    }
+
+    /**
+     * Latencies of the last {@link #LATENCY_WINDOW_SIZE} successful calls which reached a model.
+     */
+    private static final class LatencyWindow {
+        private final long[] latencies = new long[LATENCY_WINDOW_SIZE];
+        private int count;
+        private int next;
+
+        private synchronized void add(final long latencyNanos) {
+            latencies[next] = latencyNanos;
+            next = (next + 1) % latencies.length;
+            count = Math.min(count + 1, latencies.length);
+        }
+
+        /**
+         * @return latency percentile in nanoseconds, or -1 while there are too few samples
+         */
+        private long percentile(final double percentile) {
+            final long[] samples;
+            synchronized (this) {
+                if (count < MIN_LATENCY_SAMPLES) {
+                    return -1;
+                }
+                samples = Arrays.copyOf(latencies, count);
+            }
+            Arrays.sort(samples);
+            final int index = (int) Math.ceil(percentile / 100 * samples.length) - 1;
+            return samples[Math.max(0, Math.min(index, samples.length - 1))];
+        }
+    }
+}
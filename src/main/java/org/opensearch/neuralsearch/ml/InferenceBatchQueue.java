@@ -0,0 +1,207 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.threadpool.Scheduler;
+
+/**
+ * Node level queue which merges the inference inputs of concurrent ingest documents that use the same model into a
+ * single predict call. A pending batch is sent to the model once it reaches the max batch size or once its first
+ * entry has waited for the max wait time, whichever comes first. The vectors produced for the merged batch are then
+ * split back to every entry in the order of its input.
+ */
+@Log4j2
+public class InferenceBatchQueue {
+
+    private final MLCommonsClientAccessor clientAccessor;
+    private final int maxBatchSize;
+    private final TimeValue maxWait;
+    private final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler;
+    private final Map<String, PendingBatch> pendingBatches = new HashMap<>();
+
+    public InferenceBatchQueue(
+        final MLCommonsClientAccessor clientAccessor,
+        final int maxBatchSize,
+        final TimeValue maxWait,
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler
+    ) {
+        this.clientAccessor = clientAccessor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates the queue from the node settings.
+     *
+     * @param clientAccessor {@link MLCommonsClientAccessor} used to send the merged batches
+     * @param settings node {@link Settings}
+     * @param scheduler function which schedules a {@link Runnable} after a delay in milliseconds
+     * @return {@link InferenceBatchQueue}
+     */
+    public static InferenceBatchQueue create(
+        final MLCommonsClientAccessor clientAccessor,
+        final Settings settings,
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler
+    ) {
+        return new InferenceBatchQueue(
+            clientAccessor,
+            NeuralSearchSettings.INGEST_BATCH_MAX_SIZE.get(settings),
+            NeuralSearchSettings.INGEST_BATCH_MAX_WAIT.get(settings),
+            scheduler
+        );
+    }
+
+    /**
+     * Adds the input texts of a single document to the pending batch of the model. The listener is called with the
+     * vectors of this document only, in the order of inputText.
+     *
+     * @param modelId {@link String}
+     * @param inputText {@link List} of {@link String} on which inference needs to happen
+     * @param listener {@link ActionListener} which will be called when prediction is completed or errored out
+     */
+    public void inferenceSentences(
+        @NonNull final String modelId,
+        @NonNull final List<String> inputText,
+        @NonNull final ActionListener<List<float[]>> listener
+    ) {
+        if (isBatchingDisabled() || inputText.size() >= maxBatchSize) {
+            clientAccessor.inferenceSentences(modelId, inputText, listener);
+            return;
+        }
+        final List<PendingBatch> batchesToFlush = new ArrayList<>(2);
+        synchronized (this) {
+            PendingBatch pendingBatch = pendingBatches.get(modelId);
+            if (pendingBatch != null && pendingBatch.size + inputText.size() > maxBatchSize) {
+                batchesToFlush.add(detach(pendingBatch));
+                pendingBatch = null;
+            }
+            if (pendingBatch == null) {
+                pendingBatch = new PendingBatch(modelId);
+                pendingBatches.put(modelId, pendingBatch);
+                final PendingBatch scheduledBatch = pendingBatch;
+                pendingBatch.flushTask = scheduler.apply(maxWait.millis(), () -> flushOnTimeout(scheduledBatch));
+            }
+            pendingBatch.add(inputText, listener);
+            if (pendingBatch.size >= maxBatchSize) {
+                batchesToFlush.add(detach(pendingBatch));
+            }
+        }
+        batchesToFlush.forEach(this::send);
+    }
+
+    private boolean isBatchingDisabled() {
+        return maxBatchSize <= 1 || maxWait.millis() <= 0;
+    }
+
+    private void flushOnTimeout(final PendingBatch pendingBatch) {
+        synchronized (this) {
+            if (pendingBatches.get(pendingBatch.modelId) != pendingBatch) {
+                // batch was already sent as it became full
+                return;
+            }
+            pendingBatches.remove(pendingBatch.modelId);
+        }
+        send(pendingBatch);
+    }
+
+    private PendingBatch detach(final PendingBatch pendingBatch) {
+        pendingBatches.remove(pendingBatch.modelId);
+        if (pendingBatch.flushTask != null) {
+            pendingBatch.flushTask.cancel();
+        }
+        return pendingBatch;
+    }
+
+    private void send(final PendingBatch pendingBatch) {
+        final List<String> mergedInput = new ArrayList<>(pendingBatch.size);
+        pendingBatch.entries.forEach(entry -> mergedInput.addAll(entry.inputText));
+        log.debug(
+            "Sending inference batch of {} documents with {} texts for model {}",
+            pendingBatch.entries.size(),
+            mergedInput.size(),
+            pendingBatch.modelId
+        );
+        try {
+            clientAccessor.inferenceSentences(pendingBatch.modelId, mergedInput, ActionListener.wrap(vectors -> {
+                if (vectors.size() != mergedInput.size()) {
+                    pendingBatch.onFailure(
+                        new IllegalStateException(
+                            "Unexpected number of vectors produced. Expected ["
+                                + mergedInput.size()
+                                + "] vectors to be returned, but got ["
+                                + vectors.size()
+                                + "]"
+                        )
+                    );
+                    return;
+                }
+                pendingBatch.onResponse(vectors);
+            }, pendingBatch::onFailure));
+        } catch (Exception e) {
+            pendingBatch.onFailure(e);
+        }
+    }
+
+    /**
+     * Inference inputs of several documents which are waiting to be sent to the same model.
+     */
+    private static class PendingBatch {
+        private final String modelId;
+        private final List<BatchEntry> entries = new ArrayList<>();
+        private int size;
+        private Scheduler.ScheduledCancellable flushTask;
+
+        private PendingBatch(final String modelId) {
+            this.modelId = modelId;
+        }
+
+        private void add(final List<String> inputText, final ActionListener<List<float[]>> listener) {
+            entries.add(new BatchEntry(inputText, listener));
+            size += inputText.size();
+        }
+
+        private void onResponse(final List<float[]> vectors) {
+            int offset = 0;
+            for (BatchEntry entry : entries) {
+                final int end = offset + entry.inputText.size();
+                try {
+                    entry.listener.onResponse(vectors.subList(offset, end));
+                } catch (Exception e) {
+                    entry.listener.onFailure(e);
+                }
+                offset = end;
+            }
+        }
+
+        private void onFailure(final Exception e) {
+            entries.forEach(entry -> entry.listener.onFailure(e));
+        }
+    }
+
+    private static class BatchEntry {
+        private final List<String> inputText;
+        private final ActionListener<List<float[]>> listener;
+
+        private BatchEntry(final List<String> inputText, final ActionListener<List<float[]>> listener) {
+            this.inputText = inputText;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.transport.ReceiveTimeoutTransportException;
+
+/**
+ * Circuit breaker of the predict calls to a model. While the breaker is closed, the outcome of the last
+ * {@link #windowSize} calls is recorded, and the breaker opens once the share of the failed or slow calls reaches the
+ * failure rate threshold. Only server side errors, rejections and timeouts count as failures, see
+ * {@link #isModelFailure(Exception)}. While it is open, calls fail right away with a 503 error. Once the open duration has passed,
+ * the breaker is half open and lets a few trial calls through, it closes if they all succeed and opens again
+ * otherwise.
+ */
+@Log4j2
+public class InferenceCircuitBreaker {
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoTime;
+
+    // true for the failed or slow calls of the window
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int badCallCount;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+    private long rejectedCount;
+    private final Map<State, Long> transitionCounts = new EnumMap<>(State.class);
+
+    public InferenceCircuitBreaker(
+        final String name,
+        final int windowSize,
+        final int minCalls,
+        final double failureRateThreshold,
+        final long slowCallThresholdNanos,
+        final long openDurationNanos,
+        final int halfOpenCalls,
+        final LongSupplier nanoTime
+    ) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = slowCallThresholdNanos;
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoTime = nanoTime;
+        this.window = new boolean[windowSize];
+        for (State value : State.values()) {
+            transitionCounts.put(value, 0L);
+        }
+    }
+
+    /**
+     * Acquires the right to call the model. Every acquired call must be completed by {@link #onResult} or
+     * {@link #release}.
+     *
+     * @return false if the breaker is open, or half open with all its trial calls in flight
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openedAtNanos < openDurationNanos) {
+                rejectedCount++;
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSuccesses >= halfOpenCalls) {
+                rejectedCount++;
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    /**
+     * Releases an acquired call which did not reach the model.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        }
+    }
+
+    /**
+     * Records the outcome of an acquired call.
+     *
+     * @param latencyNanos latency of the call
+     * @param success false if the call failed
+     */
+    public synchronized void onResult(final long latencyNanos, final boolean success) {
+        final boolean badCall = !success || latencyNanos > slowCallThresholdNanos;
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            if (badCall) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            if (windowCount == windowSize && window[windowIndex]) {
+                badCallCount--;
+            }
+            window[windowIndex] = badCall;
+            if (badCall) {
+                badCallCount++;
+            }
+            windowIndex = (windowIndex + 1) % windowSize;
+            windowCount = Math.min(windowCount + 1, windowSize);
+            if (windowCount >= minCalls && badCallCount >= failureRateThreshold * windowCount) {
+                open();
+            }
+        }
+        // outcomes of calls acquired before the breaker opened are ignored
+    }
+
+    /**
+     * Only failures which tell that the model is unhealthy or overloaded count against the breaker. Client errors, such
+     * as a 4xx response to an invalid input, fail the same way on a healthy model.
+     *
+     * @param e {@link Exception} a call failed with
+     * @return true if the failure is a server side error, a rejection or a timeout
+     */
+    public static boolean isModelFailure(final Exception e) {
+        if (ExceptionsHelper.unwrap(
+            e,
+            OpenSearchTimeoutException.class,
+            ReceiveTimeoutTransportException.class,
+            TimeoutException.class
+        ) != null) {
+            return true;
+        }
+        final RestStatus status = ExceptionsHelper.status(e);
+        return status.getStatus() >= 500 || status == RestStatus.TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * @return {@link OpenSearchStatusException} the calls rejected by the open breaker fail with
+     */
+    public OpenSearchStatusException createOpenException() {
+        return new OpenSearchStatusException(
+            "circuit breaker of model ["
+                + name
+                + "] is open as too many inference calls failed or were slow, calls are rejected for ["
+                + TimeUnit.NANOSECONDS.toMillis(openDurationNanos)
+                + "ms]",
+            RestStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    private void open() {
+        openedAtNanos = nanoTime.getAsLong();
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(final State newState) {
+        log.info(
+            "Circuit breaker of model [{}] transitions from [{}] to [{}]",
+            name,
+            state.name().toLowerCase(Locale.ROOT),
+            newState.name().toLowerCase(Locale.ROOT)
+        );
+        state = newState;
+        transitionCounts.merge(newState, 1L, Long::sum);
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (newState == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            badCallCount = 0;
+        }
+    }
+
+    /**
+     * @return current {@link State} of the breaker, an open breaker is only moved to half open by the next call
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return number of calls rejected by the open or half open breaker
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @param toState {@link State} reached by the transitions
+     * @return number of transitions of the breaker to the state
+     */
+    public synchronized long getTransitionCount(final State toState) {
+        return transitionCounts.get(toState);
+    }
+
+    /**
+     * The state is reported as the number of breakers in each state, so that it sums up across the nodes of the
+     * cluster.
+     *
+     * @return state, rejections and transition counts of the breaker
+     */
+    public synchronized Map<String, Object> statsAsMap() {
+        final Map<String, Object> states = new TreeMap<>();
+        final Map<String, Object> transitions = new TreeMap<>();
+        for (State value : State.values()) {
+            final String stateName = value.name().toLowerCase(Locale.ROOT);
+            states.put(stateName, value == state ? 1L : 0L);
+            transitions.put(stateName, transitionCounts.get(value));
+        }
+        return Map.of("state", states, "rejected_count", rejectedCount, "transitions", transitions);
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+/**
+ * Priority lane of a predict call in the {@link AdaptiveConcurrencyLimiter} of its model.
+ */
+public enum InferencePriority {
+    /**
+     * Calls a search request waits for, such as the query rewrite. They are dispatched first and can use the capacity
+     * reserved for them.
+     */
+    INTERACTIVE,
+    /**
+     * Calls of the ingest pipelines, which can only use the capacity which is not reserved for interactive calls.
+     */
+    BULK
+}
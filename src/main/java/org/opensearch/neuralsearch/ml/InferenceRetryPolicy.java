@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.common.Randomness;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.util.RetryUtil;
+import org.opensearch.neuralsearch.util.TokenBudget;
+import org.opensearch.threadpool.Scheduler;
+
+/**
+ * Retries of the failed predict calls. Retries are delayed by an exponential backoff with jitter and paid for by a
+ * per model {@link TokenBudget}, so that retries can not add more than the configured share of extra load to a model
+ * which is already failing.
+ */
+@Log4j2
+public class InferenceRetryPolicy {
+
+    // retries which can be sent in a burst after a quiet period
+    private static final double MAX_BUDGET = 10;
+
+    private final int maxRetries;
+    private final TimeValue initialBackoff;
+    private final TimeValue maxBackoff;
+    private final double budgetRatio;
+    private final Set<String> retryableExceptions;
+    private final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler;
+    private final Map<String, TokenBudget> budgets = new ConcurrentHashMap<>();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+
+    public InferenceRetryPolicy(
+        final int maxRetries,
+        final TimeValue initialBackoff,
+        final TimeValue maxBackoff,
+        final double budgetRatio,
+        final Set<String> retryableExceptions,
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler
+    ) {
+        this.maxRetries = maxRetries;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.budgetRatio = budgetRatio;
+        this.retryableExceptions = retryableExceptions;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates the policy from the node settings.
+     *
+     * @param settings node {@link Settings}
+     * @param scheduler function which schedules a {@link Runnable} after a delay in milliseconds, retries are sent
+     *                  right away if it is null
+     * @return {@link InferenceRetryPolicy}
+     */
+    public static InferenceRetryPolicy create(
+        final Settings settings,
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler
+    ) {
+        return new InferenceRetryPolicy(
+            NeuralSearchSettings.INFERENCE_RETRY_MAX_RETRIES.get(settings),
+            NeuralSearchSettings.INFERENCE_RETRY_INITIAL_BACKOFF.get(settings),
+            NeuralSearchSettings.INFERENCE_RETRY_MAX_BACKOFF.get(settings),
+            NeuralSearchSettings.INFERENCE_RETRY_BUDGET_RATIO.get(settings),
+            new HashSet<>(NeuralSearchSettings.INFERENCE_RETRY_RETRYABLE_EXCEPTIONS.get(settings)),
+            scheduler
+        );
+    }
+
+    /**
+     * Records a first attempt to call the model, which adds to its retry budget.
+     *
+     * @param modelId {@link String}
+     */
+    public void onCall(final String modelId) {
+        getBudget(modelId).deposit();
+    }
+
+    /**
+     * @param modelId {@link String}
+     * @param e {@link Exception} the call failed with
+     * @param retryTime number of retries made so far
+     * @return true if the failure is retryable, retries are left and the budget of the model allows a retry
+     */
+    public boolean shouldRetry(final String modelId, final Exception e, final int retryTime) {
+        if (!RetryUtil.shouldRetry(e, retryTime, maxRetries, retryableExceptions)) {
+            return false;
+        }
+        if (!getBudget(modelId).tryAcquire()) {
+            budgetExhaustedCount.incrementAndGet();
+            log.debug("Retry budget of model [{}] is exhausted, not retrying the failed call", modelId);
+            return false;
+        }
+        retryCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Sends the retry after its backoff delay.
+     *
+     * @param retryTime number of retries made before this one
+     * @param retry {@link Runnable} which sends the retry
+     */
+    public void scheduleRetry(final int retryTime, final Runnable retry) {
+        if (scheduler == null) {
+            retry.run();
+            return;
+        }
+        scheduler.apply(RetryUtil.backoffDelayMillis(retryTime, initialBackoff, maxBackoff, Randomness.get()), retry);
+    }
+
+    /**
+     * @return number of retries sent
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return number of retryable failures which were not retried as the budget of their model was exhausted
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.get();
+    }
+
+    /**
+     * @return retry and exhausted retry budget counts
+     */
+    public Map<String, Object> statsAsMap() {
+        return Map.of("retry_count", retryCount.get(), "budget_exhausted_count", budgetExhaustedCount.get());
+    }
+
+    private TokenBudget getBudget(final String modelId) {
+        return budgets.computeIfAbsent(modelId, id -> new TokenBudget(budgetRatio, MAX_BUDGET, MAX_BUDGET));
+    }
+}
@@ -5,21 +5,32 @@
 
 package org.opensearch.neuralsearch.ml;
 
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 import org.apache.commons.lang.StringUtils;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.CollectionUtils;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.MLInputDataset;
@@ -31,34 +42,175 @@ import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.neuralsearch.cache.CacheAwareInference;
+import org.opensearch.neuralsearch.cache.PersistentEmbeddingStore;
+import org.opensearch.neuralsearch.common.VectorUtil;
+import org.opensearch.neuralsearch.ml.backend.InferenceBackend;
+import org.opensearch.neuralsearch.ml.backend.MLCommonsInferenceBackend;
 import org.opensearch.neuralsearch.search.summary.GeneratedText;
-import org.opensearch.neuralsearch.util.RetryUtil;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.settings.NeuralSearchThreadPools;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.stats.NeuralStatsOperation;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
 
 /**
  * This class will act as an abstraction on the MLCommons client for accessing the ML Capabilities
  */
-@RequiredArgsConstructor
 @Log4j2
 public class MLCommonsClientAccessor {
     private static final List<String> TARGET_RESPONSE_FILTERS = List.of("sentence_embedding");
-    private final MachineLearningNodeClient mlClient;
 
     private static final String PREDICT_API_PROMPT_PARAMETER = "prompt";
 
+    /**
+     * Backend the predict calls are sent to, ML Commons until the plugin selects the backend of the node.
+     */
+    @Setter
+    @NonNull
+    private volatile InferenceBackend inferenceBackend;
+
+    /**
+     * Optional node level store of the produced sentence embeddings. It is set once the node environment is available,
+     * which happens after the accessor is created.
+     */
+    @Setter
+    private volatile PersistentEmbeddingStore embeddingStore;
+
+    /**
+     * Token budget of a single predict call, larger inputs are split and the parts are sent concurrently. A value of 0
+     * disables the split.
+     */
+    @Setter
+    private volatile int maxBatchTokens;
+
+    /**
+     * Hedging of the query side calls, null if it is disabled.
+     */
+    @Setter
+    private volatile HedgedInference hedgedInference;
+
+    /**
+     * Retries of the failed predict calls, which are sent right away until the node scheduler is available.
+     */
+    @Setter
+    private volatile InferenceRetryPolicy retryPolicy = InferenceRetryPolicy.create(Settings.EMPTY, null);
+
+    /**
+     * Node thread pool, model responses are processed on its {@link NeuralSearchThreadPools#INFERENCE_THREAD_POOL} pool
+     * once it is set and on the thread which delivers them until then.
+     */
+    @Setter
+    private volatile ThreadPool threadPool;
+
+    /**
+     * Stats of the inference and predict calls, replaced by the node level stats once the plugin creates the accessor.
+     */
+    @Setter
+    private volatile NeuralStats neuralStats = new NeuralStats();
+
+    private final SingleFlightInference singleFlightInference = new SingleFlightInference();
+
+    private final Map<String, AdaptiveConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+    private volatile Settings concurrencyLimiterSettings;
+
+    public MLCommonsClientAccessor(final MachineLearningNodeClient mlClient) {
+        this.inferenceBackend = new MLCommonsInferenceBackend(mlClient);
+    }
+
+    /**
+     * Enables the per model concurrency limit of the inference, which can only be done once the node
+     * settings are available.
+     *
+     * @param settings node {@link Settings}
+     */
+    public void initializeConcurrencyLimiters(final Settings settings) {
+        if (NeuralSearchSettings.INFERENCE_CONCURRENCY_ENABLED.get(settings)) {
+            this.concurrencyLimiterSettings = settings;
+        }
+    }
+
+    private final Map<String, InferenceCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private volatile Settings circuitBreakerSettings;
+
+    /**
+     * Enables the per model circuit breaker of the inference, which can only be done once the node settings are
+     * available.
+     *
+     * @param settings node {@link Settings}
+     */
+    public void initializeCircuitBreakers(final Settings settings) {
+        if (NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_ENABLED.get(settings)) {
+            this.circuitBreakerSettings = settings;
+        }
+    }
+
+    /**
+     * @return circuit breakers of the models called so far, keyed by model id
+     */
+    public Map<String, InferenceCircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+
+    /**
+     * @return concurrency limiters of the models called so far, keyed by model id
+     */
+    public Map<String, AdaptiveConcurrencyLimiter> getConcurrencyLimiters() {
+        return Collections.unmodifiableMap(concurrencyLimiters);
+    }
+
+    /**
+     * Registers the stats of the concurrency limiters, the circuit breakers, the hedging and the retries of the
+     * inference, so they are reported with the node stats.
+     *
+     * @param stats node {@link NeuralStats}
+     */
+    public void registerComponentStats(final NeuralStats stats) {
+        stats.registerComponent(
+            NeuralStats.CONCURRENCY_LIMITERS_COMPONENT,
+            () -> statsByModel(concurrencyLimiters, AdaptiveConcurrencyLimiter::statsAsMap)
+        );
+        stats.registerComponent(
+            NeuralStats.CIRCUIT_BREAKERS_COMPONENT,
+            () -> statsByModel(circuitBreakers, InferenceCircuitBreaker::statsAsMap)
+        );
+        stats.registerComponent(NeuralStats.HEDGING_COMPONENT, () -> {
+            final HedgedInference hedging = hedgedInference;
+            return hedging == null ? Map.of() : hedging.statsAsMap();
+        });
+        stats.registerComponent(NeuralStats.RETRIES_COMPONENT, () -> retryPolicy.statsAsMap());
+    }
+
+    private static <T> Map<String, Object> statsByModel(final Map<String, T> components, final Function<T, Map<String, Object>> stats) {
+        final Map<String, Object> statsByModel = new TreeMap<>();
+        components.forEach((modelId, component) -> statsByModel.put(modelId, stats.apply(component)));
+        return statsByModel;
+    }
+
     /**
      * Wrapper around {@link #inferenceSentences} that expected a single input text and produces a single floating
-     * point vector as a response.
+     * point vector as a response. It is used on the query path, so it is sent in the
+     * {@link InferencePriority#INTERACTIVE} lane of the concurrency limit and is hedged if hedging is enabled.
      *
      * @param modelId {@link String}
      * @param inputText {@link List} of {@link String} on which inference needs to happen
-     * @param listener {@link ActionListener} which will be called when prediction is completed or errored out
+     * @param sentenceListener {@link ActionListener} which will be called when prediction is completed or errored out
      */
     public void inferenceSentence(
         @NonNull final String modelId,
         @NonNull final String inputText,
-        @NonNull final ActionListener<List<Float>> listener
+        @NonNull final ActionListener<float[]> sentenceListener
     ) {
-        inferenceSentences(TARGET_RESPONSE_FILTERS, modelId, List.of(inputText), ActionListener.wrap(response -> {
+        final ActionListener<float[]> listener = neuralStats.track(
+            NeuralStatsOperation.INFERENCE_SENTENCE,
+            modelId,
+            null,
+            1,
+            sentenceListener
+        );
+        final ActionListener<List<float[]>> vectorsListener = ActionListener.wrap(response -> {
             if (response.size() != 1) {
                 listener.onFailure(
                     new IllegalStateException(
@@ -69,7 +221,26 @@ public class MLCommonsClientAccessor {
             }
 
             listener.onResponse(response.get(0));
-        }, listener::onFailure));
+        }, listener::onFailure);
+        final List<String> inputTexts = List.of(inputText);
+        final HedgedInference hedging = hedgedInference;
+        if (hedging == null) {
+            inferenceSentences(TARGET_RESPONSE_FILTERS, modelId, inputTexts, InferencePriority.INTERACTIVE, vectorsListener);
+            return;
+        }
+        // the hedge bypasses the coalescing, which would otherwise attach it to the slow call it hedges
+        hedging.execute(
+            modelId,
+            callListener -> inferenceSentences(TARGET_RESPONSE_FILTERS, modelId, inputTexts, InferencePriority.INTERACTIVE, callListener),
+            hedgeListener -> inferenceSentencesWithStore(
+                TARGET_RESPONSE_FILTERS,
+                modelId,
+                inputTexts,
+                InferencePriority.INTERACTIVE,
+                hedgeListener
+            ),
+            vectorsListener
+        );
     }
 
     /**
@@ -86,7 +257,7 @@ public class MLCommonsClientAccessor {
     public void inferenceSentences(
         @NonNull final String modelId,
         @NonNull final List<String> inputText,
-        @NonNull final ActionListener<List<List<Float>>> listener
+        @NonNull final ActionListener<List<float[]>> listener
     ) {
         inferenceSentences(TARGET_RESPONSE_FILTERS, modelId, inputText, listener);
     }
@@ -96,7 +267,8 @@ public class MLCommonsClientAccessor {
      * custom model provided as modelId and run the {@link FunctionName#TEXT_EMBEDDING}. The return will be sent
      * using the actionListener which will have a {@link List} of {@link List} of {@link Float} in the order of
      * inputText. We are not making this function generic enough to take any function or TaskType as currently we
-     * need to run only TextEmbedding tasks only.
+     * need to run only TextEmbedding tasks only. Calls are sent in the {@link InferencePriority#BULK} lane of the per
+     * model concurrency limit, calls which can not be queued fail with an {@link OpenSearchRejectedExecutionException}.
      *
      * @param targetResponseFilters {@link List} of {@link String} which filters out the responses
      * @param modelId {@link String}
@@ -107,31 +279,328 @@ public class MLCommonsClientAccessor {
         @NonNull final List<String> targetResponseFilters,
         @NonNull final String modelId,
         @NonNull final List<String> inputText,
-        @NonNull final ActionListener<List<List<Float>>> listener
+        @NonNull final ActionListener<List<float[]>> listener
+    ) {
+        inferenceSentences(
+            targetResponseFilters,
+            modelId,
+            inputText,
+            InferencePriority.BULK,
+            neuralStats.track(NeuralStatsOperation.INFERENCE_SENTENCES, modelId, null, inputText.size(), listener)
+        );
+    }
+
+    private void inferenceSentences(
+        final List<String> targetResponseFilters,
+        final String modelId,
+        final List<String> inputText,
+        final InferencePriority priority,
+        final ActionListener<List<float[]>> listener
+    ) {
+        if (!TARGET_RESPONSE_FILTERS.equals(targetResponseFilters)) {
+            inferenceSentencesWithStore(targetResponseFilters, modelId, inputText, priority, listener);
+            return;
+        }
+        // concurrent requests for the same text share a single call to the model
+        singleFlightInference.inferenceSentences(
+            modelId,
+            priority,
+            inputText,
+            (leaderTexts, leaderListener) -> inferenceSentencesWithStore(
+                targetResponseFilters,
+                modelId,
+                leaderTexts,
+                priority,
+                leaderListener
+            ),
+            listener
+        );
+    }
+
+    private void inferenceSentencesWithStore(
+        final List<String> targetResponseFilters,
+        final String modelId,
+        final List<String> inputText,
+        final InferencePriority priority,
+        final ActionListener<List<float[]>> listener
+    ) {
+        final AdaptiveConcurrencyLimiter limiter = getConcurrencyLimiter(modelId);
+        final PersistentEmbeddingStore store = embeddingStore;
+        if (store == null || !TARGET_RESPONSE_FILTERS.equals(targetResponseFilters)) {
+            inferenceSentencesInParallel(targetResponseFilters, modelId, inputText, limiter, priority, listener);
+            return;
+        }
+        CacheAwareInference.inferenceSentences(
+            inputText,
+            text -> getStoredVector(store, modelId, text),
+            (missTexts, missListener) -> inferenceSentencesInParallel(
+                targetResponseFilters,
+                modelId,
+                missTexts,
+                limiter,
+                priority,
+                missListener
+            ),
+            (text, vector) -> store.put(modelId, text, vector),
+            listener
+        );
+    }
+
+    /**
+     * The stored vector is a view of the memory mapped store, it is copied once as the ingest documents and the k-NN
+     * queries take float arrays.
+     */
+    private float[] getStoredVector(final PersistentEmbeddingStore store, final String modelId, final String text) {
+        final FloatBuffer storedVector = store.get(modelId, text);
+        return storedVector == null ? null : VectorUtil.vectorAsBufferToArray(storedVector);
+    }
+
+    private AdaptiveConcurrencyLimiter getConcurrencyLimiter(final String modelId) {
+        final Settings settings = concurrencyLimiterSettings;
+        if (settings == null) {
+            return null;
+        }
+        return concurrencyLimiters.computeIfAbsent(
+            modelId,
+            id -> new AdaptiveConcurrencyLimiter(
+                id,
+                NeuralSearchSettings.INFERENCE_CONCURRENCY_INITIAL_LIMIT.get(settings),
+                NeuralSearchSettings.INFERENCE_CONCURRENCY_MAX_LIMIT.get(settings),
+                NeuralSearchSettings.INFERENCE_CONCURRENCY_QUEUE_SIZE.get(settings),
+                NeuralSearchSettings.INFERENCE_CONCURRENCY_INTERACTIVE_RESERVED_RATIO.get(settings),
+                System::nanoTime,
+                this::executeOnInferenceThreadPool
+            )
+        );
+    }
+
+    private InferenceCircuitBreaker getCircuitBreaker(final String modelId) {
+        final Settings settings = circuitBreakerSettings;
+        if (settings == null) {
+            return null;
+        }
+        return circuitBreakers.computeIfAbsent(
+            modelId,
+            id -> new InferenceCircuitBreaker(
+                id,
+                NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_WINDOW_SIZE.get(settings),
+                NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_MIN_CALLS.get(settings),
+                NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_FAILURE_RATE.get(settings),
+                NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_SLOW_CALL_THRESHOLD.get(settings).nanos(),
+                NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_OPEN_DURATION.get(settings).nanos(),
+                NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_HALF_OPEN_CALLS.get(settings),
+                System::nanoTime
+            )
+        );
+    }
+
+    /**
+     * Splits the input into sub-batches which fit in the token budget and sends them concurrently. The listener is
+     * called once with the vectors of all the sub-batches in the order of inputText, or with the first failure.
+     */
+    private void inferenceSentencesInParallel(
+        final List<String> targetResponseFilters,
+        final String modelId,
+        final List<String> inputText,
+        final AdaptiveConcurrencyLimiter limiter,
+        final InferencePriority priority,
+        final ActionListener<List<float[]>> listener
     ) {
-        inferenceSentencesWithRetry(targetResponseFilters, modelId, inputText, 0, listener);
+        final List<List<String>> subBatches = TokenBudgetSplitter.split(inputText, maxBatchTokens);
+        if (subBatches.size() == 1) {
+            inferenceSentencesWithRetry(targetResponseFilters, modelId, inputText, limiter, priority, 0, listener);
+            return;
+        }
+        log.debug("Splitting inference of {} texts for model {} into {} sub-batches", inputText.size(), modelId, subBatches.size());
+        final float[][] vectors = new float[inputText.size()][];
+        final AtomicInteger pendingSubBatches = new AtomicInteger(subBatches.size());
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        int offset = 0;
+        for (List<String> subBatch : subBatches) {
+            final int subBatchOffset = offset;
+            inferenceSentencesWithRetry(
+                targetResponseFilters,
+                modelId,
+                subBatch,
+                limiter,
+                priority,
+                0,
+                ActionListener.wrap(subBatchVectors -> {
+                    if (subBatchVectors.size() != subBatch.size()) {
+                        throw new IllegalStateException(
+                            "Unexpected number of vectors produced. Expected ["
+                                + subBatch.size()
+                                + "] but got ["
+                                + subBatchVectors.size()
+                                + "]"
+                        );
+                    }
+                    for (int i = 0; i < subBatchVectors.size(); i++) {
+                        vectors[subBatchOffset + i] = subBatchVectors.get(i);
+                    }
+                    if (pendingSubBatches.decrementAndGet() == 0 && !failed.get()) {
+                        listener.onResponse(Arrays.asList(vectors));
+                    }
+                }, e -> {
+                    if (failed.compareAndSet(false, true)) {
+                        listener.onFailure(e);
+                    }
+                })
+            );
+            offset += subBatch.size();
+        }
     }
 
     private void inferenceSentencesWithRetry(
         final List<String> targetResponseFilters,
         final String modelId,
         final List<String> inputText,
+        final AdaptiveConcurrencyLimiter limiter,
+        final InferencePriority priority,
+        final int retryTime,
+        final ActionListener<List<float[]>> listener
+    ) {
+        if (retryTime == 0) {
+            retryPolicy.onCall(modelId);
+        }
+        // an open breaker fails the call before it takes a slot of the limiter
+        final InferenceCircuitBreaker breaker = getCircuitBreaker(modelId);
+        if (breaker != null && !breaker.tryAcquire()) {
+            listener.onFailure(breaker.createOpenException());
+            return;
+        }
+        if (limiter == null) {
+            predictSentences(targetResponseFilters, modelId, inputText, null, priority, null, retryTime, listener);
+            return;
+        }
+        try {
+            limiter.execute(
+                priority,
+                permit -> predictSentences(targetResponseFilters, modelId, inputText, limiter, priority, permit, retryTime, listener)
+            );
+        } catch (OpenSearchRejectedExecutionException e) {
+            if (breaker != null) {
+                breaker.release();
+            }
+            listener.onFailure(e);
+        }
+    }
+
+    private void predictSentences(
+        final List<String> targetResponseFilters,
+        final String modelId,
+        final List<String> inputText,
+        final AdaptiveConcurrencyLimiter limiter,
+        final InferencePriority priority,
+        final AdaptiveConcurrencyLimiter.Permit permit,
         final int retryTime,
-        final ActionListener<List<List<Float>>> listener
+        final ActionListener<List<float[]>> listener
     ) {
         MLInput mlInput = createMLInput(targetResponseFilters, inputText);
-        mlClient.predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
-            final List<List<Float>> vector = buildVectorFromResponse(mlOutput);
-            log.debug("Inference Response for input sentence {} is : {} ", inputText, vector);
+        final long startNanos = System.nanoTime();
+        // the permit and the circuit breaker are released on the delivering thread, so the time spent in the queue of
+        // the inference pool does not count as model latency
+        final ActionListener<MLOutput> responseListener = forkToInferenceThreadPool(ActionListener.wrap(mlOutput -> {
+            final List<float[]> vector = buildVectorFromResponse(mlOutput);
+            if (log.isDebugEnabled()) {
+                log.debug(
+                    "Inference Response for input sentence {} is : {} ",
+                    inputText,
+                    vector.stream().map(Arrays::toString).collect(Collectors.toList())
+                );
+            }
             listener.onResponse(vector);
-        }, e -> {
-            if (RetryUtil.shouldRetry(e, retryTime)) {
+        }, listener::onFailure));
+        try {
+            inferenceBackend.predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
+                releasePermit(permit, null);
+                recordCircuitBreakerResult(modelId, startNanos, null);
+                recordHedgingLatency(modelId, priority, startNanos);
+                responseListener.onResponse(mlOutput);
+            }, e -> {
+                releasePermit(permit, e);
+                recordCircuitBreakerResult(modelId, startNanos, e);
+                final InferenceRetryPolicy policy = retryPolicy;
+                if (!policy.shouldRetry(modelId, e, retryTime)) {
+                    responseListener.onFailure(e);
+                    return;
+                }
+                neuralStats.increment(NeuralStatsOperation.INFERENCE_RETRY, modelId);
                 final int retryTimeAdd = retryTime + 1;
-                inferenceSentencesWithRetry(targetResponseFilters, modelId, inputText, retryTimeAdd, listener);
-            } else {
-                listener.onFailure(e);
-            }
-        }));
+                try {
+                    policy.scheduleRetry(
+                        retryTime,
+                        () -> inferenceSentencesWithRetry(
+                            targetResponseFilters,
+                            modelId,
+                            inputText,
+                            limiter,
+                            priority,
+                            retryTimeAdd,
+                            listener
+                        )
+                    );
+                } catch (OpenSearchRejectedExecutionException rejectedException) {
+                    // the scheduler is shutting down
+                    responseListener.onFailure(e);
+                }
+            }));
+        } catch (Exception e) {
+            releasePermit(permit, e);
+            recordCircuitBreakerResult(modelId, startNanos, e);
+            listener.onFailure(e);
+        }
+    }
+
+    private void recordCircuitBreakerResult(final String modelId, final long startNanos, final Exception failure) {
+        final InferenceCircuitBreaker breaker = circuitBreakers.get(modelId);
+        if (breaker == null) {
+            return;
+        }
+        if (failure != null && !InferenceCircuitBreaker.isModelFailure(failure)) {
+            // client errors say nothing about the health of the model, the call is released without an outcome
+            breaker.release();
+            return;
+        }
+        breaker.onResult(System.nanoTime() - startNanos, failure == null);
+    }
+
+    /**
+     * Only the interactive calls which reached the model feed the hedge delay, the store and the coalescing serve
+     * their hits without calling the model and bulk calls carry more text per call.
+     */
+    private void recordHedgingLatency(final String modelId, final InferencePriority priority, final long startNanos) {
+        final HedgedInference hedging = hedgedInference;
+        if (hedging != null && priority == InferencePriority.INTERACTIVE) {
+            hedging.recordLatency(modelId, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static void releasePermit(final AdaptiveConcurrencyLimiter.Permit permit, final Exception failure) {
+        if (permit != null) {
+            permit.release(failure);
+        }
+    }
+
+    /**
+     * Runs the calls which waited for the concurrency limit on the inference pool once it is set, and on the thread
+     * which frees their slot until then.
+     */
+    private void executeOnInferenceThreadPool(final Runnable task) {
+        final ThreadPool pool = threadPool;
+        if (pool == null) {
+            task.run();
+            return;
+        }
+        pool.executor(NeuralSearchThreadPools.INFERENCE_THREAD_POOL).execute(task);
+    }
+
+    private <T> ActionListener<T> forkToInferenceThreadPool(final ActionListener<T> listener) {
+        final ThreadPool pool = threadPool;
+        if (pool == null) {
+            return listener;
+        }
+        return new ThreadedActionListener<>(log, pool, NeuralSearchThreadPools.INFERENCE_THREAD_POOL, listener, false);
     }
 
     private MLInput createMLInput(final List<String> targetResponseFilters, List<String> inputText) {
@@ -140,21 +609,32 @@ public class MLCommonsClientAccessor {
         return new MLInput(FunctionName.TEXT_EMBEDDING, null, inputDataset);
     }
 
-    private List<List<Float>> buildVectorFromResponse(MLOutput mlOutput) {
-        final List<List<Float>> vector = new ArrayList<>();
+    @VisibleForTesting
+    static List<float[]> buildVectorFromResponse(MLOutput mlOutput) {
+        final List<float[]> vector = new ArrayList<>();
         final ModelTensorOutput modelTensorOutput = (ModelTensorOutput) mlOutput;
         final List<ModelTensors> tensorOutputList = modelTensorOutput.getMlModelOutputs();
         for (final ModelTensors tensors : tensorOutputList) {
             final List<ModelTensor> tensorsList = tensors.getMlModelTensors();
             for (final ModelTensor tensor : tensorsList) {
-                vector.add(Arrays.stream(tensor.getData()).map(value -> (Float) value).collect(Collectors.toList()));
+                vector.add(toFloatArray(tensor.getData()));
             }
         }
         return vector;
     }
 
+    private static float[] toFloatArray(final Number[] data) {
+        final float[] vector = new float[data.length];
+        for (int i = 0; i < data.length; i++) {
+            vector[i] = data[i].floatValue();
+        }
+        return vector;
+    }
+
     /**
-     * Will be used to call predict API of ML Commons, to get the response for an input from a modelId.
+     * Will be used to call predict API of ML Commons, to get the response for an input from a modelId. The calling
+     * thread is blocked until the model responds, {@link #predict(String, String, ActionListener)} should be used
+     * where possible.
      *
      * @param context to be passed to LLM
      * @param modelId internal reference of OpenSearch to call LLM
@@ -163,9 +643,34 @@ public class MLCommonsClientAccessor {
      * @throws InterruptedException
      */
     public GeneratedText predict(final String context, String modelId) throws ExecutionException, InterruptedException {
+        final PlainActionFuture<GeneratedText> future = PlainActionFuture.newFuture();
+        predict(context, modelId, future);
+        return future.get();
+    }
+
+    /**
+     * Calls the predict API of ML Commons asynchronously, to get the response for an input from a modelId. The
+     * listener is called on the thread which receives the response of the model.
+     *
+     * @param context to be passed to LLM
+     * @param modelId internal reference of OpenSearch to call LLM
+     * @param predictListener {@link ActionListener} which will be called with the {@link GeneratedText} or the failure
+     */
+    public void predict(final String context, final String modelId, final ActionListener<GeneratedText> predictListener) {
+        final ActionListener<GeneratedText> listener = neuralStats.track(NeuralStatsOperation.PREDICT, modelId, null, 1, predictListener);
         final MLInput mlInput = buildMLInputForPredictCall(context, modelId);
-        final MLOutput output = mlClient.predict(modelId, mlInput).get();
+        try {
+            inferenceBackend.predict(
+                modelId,
+                mlInput,
+                ActionListener.wrap(output -> listener.onResponse(buildGeneratedText(output)), listener::onFailure)
+            );
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
 
+    private GeneratedText buildGeneratedText(final MLOutput output) {
         final ModelTensorOutput modelTensorOutput = (ModelTensorOutput) output;
         final List<ModelTensors> tensorOutputList = modelTensorOutput.getMlModelOutputs();
         for (final ModelTensors tensors : tensorOutputList) {
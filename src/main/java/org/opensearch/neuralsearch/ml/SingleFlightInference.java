@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import org.opensearch.action.ActionListener;
+
+/**
+ * Coalesces concurrent inferences of the same text by the same model into a single in-flight call. The first caller
+ * of a text leads its call, callers which ask for the text while the call is in flight wait for its vector or its
+ * failure instead of calling the model again. Only calls of the same {@link InferencePriority} are coalesced, so an
+ * interactive call never waits for a bulk call queued behind the bulk lane of the concurrency limiter.
+ */
+final class SingleFlightInference {
+
+    private final Map<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Infers the texts which are not in flight yet with the inference function and waits for the in-flight calls of
+     * the others.
+     *
+     * @param modelId {@link String}
+     * @param priority {@link InferencePriority} of the call, only flights of the same priority are joined
+     * @param inputText {@link List} of {@link String} to infer
+     * @param inference function which infers the texts this call leads, and calls its listener with their vectors in
+     *                  the same order
+     * @param listener {@link ActionListener} called with the vectors of inputText in the same order, or with the first
+     *                 failure
+     */
+    void inferenceSentences(
+        final String modelId,
+        final InferencePriority priority,
+        final List<String> inputText,
+        final BiConsumer<List<String>, ActionListener<List<float[]>>> inference,
+        final ActionListener<List<float[]>> listener
+    ) {
+        final float[][] vectors = new float[inputText.size()][];
+        final AtomicInteger pendingTexts = new AtomicInteger(inputText.size());
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final List<String> leaderTexts = new ArrayList<>();
+        final List<FlightKey> leaderKeys = new ArrayList<>();
+        final List<Flight> leaderFlights = new ArrayList<>();
+        final List<Flight> textFlights = new ArrayList<>(inputText.size());
+        for (String text : inputText) {
+            final FlightKey key = new FlightKey(modelId, priority, text);
+            final Flight newFlight = new Flight();
+            final Flight flight = flights.putIfAbsent(key, newFlight);
+            if (flight == null) {
+                leaderTexts.add(text);
+                leaderKeys.add(key);
+                leaderFlights.add(newFlight);
+                textFlights.add(newFlight);
+            } else {
+                textFlights.add(flight);
+            }
+        }
+        // listeners are only added once this call registered all its flights, so that a call which completes right away
+        // can not complete the listener with a partial result
+        for (int i = 0; i < textFlights.size(); i++) {
+            final int index = i;
+            textFlights.get(i).addListener(ActionListener.wrap(vector -> {
+                vectors[index] = vector;
+                if (pendingTexts.decrementAndGet() == 0 && !failed.get()) {
+                    listener.onResponse(Arrays.asList(vectors));
+                }
+            }, e -> {
+                if (failed.compareAndSet(false, true)) {
+                    listener.onFailure(e);
+                }
+            }));
+        }
+        if (leaderTexts.isEmpty()) {
+            return;
+        }
+        try {
+            inference.accept(leaderTexts, ActionListener.wrap(leaderVectors -> {
+                if (leaderVectors.size() != leaderTexts.size()) {
+                    throw new IllegalStateException(
+                        "Unexpected number of vectors produced. Expected ["
+                            + leaderTexts.size()
+                            + "] but got ["
+                            + leaderVectors.size()
+                            + "]"
+                    );
+                }
+                for (int i = 0; i < leaderFlights.size(); i++) {
+                    flights.remove(leaderKeys.get(i), leaderFlights.get(i));
+                    leaderFlights.get(i).complete(leaderVectors.get(i), null);
+                }
+            }, e -> failFlights(leaderKeys, leaderFlights, e)));
+        } catch (Exception e) {
+            failFlights(leaderKeys, leaderFlights, e);
+        }
+    }
+
+    private void failFlights(final List<FlightKey> keys, final List<Flight> leaderFlights, final Exception e) {
+        for (int i = 0; i < leaderFlights.size(); i++) {
+            flights.remove(keys.get(i), leaderFlights.get(i));
+            leaderFlights.get(i).complete(null, e);
+        }
+    }
+
+    /**
+     * @return number of texts in flight
+     */
+    int size() {
+        return flights.size();
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class FlightKey {
+        private final String modelId;
+        private final InferencePriority priority;
+        private final String text;
+    }
+
+    /**
+     * In-flight inference of a text, which notifies the listeners added before and after its completion.
+     */
+    private static final class Flight {
+        private final List<ActionListener<float[]>> listeners = new ArrayList<>();
+        private boolean done;
+        private float[] vector;
+        private Exception failure;
+
+        private void addListener(final ActionListener<float[]> listener) {
+            synchronized (this) {
+                if (!done) {
+                    listeners.add(listener);
+                    return;
+                }
+            }
+            notifyListener(listener);
+        }
+
+        private void complete(final float[] vector, final Exception failure) {
+            final List<ActionListener<float[]>> listenersToNotify;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                this.done = true;
+                this.vector = vector;
+                this.failure = failure;
+                listenersToNotify = new ArrayList<>(listeners);
+                listeners.clear();
+            }
+            listenersToNotify.forEach(this::notifyListener);
+        }
+
+        private void notifyListener(final ActionListener<float[]> listener) {
+            if (failure == null) {
+                listener.onResponse(vector);
+            } else {
+                listener.onFailure(failure);
+            }
+        }
+    }
+}
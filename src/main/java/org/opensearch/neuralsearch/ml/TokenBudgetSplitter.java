@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Splits the input texts of a predict call into sub-batches whose estimated number of tokens fits in a budget. The
+ * estimate assumes about 4 characters per token, which is close for the word piece and BPE tokenizers of English text
+ * models, plus the special tokens every text is wrapped with.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TokenBudgetSplitter {
+
+    private static final int CHARACTERS_PER_TOKEN = 4;
+    private static final int SPECIAL_TOKENS_PER_TEXT = 2;
+
+    /**
+     * Estimates the number of tokens of a text.
+     *
+     * @param text {@link String}
+     * @return estimated number of tokens
+     */
+    static int estimateTokens(final String text) {
+        return (text.length() + CHARACTERS_PER_TOKEN - 1) / CHARACTERS_PER_TOKEN + SPECIAL_TOKENS_PER_TEXT;
+    }
+
+    /**
+     * Splits the texts into consecutive sub-batches of at most maxTokens estimated tokens. A text which is larger than
+     * the budget on its own is put in a sub-batch of its own.
+     *
+     * @param inputText {@link List} of {@link String} to split
+     * @param maxTokens token budget of a sub-batch, a value of 0 or less disables the split
+     * @return views of inputText in their original order
+     */
+    static List<List<String>> split(final List<String> inputText, final int maxTokens) {
+        if (maxTokens <= 0) {
+            return List.of(inputText);
+        }
+        final List<List<String>> subBatches = new ArrayList<>();
+        int start = 0;
+        int tokens = 0;
+        for (int i = 0; i < inputText.size(); i++) {
+            final int textTokens = estimateTokens(inputText.get(i));
+            if (i > start && tokens + textTokens > maxTokens) {
+                subBatches.add(inputText.subList(start, i));
+                start = i;
+                tokens = 0;
+            }
+            tokens += textTokens;
+        }
+        subBatches.add(inputText.subList(start, inputText.size()));
+        return subBatches;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml.backend;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Backend the predict calls of {@link org.opensearch.neuralsearch.ml.MLCommonsClientAccessor} are sent to. Inputs and
+ * outputs are the ML Commons ones, so the accessor handles the responses of every backend the same way. The backend
+ * of a node is selected by name with the plugins.neural_search.inference.backend setting.
+ */
+public interface InferenceBackend {
+
+    /**
+     * Runs the model on the input.
+     *
+     * @param modelId id of the model
+     * @param mlInput {@link MLInput} of the model, text documents for text embedding models or a prompt for
+     *                generative models
+     * @param listener {@link ActionListener} which will be called with the {@link MLOutput} of the model or the failure
+     */
+    void predict(String modelId, MLInput mlInput, ActionListener<MLOutput> listener);
+
+    /**
+     * Creates an {@link InferenceBackend} once the node services are available.
+     */
+    @FunctionalInterface
+    interface Factory {
+        /**
+         * @param client node {@link Client}
+         * @param settings node {@link Settings}
+         * @param threadPool node {@link ThreadPool}
+         * @return {@link InferenceBackend}
+         */
+        InferenceBackend create(Client client, Settings settings, ThreadPool threadPool);
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml.backend;
+
+import java.util.Map;
+
+/**
+ * Extension point for plugins which extend the neural search plugin and provide their own {@link InferenceBackend}.
+ * Implementations are loaded through ExtensiblePlugin, so they must be listed in the
+ * META-INF/services/org.opensearch.neuralsearch.ml.backend.InferenceBackendExtension file of the extending plugin.
+ */
+public interface InferenceBackendExtension {
+
+    /**
+     * @return {@link InferenceBackend.Factory} of every provided backend, keyed by the name the backend is selected by
+     */
+    Map<String, InferenceBackend.Factory> getInferenceBackends();
+}
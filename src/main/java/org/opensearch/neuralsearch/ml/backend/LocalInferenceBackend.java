@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml.backend;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * {@link InferenceBackend} which runs no model. Text embedding inputs get unit vectors seeded by the hash of the model
+ * id and the text, so the same text always gets the same vector, and prompts get a canned generated text. A fixed
+ * latency can be added to every call. It lets the overhead of the plugin be measured and integration tests run without
+ * ML Commons or real models.
+ */
+public class LocalInferenceBackend implements InferenceBackend {
+
+    public static final String NAME = "local";
+
+    static final String EMBEDDING_TENSOR_NAME = "sentence_embedding";
+    static final String PROMPT_PARAMETER = "prompt";
+    private static final int GENERATED_TEXT_MAX_PROMPT_LENGTH = 100;
+
+    private final int dimension;
+    private final long latencyMillis;
+    private final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler;
+
+    public LocalInferenceBackend(
+        final int dimension,
+        final TimeValue latency,
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler
+    ) {
+        this.dimension = dimension;
+        this.latencyMillis = latency.millis();
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates the local backend from the node settings, the latency is waited for on the node scheduler.
+     *
+     * @param settings node {@link Settings}
+     * @param threadPool node {@link ThreadPool}
+     * @return {@link LocalInferenceBackend}
+     */
+    public static LocalInferenceBackend create(final Settings settings, final ThreadPool threadPool) {
+        return new LocalInferenceBackend(
+            NeuralSearchSettings.INFERENCE_LOCAL_DIMENSION.get(settings),
+            NeuralSearchSettings.INFERENCE_LOCAL_LATENCY.get(settings),
+            (delay, task) -> threadPool.schedule(task, TimeValue.timeValueMillis(delay), ThreadPool.Names.GENERIC)
+        );
+    }
+
+    @Override
+    public void predict(final String modelId, final MLInput mlInput, final ActionListener<MLOutput> listener) {
+        final MLOutput output;
+        try {
+            output = createOutput(modelId, mlInput.getInputDataset());
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (latencyMillis == 0) {
+            listener.onResponse(output);
+            return;
+        }
+        scheduler.apply(latencyMillis, () -> listener.onResponse(output));
+    }
+
+    private MLOutput createOutput(final String modelId, final MLInputDataset inputDataset) {
+        if (inputDataset instanceof TextDocsInputDataSet) {
+            final List<String> docs = ((TextDocsInputDataSet) inputDataset).getDocs();
+            final List<ModelTensors> tensorsList = new ArrayList<>(docs.size());
+            for (String doc : docs) {
+                final ModelTensor tensor = new ModelTensor(
+                    EMBEDDING_TENSOR_NAME,
+                    embed(modelId, doc),
+                    new long[] { dimension },
+                    MLResultDataType.FLOAT32,
+                    null,
+                    null,
+                    Collections.emptyMap()
+                );
+                tensorsList.add(new ModelTensors(List.of(tensor)));
+            }
+            return new ModelTensorOutput(tensorsList);
+        }
+        if (inputDataset instanceof RemoteInferenceInputDataSet) {
+            final String prompt = ((RemoteInferenceInputDataSet) inputDataset).getParameters().getOrDefault(PROMPT_PARAMETER, "");
+            // same shape as the output of a Bedrock model, which the accessor already parses
+            final Map<String, ?> dataAsMap = Map.of("results", List.of(Map.of("outputText", generateText(modelId, prompt))));
+            final ModelTensor tensor = new ModelTensor("response", null, null, null, null, null, dataAsMap);
+            return new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor))));
+        }
+        throw new IllegalArgumentException(
+            "local inference backend does not support input dataset ["
+                + (inputDataset == null ? null : inputDataset.getClass().getSimpleName())
+                + "]"
+        );
+    }
+
+    /**
+     * @return unit vector of the text, seeded by the hash of the model id and the text
+     */
+    Float[] embed(final String modelId, final String text) {
+        final byte[] bytes = (modelId + '\u0000' + text).getBytes(StandardCharsets.UTF_8);
+        final MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, 0, new MurmurHash3.Hash128());
+        final SplittableRandom random = new SplittableRandom(hash.h1 ^ hash.h2);
+        final double[] values = new double[dimension];
+        double squaredNorm = 0;
+        for (int i = 0; i < dimension; i++) {
+            values[i] = random.nextDouble(-1.0, 1.0);
+            squaredNorm += values[i] * values[i];
+        }
+        final double norm = Math.sqrt(squaredNorm);
+        final Float[] vector = new Float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) (norm == 0 ? 0 : values[i] / norm);
+        }
+        return vector;
+    }
+
+    private static String generateText(final String modelId, final String prompt) {
+        final String promptStart = prompt.length() > GENERATED_TEXT_MAX_PROMPT_LENGTH
+            ? prompt.substring(0, GENERATED_TEXT_MAX_PROMPT_LENGTH)
+            : prompt;
+        return String.format(Locale.ROOT, "Text generated by local model [%s] for prompt: %s", modelId, promptStart);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml.backend;
+
+import lombok.RequiredArgsConstructor;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+
+/**
+ * Default {@link InferenceBackend}, which calls the models deployed in ML Commons.
+ */
+@RequiredArgsConstructor
+public class MLCommonsInferenceBackend implements InferenceBackend {
+
+    public static final String NAME = "ml_commons";
+
+    private final MachineLearningNodeClient mlClient;
+
+    @Override
+    public void predict(final String modelId, final MLInput mlInput, final ActionListener<MLOutput> listener) {
+        mlClient.predict(modelId, mlInput, listener);
+    }
+}
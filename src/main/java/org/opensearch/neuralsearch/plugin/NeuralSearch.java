@@ -5,30 +5,65 @@
 
 package org.opensearch.neuralsearch.plugin;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.IndexScopedSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
+import org.opensearch.indices.SystemIndexDescriptor;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.neuralsearch.cache.EmbeddingCache;
+import org.opensearch.neuralsearch.cache.PersistentEmbeddingStore;
 import org.opensearch.neuralsearch.ext.QuestionExtBuilder;
+import org.opensearch.neuralsearch.ml.HedgedInference;
+import org.opensearch.neuralsearch.ml.InferenceBatchQueue;
+import org.opensearch.neuralsearch.ml.InferenceRetryPolicy;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.ml.backend.InferenceBackend;
+import org.opensearch.neuralsearch.ml.backend.InferenceBackendExtension;
+import org.opensearch.neuralsearch.ml.backend.LocalInferenceBackend;
+import org.opensearch.neuralsearch.ml.backend.MLCommonsInferenceBackend;
 import org.opensearch.neuralsearch.processor.AppendQueryResponseProcessor;
 import org.opensearch.neuralsearch.processor.GenerativeTextLLMProcessor;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
 import org.opensearch.neuralsearch.processor.factory.GenerativeTextLLMProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.TextEmbeddingProcessorFactory;
 import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
+import org.opensearch.neuralsearch.rest.RestFitVectorProjectionAction;
+import org.opensearch.neuralsearch.rest.RestNeuralStatsAction;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.settings.NeuralSearchThreadPools;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.transport.FitVectorProjectionAction;
+import org.opensearch.neuralsearch.transport.NeuralStatsAction;
+import org.opensearch.neuralsearch.transport.TransportFitVectorProjectionAction;
+import org.opensearch.neuralsearch.transport.TransportNeuralStatsAction;
+import org.opensearch.neuralsearch.vector.VectorProjectionStore;
 import org.opensearch.node.Node;
 import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.ExtensiblePlugin;
@@ -36,13 +71,39 @@ import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.SearchPipelinePlugin;
 import org.opensearch.plugins.SearchPlugin;
+import org.opensearch.plugins.SystemIndexPlugin;
 import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.rest.RestController;
+import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.watcher.ResourceWatcherService;
 
-public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin, IngestPlugin, ExtensiblePlugin, SearchPipelinePlugin {
+@Log4j2
+public class NeuralSearch extends Plugin
+    implements
+        ActionPlugin,
+        SearchPlugin,
+        IngestPlugin,
+        ExtensiblePlugin,
+        SearchPipelinePlugin,
+        SystemIndexPlugin {
     private MLCommonsClientAccessor clientAccessor;
+    private EmbeddingCache ingestEmbeddingCache;
+    private EmbeddingCache queryEmbeddingCache;
+    private PersistentEmbeddingStore embeddingStore;
+    private VectorProjectionStore projectionStore;
+    private final NeuralStats neuralStats = new NeuralStats();
+    private final Map<String, InferenceBackend.Factory> inferenceBackendFactories = new TreeMap<>(
+        Map.of(
+            MLCommonsInferenceBackend.NAME,
+            (client, settings, threadPool) -> new MLCommonsInferenceBackend(new MachineLearningNodeClient(client)),
+            LocalInferenceBackend.NAME,
+            (client, settings, threadPool) -> LocalInferenceBackend.create(settings, threadPool)
+        )
+    );
 
     @Override
     public Collection<Object> createComponents(
@@ -58,8 +119,60 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
         final IndexNameExpressionResolver indexNameExpressionResolver,
         final Supplier<RepositoriesService> repositoriesServiceSupplier
     ) {
-        NeuralQueryBuilder.initialize(getClientAccessor(client));
-        return List.of(clientAccessor);
+        queryEmbeddingCache = new EmbeddingCache(NeuralSearchSettings.QUERY_EMBEDDING_CACHE_SIZE.get(environment.settings()).getBytes());
+        neuralStats.registerComponent(NeuralStats.QUERY_EMBEDDING_CACHE_COMPONENT, queryEmbeddingCache::statsAsMap);
+        NeuralQueryBuilder.initialize(getClientAccessor(client), queryEmbeddingCache, getProjectionStore(client));
+        try {
+            embeddingStore = PersistentEmbeddingStore.create(environment.settings(), nodeEnvironment, threadPool.generic());
+        } catch (IOException e) {
+            log.warn("Failed to open the persistent embedding store, vectors will not be persisted", e);
+        }
+        if (embeddingStore != null) {
+            neuralStats.registerComponent(NeuralStats.EMBEDDING_STORE_COMPONENT, embeddingStore::statsAsMap);
+        }
+        clientAccessor.setEmbeddingStore(embeddingStore);
+        clientAccessor.initializeConcurrencyLimiters(environment.settings());
+        clientAccessor.initializeCircuitBreakers(environment.settings());
+        clientAccessor.setMaxBatchTokens(NeuralSearchSettings.INFERENCE_MAX_BATCH_TOKENS.get(environment.settings()));
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler = (delay, task) -> threadPool.schedule(
+            task,
+            TimeValue.timeValueMillis(delay),
+            ThreadPool.Names.GENERIC
+        );
+        clientAccessor.setHedgedInference(HedgedInference.create(environment.settings(), scheduler));
+        clientAccessor.setRetryPolicy(InferenceRetryPolicy.create(environment.settings(), scheduler));
+        clientAccessor.setThreadPool(threadPool);
+        clientAccessor.setInferenceBackend(createInferenceBackend(client, environment.settings(), threadPool));
+        clientAccessor.registerComponentStats(neuralStats);
+        return List.of(clientAccessor, neuralStats, projectionStore);
+    }
+
+    @Override
+    public void loadExtensions(final ExtensionLoader loader) {
+        for (InferenceBackendExtension extension : loader.loadExtensions(InferenceBackendExtension.class)) {
+            extension.getInferenceBackends().forEach((name, factory) -> {
+                if (inferenceBackendFactories.putIfAbsent(name, factory) != null) {
+                    throw new IllegalArgumentException("inference backend [" + name + "] is already registered");
+                }
+            });
+        }
+    }
+
+    private InferenceBackend createInferenceBackend(final Client client, final Settings settings, final ThreadPool threadPool) {
+        final String name = NeuralSearchSettings.INFERENCE_BACKEND.get(settings);
+        final InferenceBackend.Factory factory = inferenceBackendFactories.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException(
+                "unknown inference backend [" + name + "], registered backends are " + inferenceBackendFactories.keySet()
+            );
+        }
+        log.info("Using inference backend [{}]", name);
+        return factory.create(client, settings, threadPool);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(embeddingStore);
     }
 
     public List<QuerySpec<?>> getQueries() {
@@ -70,9 +183,22 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
 
     @Override
     public Map<String, Processor.Factory> getProcessors(Processor.Parameters parameters) {
+        final InferenceBatchQueue inferenceBatchQueue = InferenceBatchQueue.create(
+            getClientAccessor(parameters.client),
+            parameters.env.settings(),
+            parameters.scheduler
+        );
+        ingestEmbeddingCache = EmbeddingCache.create(parameters.env.settings());
+        neuralStats.registerComponent(NeuralStats.INGEST_EMBEDDING_CACHE_COMPONENT, ingestEmbeddingCache::statsAsMap);
         return Collections.singletonMap(
             TextEmbeddingProcessor.TYPE,
-            new TextEmbeddingProcessorFactory(getClientAccessor(parameters.client), parameters.env)
+            new TextEmbeddingProcessorFactory(
+                inferenceBatchQueue,
+                ingestEmbeddingCache,
+                getProjectionStore(parameters.client),
+                parameters.env,
+                neuralStats
+            )
         );
     }
 
@@ -81,7 +207,10 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
         org.opensearch.search.pipeline.Processor.Parameters parameters
     ) {
         final Map<String, org.opensearch.search.pipeline.Processor.Factory> processorsMap = new HashMap<>();
-        processorsMap.put(GenerativeTextLLMProcessor.TYPE, new GenerativeTextLLMProcessorFactory(getClientAccessor(parameters.client)));
+        processorsMap.put(
+            GenerativeTextLLMProcessor.TYPE,
+            new GenerativeTextLLMProcessorFactory(getClientAccessor(parameters.client), neuralStats)
+        );
         processorsMap.put(AppendQueryResponseProcessor.TYPE, new AppendQueryResponseProcessor.Factory());
         return processorsMap;
     }
@@ -98,10 +227,61 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
     private MLCommonsClientAccessor getClientAccessor(final Client client) {
         if (clientAccessor == null) {
             clientAccessor = new MLCommonsClientAccessor(new MachineLearningNodeClient(client));
+            clientAccessor.setNeuralStats(neuralStats);
         }
         return clientAccessor;
     }
 
+    /**
+     * Like {@link #getClientAccessor(Client)}, ensures that a single {@link VectorProjectionStore} is shared by the
+     * ingest processors, the neural query and the fit action.
+     *
+     * @param client {@link Client}
+     * @return {@link VectorProjectionStore}
+     */
+    private VectorProjectionStore getProjectionStore(final Client client) {
+        if (projectionStore == null) {
+            projectionStore = new VectorProjectionStore(client);
+        }
+        return projectionStore;
+    }
+
+    @Override
+    public List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> getActions() {
+        return List.of(
+            new ActionHandler<>(NeuralStatsAction.INSTANCE, TransportNeuralStatsAction.class),
+            new ActionHandler<>(FitVectorProjectionAction.INSTANCE, TransportFitVectorProjectionAction.class)
+        );
+    }
+
+    @Override
+    public List<RestHandler> getRestHandlers(
+        final Settings settings,
+        final RestController restController,
+        final ClusterSettings clusterSettings,
+        final IndexScopedSettings indexScopedSettings,
+        final SettingsFilter settingsFilter,
+        final IndexNameExpressionResolver indexNameExpressionResolver,
+        final Supplier<DiscoveryNodes> nodesInCluster
+    ) {
+        return List.of(new RestNeuralStatsAction(), new RestFitVectorProjectionAction());
+    }
+
+    @Override
+    public List<ExecutorBuilder<?>> getExecutorBuilders(final Settings settings) {
+        return NeuralSearchThreadPools.getExecutorBuilders(settings);
+    }
+
+    @Override
+    public List<Setting<?>> getSettings() {
+        return NeuralSearchSettings.getSettings();
+    }
+
+    @Override
+    public Collection<SystemIndexDescriptor> getSystemIndexDescriptors(final Settings settings) {
+        return List.of(new SystemIndexDescriptor(VectorProjectionStore.INDEX_NAME, "Vector projections of the neural search plugin"));
+    }
+
     @Override
     public List<SearchExtSpec<?>> getSearchExts() {
         return Collections.singletonList(new SearchExtSpec<>(QuestionExtBuilder.NAME, QuestionExtBuilder::new, QuestionExtBuilder::parse));
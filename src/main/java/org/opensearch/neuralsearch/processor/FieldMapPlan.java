@@ -0,0 +1,379 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.neuralsearch.common.VectorUtil;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Immutable execution plan of the field_map of a {@link TextEmbeddingProcessor}, compiled once when the processor is
+ * created. Every document is then processed by a single pass over the configured fields, which validates the source
+ * values, extracts the texts to embed and records the slots the vectors are written back to.
+ */
+public final class FieldMapPlan {
+
+    private static final String LIST_TYPE_NESTED_MAP_KEY = "knn";
+
+    private final List<FieldNode> fields;
+    private final long maxDepth;
+
+    private FieldMapPlan(final List<FieldNode> fields, final long maxDepth) {
+        this.fields = fields;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Compiles the field_map of the processor.
+     *
+     * @param fieldMap field_map of the processor configuration
+     * @param maxDepth max depth of nested source values, index.mapping.depth.limit of the node
+     * @return {@link FieldMapPlan}
+     */
+    public static FieldMapPlan compile(final Map<String, Object> fieldMap, final long maxDepth) {
+        if (fieldMap == null
+            || fieldMap.size() == 0
+            || fieldMap.entrySet()
+                .stream()
+                .anyMatch(
+                    x -> StringUtils.isBlank(x.getKey()) || Objects.isNull(x.getValue()) || StringUtils.isBlank(x.getValue().toString())
+                )) {
+            throw new IllegalArgumentException("Unable to create the TextEmbedding processor as field_map has invalid key or value");
+        }
+        final List<FieldNode> fields = new ArrayList<>(fieldMap.size());
+        fieldMap.forEach((sourceKey, target) -> fields.add(compileNode(sourceKey, target)));
+        return new FieldMapPlan(Collections.unmodifiableList(fields), maxDepth);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldNode compileNode(final String sourceKey, final Object target) {
+        if (!(target instanceof Map)) {
+            return new FieldNode(sourceKey, String.valueOf(target), Collections.emptyMap());
+        }
+        final Map<String, FieldNode> children = new HashMap<>();
+        ((Map<String, Object>) target).forEach((childKey, childTarget) -> {
+            if (childTarget != null) {
+                children.put(childKey, compileNode(childKey, childTarget));
+            }
+        });
+        return new FieldNode(sourceKey, null, Collections.unmodifiableMap(children));
+    }
+
+    /**
+     * Validates the source values of the configured fields and extracts their texts, in a single pass. Null elements
+     * of lists nested in map type fields are kept in place and only rejected by {@link Extraction#validate}.
+     *
+     * @param sourceAndMetadataMap source of the document
+     * @return {@link Extraction} of the document
+     * @throws IllegalArgumentException if a configured field has a value which can not be embedded
+     */
+    public Extraction extract(final Map<String, Object> sourceAndMetadataMap) {
+        final List<FieldExtraction> fieldExtractions = new ArrayList<>(fields.size());
+        for (FieldNode field : fields) {
+            final Object sourceValue = sourceAndMetadataMap.get(field.sourceKey);
+            if (sourceValue == null) {
+                continue;
+            }
+            final FieldExtraction fieldExtraction = new FieldExtraction(
+                field.isLeaf() ? field.target : field.sourceKey,
+                new ArrayList<>(),
+                new ArrayList<>(),
+                false
+            );
+            if (field.isLeaf()) {
+                extractTopLevelLeaf(field, sourceValue, fieldExtraction);
+            } else if (sourceValue instanceof Map) {
+                extractMap(field, field.sourceKey, (Map<?, ?>) sourceValue, 1, fieldExtraction);
+            } else {
+                throw new IllegalArgumentException("map type field [" + field.sourceKey + "] is not a map, can not process it");
+            }
+            fieldExtractions.add(fieldExtraction);
+        }
+        return new Extraction(fieldExtractions);
+    }
+
+    private void extractTopLevelLeaf(final FieldNode field, final Object sourceValue, final FieldExtraction fieldExtraction) {
+        if (sourceValue instanceof List) {
+            validateList(field.sourceKey, (List<?>) sourceValue, 1, null);
+            addList(fieldExtraction, null, field.target, (List<?>) sourceValue);
+        } else if (sourceValue instanceof Map) {
+            // a map can not be written back to a leaf target, only its values are validated
+            validateNestedValue(field.sourceKey, sourceValue, 1, fieldExtraction);
+        } else if (!(sourceValue instanceof String)) {
+            throw new IllegalArgumentException("field [" + field.sourceKey + "] is neither string nor nested type, can not process it");
+        } else if (StringUtils.isBlank((String) sourceValue)) {
+            throw new IllegalArgumentException("field [" + field.sourceKey + "] has empty string value, can not process it");
+        } else {
+            fieldExtraction.texts.add((String) sourceValue);
+            fieldExtraction.slots.add(new Slot(null, field.target, false, 1));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void extractMap(
+        final FieldNode node,
+        final String rootKey,
+        final Map<?, ?> sourceMap,
+        final int depth,
+        final FieldExtraction fieldExtraction
+    ) {
+        checkDepth(rootKey, depth);
+        for (Map.Entry<?, ?> sourceEntry : sourceMap.entrySet()) {
+            final Object sourceValue = sourceEntry.getValue();
+            if (sourceValue == null) {
+                continue;
+            }
+            final FieldNode child = node.children.get(sourceEntry.getKey());
+            if (child == null) {
+                validateNestedValue(rootKey, sourceValue, depth + 1, fieldExtraction);
+            } else if (!child.isLeaf()) {
+                if (!(sourceValue instanceof Map)) {
+                    throw new IllegalArgumentException("map type field [" + rootKey + "] has non-map value, can not process it");
+                }
+                extractMap(child, rootKey, (Map<?, ?>) sourceValue, depth + 1, fieldExtraction);
+            } else {
+                validateNestedValue(rootKey, sourceValue, depth + 1, fieldExtraction);
+                if (sourceValue instanceof String) {
+                    fieldExtraction.texts.add((String) sourceValue);
+                    fieldExtraction.slots.add(new Slot((Map<String, Object>) sourceMap, child.target, false, 1));
+                } else if (sourceValue instanceof List) {
+                    addList(fieldExtraction, (Map<String, Object>) sourceMap, child.target, (List<?>) sourceValue);
+                }
+            }
+        }
+    }
+
+    private static void addList(
+        final FieldExtraction fieldExtraction,
+        final Map<String, Object> parent,
+        final String target,
+        final List<?> sourceValue
+    ) {
+        for (Object text : sourceValue) {
+            fieldExtraction.texts.add((String) text);
+        }
+        fieldExtraction.slots.add(new Slot(parent, target, true, sourceValue.size()));
+    }
+
+    private void validateNestedValue(
+        final String rootKey,
+        final Object sourceValue,
+        final int depth,
+        final FieldExtraction fieldExtraction
+    ) {
+        checkDepth(rootKey, depth);
+        if (sourceValue instanceof List) {
+            validateList(rootKey, (List<?>) sourceValue, depth, fieldExtraction);
+        } else if (sourceValue instanceof Map) {
+            for (Object value : ((Map<?, ?>) sourceValue).values()) {
+                if (value != null) {
+                    validateNestedValue(rootKey, value, depth + 1, fieldExtraction);
+                }
+            }
+        } else if (!(sourceValue instanceof String)) {
+            throw new IllegalArgumentException("map type field [" + rootKey + "] has non-string type, can not process it");
+        } else if (StringUtils.isBlank((String) sourceValue)) {
+            throw new IllegalArgumentException("map type field [" + rootKey + "] has empty string, can not process it");
+        }
+    }
+
+    // nested lists record their null elements in fieldExtraction, top level lists, with a null fieldExtraction, reject them
+    private void validateList(final String rootKey, final List<?> sourceValue, final int depth, final FieldExtraction fieldExtraction) {
+        checkDepth(rootKey, depth);
+        for (Object value : sourceValue) {
+            if (value == null) {
+                if (fieldExtraction != null) {
+                    fieldExtraction.nullListElement = true;
+                    continue;
+                }
+                throw new IllegalArgumentException("list type field [" + rootKey + "] has null, can not process it");
+            } else if (!(value instanceof String)) {
+                throw new IllegalArgumentException("list type field [" + rootKey + "] has non string value, can not process it");
+            } else if (StringUtils.isBlank((String) value)) {
+                throw new IllegalArgumentException("list type field [" + rootKey + "] has empty string, can not process it");
+            }
+        }
+    }
+
+    private void checkDepth(final String rootKey, final int depth) {
+        if (depth > maxDepth) {
+            throw new IllegalArgumentException("map type field [" + rootKey + "] reached max depth limit, can not process it");
+        }
+    }
+
+    /**
+     * Compiled configuration of a field, either a leaf with the target field of its vectors or a map of nested fields.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class FieldNode {
+        private final String sourceKey;
+        private final String target;
+        private final Map<String, FieldNode> children;
+
+        private boolean isLeaf() {
+            return target != null;
+        }
+    }
+
+    /**
+     * Texts extracted from a document together with the slots their vectors are written to.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Extraction {
+        @Getter
+        private final List<FieldExtraction> fields;
+
+        /**
+         * Rejects the null elements of the lists nested in map type fields, kept in place by the extraction so the
+         * vectors stay aligned with their source elements.
+         *
+         * @throws IllegalArgumentException if a field has a null list element
+         */
+        public void validate() {
+            for (FieldExtraction field : fields) {
+                if (field.nullListElement) {
+                    throw new IllegalArgumentException("list type field [" + field.key + "] has null, can not process it");
+                }
+            }
+        }
+
+        /**
+         * @return texts of all the fields, in the order the vectors are expected by {@link #write}
+         */
+        public List<String> getTexts() {
+            int size = 0;
+            for (FieldExtraction field : fields) {
+                size += field.texts.size();
+            }
+            final List<String> texts = new ArrayList<>(size);
+            fields.forEach(field -> texts.addAll(field.texts));
+            return texts;
+        }
+
+        /**
+         * Writes the vectors to the document as lists of floats. Top level targets are appended to the document,
+         * nested targets are put next to their source values.
+         *
+         * @param ingestDocument {@link IngestDocument} the vectors are written to
+         * @param vectors vectors of the texts returned by {@link #getTexts}, in the same order
+         */
+        public void write(final IngestDocument ingestDocument, final List<float[]> vectors) {
+            write(ingestDocument, vectors, VectorUtil::vectorAsArrayToList);
+        }
+
+        /**
+         * Writes the vectors to the document in the form produced by sourceValue, such as a list of quantized values.
+         *
+         * @param ingestDocument {@link IngestDocument} the vectors are written to
+         * @param vectors vectors of the texts returned by {@link #getTexts}, in the same order
+         * @param sourceValue converts a vector to the value written to the document source
+         */
+        public void write(final IngestDocument ingestDocument, final List<float[]> vectors, final Function<float[], ?> sourceValue) {
+            int index = 0;
+            for (FieldExtraction field : fields) {
+                for (Slot slot : field.slots) {
+                    index = slot.write(ingestDocument, vectors, index, sourceValue);
+                }
+            }
+        }
+    }
+
+    /**
+     * Texts and vector slots of one configured top level field.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class FieldExtraction {
+        /**
+         * Target of the vectors for a leaf field, source key for a map type field
+         */
+        @Getter
+        private final String key;
+        @Getter
+        private final List<String> texts;
+        private final List<Slot> slots;
+        // set if a list nested in the field has a null element, which keeps its position in texts and slots
+        private boolean nullListElement;
+
+        /**
+         * @param sourceAndMetadataMap source of the document
+         * @return true if the document already holds vectors in every slot of the field, either arrays or base64 encoded
+         */
+        public boolean hasVectors(final Map<String, Object> sourceAndMetadataMap) {
+            for (Slot slot : slots) {
+                final Object vectors = (slot.parent == null ? sourceAndMetadataMap : slot.parent).get(slot.target);
+                if (slot.list
+                    ? !(vectors instanceof List) || ((List<?>) vectors).size() != slot.size
+                    : !(vectors instanceof List) && !(vectors instanceof String)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Removes the vectors of the top level slots, which would otherwise be appended to instead of replaced.
+         *
+         * @param sourceAndMetadataMap source of the document
+         */
+        public void removeTopLevelVectors(final Map<String, Object> sourceAndMetadataMap) {
+            for (Slot slot : slots) {
+                if (slot.parent == null) {
+                    sourceAndMetadataMap.remove(slot.target);
+                }
+            }
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Slot {
+        // null for top level targets
+        private final Map<String, Object> parent;
+        private final String target;
+        private final boolean list;
+        private final int size;
+
+        private int write(
+            final IngestDocument ingestDocument,
+            final List<float[]> vectors,
+            final int index,
+            final Function<float[], ?> sourceValue
+        ) {
+            final Object value;
+            if (list) {
+                final List<Map<String, Object>> listValue = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    listValue.add(ImmutableMap.of(LIST_TYPE_NESTED_MAP_KEY, sourceValue.apply(vectors.get(index + i))));
+                }
+                value = listValue;
+            } else {
+                value = sourceValue.apply(vectors.get(index));
+            }
+            if (parent != null) {
+                parent.put(target, value);
+            } else if (value instanceof List) {
+                ingestDocument.appendFieldValue(target, value);
+            } else {
+                // an encoded vector is a single value, appending it would wrap it in a list
+                ingestDocument.setFieldValue(target, value);
+            }
+            return index + size;
+        }
+    }
+}
@@ -15,16 +15,22 @@ import lombok.extern.log4j.Log4j2;
 
 import org.apache.commons.lang.StringUtils;
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.neuralsearch.ext.QuestionExtBuilder;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.search.summary.GeneratedText;
 import org.opensearch.neuralsearch.search.summary.GenerativeTextLLMSearchResponse;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.stats.NeuralStatsOperation;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 
+import com.google.common.annotations.VisibleForTesting;
+
 @Log4j2
 public class GenerativeTextLLMProcessor extends AbstractProcessor implements SearchResponseProcessor {
 
@@ -33,6 +39,7 @@ public class GenerativeTextLLMProcessor extends AbstractProcessor implements Sea
     private final MLCommonsClientAccessor clientAccessor;
     private final String modelId;
     private final ContextType contextType;
+    private final NeuralStats neuralStats;
 
     public GenerativeTextLLMProcessor(
         final String tag,
@@ -40,18 +47,66 @@ public class GenerativeTextLLMProcessor extends AbstractProcessor implements Sea
         final MLCommonsClientAccessor mlCommonsClientAccessor,
         final List<String> fields,
         final String modelId,
-        final String usecase
+        final String usecase,
+        final NeuralStats neuralStats
     ) {
         super(description, tag);
         this.clientAccessor = mlCommonsClientAccessor;
+        this.neuralStats = neuralStats;
         this.fields = fields;
         this.modelId = modelId;
         this.contextType = usecase == null ? ContextType.SUMMARY : ContextType.valueOf(usecase.toUpperCase(Locale.ROOT));
     }
 
+    /**
+     * The search pipeline of OpenSearch 2.7 only runs synchronous response processors, so the calling thread waits for
+     * the generated text of the asynchronous predict call, then builds the search response itself.
+     */
     @Override
     public SearchResponse processResponse(SearchRequest searchRequest, SearchResponse searchResponse) {
-        final GeneratedText generatedText = generateTextFromLLM(searchRequest, searchResponse);
+        final PlainActionFuture<GeneratedText> future = PlainActionFuture.newFuture();
+        generateText(searchRequest, searchResponse, future);
+        return buildSearchResponse(searchResponse, future.actionGet());
+    }
+
+    private void generateText(
+        final SearchRequest searchRequest,
+        final SearchResponse searchResponse,
+        final ActionListener<GeneratedText> generatedTextListener
+    ) {
+        final ActionListener<GeneratedText> listener = neuralStats.track(
+            NeuralStatsOperation.GENERATIVE_TEXT_LLM_PROCESSOR,
+            modelId,
+            getTag(),
+            searchResponse.getHits().getHits().length,
+            generatedTextListener
+        );
+        final String context;
+        try {
+            context = createContextForLLM(searchRequest, searchResponse);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        log.info("Calling the Model {} with a context {}", modelId, context);
+        clientAccessor.predict(context, modelId, ActionListener.wrap(listener::onResponse, e -> {
+            log.error("Error while calling ML Commons Predict API for context: {}", context, e);
+            listener.onResponse(
+                new GeneratedText(
+                    StringUtils.EMPTY,
+                    String.format(
+                        Locale.ROOT,
+                        "Error Happened while calling the Predict API for model : %s with context: %s. Error is: %s",
+                        modelId,
+                        context,
+                        e.getMessage()
+                    )
+                )
+            );
+        }));
+    }
+
+    private SearchResponse buildSearchResponse(final SearchResponse searchResponse, final GeneratedText generatedText) {
         generatedText.setProcessorTag(getTag());
         generatedText.setUsecase(contextType.name);
         List<GeneratedText> generatedTexts = new ArrayList<>();
@@ -82,27 +137,8 @@ public class GenerativeTextLLMProcessor extends AbstractProcessor implements Sea
         return TYPE;
     }
 
-    private GeneratedText generateTextFromLLM(SearchRequest searchRequest, SearchResponse searchResponse) {
-        final String context = createContextForLLM(searchRequest, searchResponse);
-        try {
-            log.info("Calling the Model {} with a context {}", modelId, context);
-            return clientAccessor.predict(context, modelId);
-        } catch (Exception e) {
-            log.error("Error while calling ML Commons Predict API for context: {}", context, e);
-            return new GeneratedText(
-                StringUtils.EMPTY,
-                String.format(
-                    Locale.ROOT,
-                    "Error Happened while calling the Predict API for model : %s with context: %s. Error is: %s",
-                    modelId,
-                    context,
-                    e.getMessage()
-                )
-            );
-        }
-    }
-
-    private String createContextForLLM(SearchRequest searchRequest, SearchResponse searchResponse) {
+    @VisibleForTesting
+    String createContextForLLM(SearchRequest searchRequest, SearchResponse searchResponse) {
         final StringBuilder contextBuilder = new StringBuilder();
         createContextForPromptUsingSearchResponse(contextBuilder, searchResponse);
         return contextType.createContext(contextBuilder, searchRequest);
@@ -5,31 +5,44 @@
 
 package org.opensearch.neuralsearch.processor;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
-import java.util.function.Supplier;
-import java.util.stream.IntStream;
 
 import lombok.extern.log4j.Log4j2;
 
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.action.ActionListener;
-import org.opensearch.env.Environment;
-import org.opensearch.index.mapper.MapperService;
+import org.opensearch.common.hash.MurmurHash3;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.IngestDocument;
-import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.cache.CacheAwareInference;
+import org.opensearch.neuralsearch.cache.EmbeddingCache;
+import org.opensearch.neuralsearch.common.VectorUtil;
+import org.opensearch.neuralsearch.ml.InferenceBatchQueue;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.stats.NeuralStatsOperation;
+import org.opensearch.neuralsearch.vector.ScalarQuantizer;
+import org.opensearch.neuralsearch.vector.VectorEncoding;
+import org.opensearch.neuralsearch.vector.VectorProjection;
+import org.opensearch.neuralsearch.vector.VectorProjectionStore;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.ImmutableMap;
 
 /**
  * This processor is used for user input data text embedding processing, model_id can be used to indicate which model user use,
  * and field_map can be used to indicate which fields needs text embedding and the corresponding keys for the text embedding results.
+ * With projection, the vectors are projected by the named {@link VectorProjection} before they are written. With
+ * dimensions, only the first dimensions of the vectors are kept and re-normalized. The quantization option, which
+ * writes int8 values, is rejected until k-NN supports byte vector fields, see {@link ScalarQuantizer}. With encoding,
+ * float vectors are written as base64 strings instead of arrays, see {@link VectorEncoding}.
  */
 @Log4j2
 public class TextEmbeddingProcessor extends AbstractProcessor {
@@ -37,46 +50,68 @@ public class TextEmbeddingProcessor extends AbstractProcessor {
     public static final String TYPE = "text_embedding";
     public static final String MODEL_ID_FIELD = "model_id";
     public static final String FIELD_MAP_FIELD = "field_map";
-
-    private static final String LIST_TYPE_NESTED_MAP_KEY = "knn";
+    public static final String SKIP_UNCHANGED_FIELD = "skip_unchanged";
+    public static final String FINGERPRINT_FIELD_SUFFIX = "_fingerprint";
+    public static final String QUANTIZATION_FIELD = "quantization";
+    public static final String DIMENSIONS_FIELD = "dimensions";
+    public static final String PROJECTION_FIELD = "projection";
+    public static final String ENCODING_FIELD = "encoding";
 
     @VisibleForTesting
     private final String modelId;
 
-    private final Map<String, Object> fieldMap;
+    private final FieldMapPlan fieldMapPlan;
+
+    private final boolean skipUnchanged;
+
+    // null if the vectors are written as produced by the model
+    private final String projection;
+
+    // null if the vectors are written with all the dimensions of the model
+    private final Integer dimensions;
+
+    // null if the vectors are written as floats
+    private final ScalarQuantizer quantizer;
 
-    private final MLCommonsClientAccessor mlCommonsClientAccessor;
+    private final VectorEncoding encoding;
 
-    private final Environment environment;
+    private final InferenceBatchQueue inferenceBatchQueue;
+
+    private final EmbeddingCache embeddingCache;
+
+    private final VectorProjectionStore projectionStore;
+
+    private final NeuralStats neuralStats;
 
     public TextEmbeddingProcessor(
         String tag,
         String description,
         String modelId,
-        Map<String, Object> fieldMap,
-        MLCommonsClientAccessor clientAccessor,
-        Environment environment
+        FieldMapPlan fieldMapPlan,
+        boolean skipUnchanged,
+        String projection,
+        Integer dimensions,
+        ScalarQuantizer quantizer,
+        VectorEncoding encoding,
+        InferenceBatchQueue inferenceBatchQueue,
+        EmbeddingCache embeddingCache,
+        VectorProjectionStore projectionStore,
+        NeuralStats neuralStats
     ) {
         super(tag, description);
         if (StringUtils.isBlank(modelId)) throw new IllegalArgumentException("model_id is null or empty, can not process it");
-        validateEmbeddingConfiguration(fieldMap);
 
         this.modelId = modelId;
-        this.fieldMap = fieldMap;
-        this.mlCommonsClientAccessor = clientAccessor;
-        this.environment = environment;
-    }
-
-    private void validateEmbeddingConfiguration(Map<String, Object> fieldMap) {
-        if (fieldMap == null
-            || fieldMap.size() == 0
-            || fieldMap.entrySet()
-                .stream()
-                .anyMatch(
-                    x -> StringUtils.isBlank(x.getKey()) || Objects.isNull(x.getValue()) || StringUtils.isBlank(x.getValue().toString())
-                )) {
-            throw new IllegalArgumentException("Unable to create the TextEmbedding processor as field_map has invalid key or value");
-        }
+        this.fieldMapPlan = fieldMapPlan;
+        this.skipUnchanged = skipUnchanged;
+        this.projection = projection;
+        this.dimensions = dimensions;
+        this.quantizer = quantizer;
+        this.encoding = encoding;
+        this.inferenceBatchQueue = inferenceBatchQueue;
+        this.embeddingCache = embeddingCache;
+        this.projectionStore = projectionStore;
+        this.neuralStats = neuralStats;
     }
 
     @Override
@@ -88,24 +123,42 @@ public class TextEmbeddingProcessor extends AbstractProcessor {
      * This method will be invoked by PipelineService to make async inference and then delegate the handler to
      * process the inference response or failure.
      * @param ingestDocument {@link IngestDocument} which is the document passed to processor.
-     * @param handler {@link BiConsumer} which is the handler which can be used after the inference task is done.
+     * @param processorHandler {@link BiConsumer} which is the handler which can be used after the inference task is done.
      */
     @Override
-    public void execute(IngestDocument ingestDocument, BiConsumer<IngestDocument, Exception> handler) {
+    public void execute(IngestDocument ingestDocument, BiConsumer<IngestDocument, Exception> processorHandler) {
         // When received a bulk indexing request, the pipeline will be executed in this method, (see
         // https://github.com/opensearch-project/OpenSearch/blob/main/server/src/main/java/org/opensearch/action/bulk/TransportBulkAction.java#L226).
         // Before the pipeline execution, the pipeline will be marked as resolved (means executed),
         // and then this overriding method will be invoked when executing the text embedding processor.
         // After the inference completes, the handler will invoke the doInternalExecute method again to run actual write operation.
+        ActionListener<IngestDocument> statsListener = neuralStats.track(
+            NeuralStatsOperation.TEXT_EMBEDDING_PROCESSOR,
+            modelId,
+            getTag(),
+            1,
+            ActionListener.wrap(document -> processorHandler.accept(document, null), e -> processorHandler.accept(null, e))
+        );
+        BiConsumer<IngestDocument, Exception> handler = (document, e) -> {
+            if (e == null) {
+                statsListener.onResponse(document);
+            } else {
+                statsListener.onFailure(e);
+            }
+        };
         try {
-            validateEmbeddingFieldsValue(ingestDocument);
-            Map<String, Object> knnMap = buildMapWithKnnKeyAndOriginalValue(ingestDocument);
-            List<String> inferenceList = createInferenceList(knnMap);
+            FieldMapPlan.Extraction extraction = extractFields(ingestDocument);
+            extraction.validate();
+            Map<String, String> fingerprints = skipUnchanged
+                ? removeUnchangedFields(extraction, ingestDocument.getSourceAndMetadata())
+                : Collections.emptyMap();
+            List<String> inferenceList = extraction.getTexts();
             if (inferenceList.size() == 0) {
                 handler.accept(ingestDocument, null);
             } else {
-                mlCommonsClientAccessor.inferenceSentences(this.modelId, inferenceList, ActionListener.wrap(vectors -> {
-                    appendVectorFieldsToDocument(ingestDocument, knnMap, vectors);
+                inferenceDistinctSentences(inferenceList, ActionListener.wrap(vectors -> {
+                    appendVectorFieldsToDocument(ingestDocument, extraction, vectors);
+                    fingerprints.forEach(ingestDocument.getSourceAndMetadata()::put);
                     handler.accept(ingestDocument, null);
                 }, e -> { handler.accept(null, e); }));
             }
@@ -115,196 +168,164 @@ public class TextEmbeddingProcessor extends AbstractProcessor {
 
     }
 
-    void appendVectorFieldsToDocument(IngestDocument ingestDocument, Map<String, Object> knnMap, List<List<Float>> vectors) {
-        Objects.requireNonNull(vectors, "embedding failed, inference returns null result!");
-        log.debug("Text embedding result fetched, starting build vector output!");
-        Map<String, Object> textEmbeddingResult = buildTextEmbeddingResult(knnMap, vectors, ingestDocument.getSourceAndMetadata());
-        textEmbeddingResult.forEach(ingestDocument::appendFieldValue);
-    }
-
-    @SuppressWarnings({ "unchecked" })
-    private List<String> createInferenceList(Map<String, Object> knnKeyMap) {
-        List<String> texts = new ArrayList<>();
-        knnKeyMap.entrySet().stream().filter(knnMapEntry -> knnMapEntry.getValue() != null).forEach(knnMapEntry -> {
-            Object sourceValue = knnMapEntry.getValue();
-            if (sourceValue instanceof List) {
-                texts.addAll(((List<String>) sourceValue));
-            } else if (sourceValue instanceof Map) {
-                createInferenceListForMapTypeInput(sourceValue, texts);
-            } else {
-                texts.add(sourceValue.toString());
+    /**
+     * Documents often repeat the same text in several fields or list entries. Each distinct text is inferred only
+     * once and its vector is fanned back out to every position of inferenceList, so the listener is called with the
+     * vectors of all the texts, in the order of inferenceList.
+     */
+    private void inferenceDistinctSentences(List<String> inferenceList, ActionListener<List<float[]>> listener) {
+        Map<String, Integer> distinctIndexes = new HashMap<>();
+        List<String> distinctTexts = new ArrayList<>();
+        int[] positions = new int[inferenceList.size()];
+        for (int i = 0; i < inferenceList.size(); i++) {
+            String text = inferenceList.get(i);
+            Integer distinctIndex = distinctIndexes.get(text);
+            if (distinctIndex == null) {
+                distinctIndex = distinctTexts.size();
+                distinctIndexes.put(text, distinctIndex);
+                distinctTexts.add(text);
             }
-        });
-        return texts;
-    }
-
-    @SuppressWarnings("unchecked")
-    private void createInferenceListForMapTypeInput(Object sourceValue, List<String> texts) {
-        if (sourceValue instanceof Map) {
-            ((Map<String, Object>) sourceValue).forEach((k, v) -> createInferenceListForMapTypeInput(v, texts));
-        } else if (sourceValue instanceof List) {
-            texts.addAll(((List<String>) sourceValue));
-        } else {
-            if (sourceValue == null) return;
-            texts.add(sourceValue.toString());
+            positions[i] = distinctIndex;
+        }
+        if (distinctTexts.size() == inferenceList.size()) {
+            inferenceAndProjectSentences(inferenceList, listener);
+            return;
         }
+        log.debug("Inferring {} distinct texts out of {} texts of the document", distinctTexts.size(), inferenceList.size());
+        inferenceAndProjectSentences(distinctTexts, ActionListener.wrap(distinctVectors -> {
+            if (distinctVectors.size() != distinctTexts.size()) {
+                throw new IllegalStateException(
+                    "Unexpected number of vectors produced. Expected ["
+                        + distinctTexts.size()
+                        + "] but got ["
+                        + distinctVectors.size()
+                        + "]"
+                );
+            }
+            List<float[]> vectors = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                vectors.add(distinctVectors.get(position));
+            }
+            listener.onResponse(vectors);
+        }, listener::onFailure));
     }
 
-    @VisibleForTesting
-    Map<String, Object> buildMapWithKnnKeyAndOriginalValue(IngestDocument ingestDocument) {
-        Map<String, Object> sourceAndMetadataMap = ingestDocument.getSourceAndMetadata();
-        Map<String, Object> mapWithKnnKeys = new LinkedHashMap<>();
-        for (Map.Entry<String, Object> fieldMapEntry : fieldMap.entrySet()) {
-            String originalKey = fieldMapEntry.getKey();
-            Object targetKey = fieldMapEntry.getValue();
-            if (targetKey instanceof Map) {
-                Map<String, Object> treeRes = new LinkedHashMap<>();
-                buildMapWithKnnKeyAndOriginalValueForMapType(originalKey, targetKey, sourceAndMetadataMap, treeRes);
-                mapWithKnnKeys.put(originalKey, treeRes.get(originalKey));
-            } else {
-                mapWithKnnKeys.put(String.valueOf(targetKey), sourceAndMetadataMap.get(originalKey));
-            }
+    /**
+     * Infers the vectors of the texts and projects them with the configured {@link VectorProjection}, which is loaded
+     * once the vectors are inferred.
+     */
+    private void inferenceAndProjectSentences(List<String> inferenceList, ActionListener<List<float[]>> listener) {
+        if (projection == null) {
+            inferenceSentencesWithCache(inferenceList, listener);
+            return;
         }
-        return mapWithKnnKeys;
+        inferenceSentencesWithCache(
+            inferenceList,
+            ActionListener.wrap(
+                vectors -> projectionStore.get(
+                    projection,
+                    ActionListener.wrap(loaded -> listener.onResponse(loaded.project(vectors)), listener::onFailure)
+                ),
+                listener::onFailure
+            )
+        );
     }
 
-    @SuppressWarnings({ "unchecked" })
-    private void buildMapWithKnnKeyAndOriginalValueForMapType(
-        String parentKey,
-        Object knnKey,
-        Map<String, Object> sourceAndMetadataMap,
-        Map<String, Object> treeRes
-    ) {
-        if (knnKey == null || sourceAndMetadataMap == null) return;
-        if (knnKey instanceof Map) {
-            Map<String, Object> next = new LinkedHashMap<>();
-            for (Map.Entry<String, Object> nestedFieldMapEntry : ((Map<String, Object>) knnKey).entrySet()) {
-                buildMapWithKnnKeyAndOriginalValueForMapType(
-                    nestedFieldMapEntry.getKey(),
-                    nestedFieldMapEntry.getValue(),
-                    (Map<String, Object>) sourceAndMetadataMap.get(parentKey),
-                    next
-                );
-            }
-            treeRes.put(parentKey, next);
-        } else {
-            String key = String.valueOf(knnKey);
-            treeRes.put(key, sourceAndMetadataMap.get(parentKey));
+    /**
+     * Looks up the vectors of the inference texts in the {@link EmbeddingCache} and sends only the cache misses to the
+     * model. The listener is called with the vectors of all the texts, in the order of inferenceList.
+     */
+    private void inferenceSentencesWithCache(List<String> inferenceList, ActionListener<List<float[]>> listener) {
+        if (!embeddingCache.isEnabled()) {
+            inferenceBatchQueue.inferenceSentences(this.modelId, inferenceList, listener);
+            return;
         }
+        CacheAwareInference.inferenceSentences(
+            inferenceList,
+            text -> embeddingCache.get(this.modelId, text),
+            (missTexts, missListener) -> inferenceBatchQueue.inferenceSentences(this.modelId, missTexts, missListener),
+            (text, vector) -> embeddingCache.put(this.modelId, text, vector),
+            listener
+        );
     }
 
-    @SuppressWarnings({ "unchecked" })
     @VisibleForTesting
-    Map<String, Object> buildTextEmbeddingResult(
-        Map<String, Object> knnMap,
-        List<List<Float>> modelTensorList,
-        Map<String, Object> sourceAndMetadataMap
-    ) {
-        IndexWrapper indexWrapper = new IndexWrapper(0);
-        Map<String, Object> result = new LinkedHashMap<>();
-        for (Map.Entry<String, Object> knnMapEntry : knnMap.entrySet()) {
-            String knnKey = knnMapEntry.getKey();
-            Object sourceValue = knnMapEntry.getValue();
-            if (sourceValue instanceof String) {
-                List<Float> modelTensor = modelTensorList.get(indexWrapper.index++);
-                result.put(knnKey, modelTensor);
-            } else if (sourceValue instanceof List) {
-                result.put(knnKey, buildTextEmbeddingResultForListType((List<String>) sourceValue, modelTensorList, indexWrapper));
-            } else if (sourceValue instanceof Map) {
-                putTextEmbeddingResultToSourceMapForMapType(knnKey, sourceValue, modelTensorList, indexWrapper, sourceAndMetadataMap);
-            }
-        }
-        return result;
+    FieldMapPlan.Extraction extractFields(IngestDocument ingestDocument) {
+        return fieldMapPlan.extract(ingestDocument.getSourceAndMetadata());
     }
 
-    @SuppressWarnings({ "unchecked" })
-    private void putTextEmbeddingResultToSourceMapForMapType(
-        String knnKey,
-        Object sourceValue,
-        List<List<Float>> modelTensorList,
-        IndexWrapper indexWrapper,
-        Map<String, Object> sourceAndMetadataMap
-    ) {
-        if (knnKey == null || sourceAndMetadataMap == null || sourceValue == null) return;
-        if (sourceValue instanceof Map) {
-            for (Map.Entry<String, Object> inputNestedMapEntry : ((Map<String, Object>) sourceValue).entrySet()) {
-                putTextEmbeddingResultToSourceMapForMapType(
-                    inputNestedMapEntry.getKey(),
-                    inputNestedMapEntry.getValue(),
-                    modelTensorList,
-                    indexWrapper,
-                    (Map<String, Object>) sourceAndMetadataMap.get(knnKey)
-                );
-            }
-        } else if (sourceValue instanceof String) {
-            sourceAndMetadataMap.put(knnKey, modelTensorList.get(indexWrapper.index++));
-        } else if (sourceValue instanceof List) {
-            sourceAndMetadataMap.put(
-                knnKey,
-                buildTextEmbeddingResultForListType((List<String>) sourceValue, modelTensorList, indexWrapper)
-            );
-        }
+    void appendVectorFieldsToDocument(IngestDocument ingestDocument, FieldMapPlan.Extraction extraction, List<float[]> vectors) {
+        Objects.requireNonNull(vectors, "embedding failed, inference returns null result!");
+        log.debug("Text embedding result fetched, starting build vector output!");
+        extraction.write(ingestDocument, vectors, this::toSourceValue);
     }
 
-    private List<Map<String, List<Float>>> buildTextEmbeddingResultForListType(
-        List<String> sourceValue,
-        List<List<Float>> modelTensorList,
-        IndexWrapper indexWrapper
-    ) {
-        List<Map<String, List<Float>>> numbers = new ArrayList<>();
-        IntStream.range(0, sourceValue.size())
-            .forEachOrdered(x -> numbers.add(ImmutableMap.of(LIST_TYPE_NESTED_MAP_KEY, modelTensorList.get(indexWrapper.index++))));
-        return numbers;
+    /**
+     * Truncates the vector to the configured dimensions, then quantizes or encodes it. The vectors in the embedding
+     * cache are kept as produced by the model, before the projection.
+     */
+    private Object toSourceValue(float[] vector) {
+        float[] truncated = dimensions == null ? vector : VectorUtil.truncate(vector, dimensions);
+        return quantizer == null ? encoding.encode(truncated) : VectorUtil.vectorAsByteArrayToList(quantizer.quantize(truncated));
     }
 
-    private void validateEmbeddingFieldsValue(IngestDocument ingestDocument) {
-        Map<String, Object> sourceAndMetadataMap = ingestDocument.getSourceAndMetadata();
-        for (Map.Entry<String, Object> embeddingFieldsEntry : fieldMap.entrySet()) {
-            Object sourceValue = sourceAndMetadataMap.get(embeddingFieldsEntry.getKey());
-            if (sourceValue != null) {
-                String sourceKey = embeddingFieldsEntry.getKey();
-                Class<?> sourceValueClass = sourceValue.getClass();
-                if (List.class.isAssignableFrom(sourceValueClass) || Map.class.isAssignableFrom(sourceValueClass)) {
-                    validateNestedTypeValue(sourceKey, sourceValue, () -> 1);
-                } else if (!String.class.isAssignableFrom(sourceValueClass)) {
-                    throw new IllegalArgumentException("field [" + sourceKey + "] is neither string nor nested type, can not process it");
-                } else if (StringUtils.isBlank(sourceValue.toString())) {
-                    throw new IllegalArgumentException("field [" + sourceKey + "] has empty string value, can not process it");
-                }
+    /**
+     * Removes the fields whose texts were already embedded by this model from the extraction, so they are not inferred
+     * again. A field is unchanged when the document carries the vectors of the field together with a fingerprint
+     * which matches the fingerprint of its current texts. The vectors of changed fields are removed from the
+     * document as they are stale.
+     *
+     * @return fingerprints of the changed fields keyed by their fingerprint field
+     */
+    private Map<String, String> removeUnchangedFields(FieldMapPlan.Extraction extraction, Map<String, Object> sourceAndMetadataMap) {
+        Map<String, String> fingerprints = new HashMap<>();
+        Iterator<FieldMapPlan.FieldExtraction> iterator = extraction.getFields().iterator();
+        while (iterator.hasNext()) {
+            FieldMapPlan.FieldExtraction field = iterator.next();
+            String fingerprintKey = field.getKey() + FINGERPRINT_FIELD_SUFFIX;
+            String fingerprint = fingerprint(field.getTexts());
+            if (fingerprint.equals(sourceAndMetadataMap.get(fingerprintKey)) && field.hasVectors(sourceAndMetadataMap)) {
+                log.debug("Texts of field [{}] are unchanged, skipping the inference", field.getKey());
+                iterator.remove();
+            } else {
+                field.removeTopLevelVectors(sourceAndMetadataMap);
+                fingerprints.put(fingerprintKey, fingerprint);
             }
         }
+        return fingerprints;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private void validateNestedTypeValue(String sourceKey, Object sourceValue, Supplier<Integer> maxDepthSupplier) {
-        int maxDepth = maxDepthSupplier.get();
-        if (maxDepth > MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING.get(environment.settings())) {
-            throw new IllegalArgumentException("map type field [" + sourceKey + "] reached max depth limit, can not process it");
-        } else if ((List.class.isAssignableFrom(sourceValue.getClass()))) {
-            validateListTypeValue(sourceKey, sourceValue);
-        } else if (Map.class.isAssignableFrom(sourceValue.getClass())) {
-            ((Map) sourceValue).values()
-                .stream()
-                .filter(Objects::nonNull)
-                .forEach(x -> validateNestedTypeValue(sourceKey, x, () -> maxDepth + 1));
-        } else if (!String.class.isAssignableFrom(sourceValue.getClass())) {
-            throw new IllegalArgumentException("map type field [" + sourceKey + "] has non-string type, can not process it");
-        } else if (StringUtils.isBlank(sourceValue.toString())) {
-            throw new IllegalArgumentException("map type field [" + sourceKey + "] has empty string, can not process it");
+    /**
+     * Compact fingerprint of the texts of a field, of the model and projection embedding them and of the dimensions,
+     * quantization and encoding of the written vectors, changes if any of them changes. The options are only appended
+     * when set, so the fingerprints written without them stay valid.
+     */
+    private String fingerprint(List<String> texts) {
+        StringBuilder content = new StringBuilder(modelId);
+        if (projection != null) {
+            content.append('\u0000').append(projection);
         }
-    }
-
-    @SuppressWarnings({ "rawtypes" })
-    private static void validateListTypeValue(String sourceKey, Object sourceValue) {
-        for (Object value : (List) sourceValue) {
-            if (value == null) {
-                throw new IllegalArgumentException("list type field [" + sourceKey + "] has null, can not process it");
-            } else if (!(value instanceof String)) {
-                throw new IllegalArgumentException("list type field [" + sourceKey + "] has non string value, can not process it");
-            } else if (StringUtils.isBlank(value.toString())) {
-                throw new IllegalArgumentException("list type field [" + sourceKey + "] has empty string, can not process it");
-            }
+        if (dimensions != null) {
+            content.append('\u0000').append("dimensions=").append(dimensions);
+        }
+        if (quantizer != null) {
+            content.append('\u0000')
+                .append("quantization=")
+                .append(quantizer.getMin())
+                .append(',')
+                .append(quantizer.getMax())
+                .append(',')
+                .append(quantizer.getScale());
         }
+        if (encoding != VectorEncoding.ARRAY) {
+            content.append('\u0000').append("encoding=").append(encoding.getName());
+        }
+        for (String text : texts) {
+            content.append('\u0000').append(text.length()).append(':').append(text);
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, 0, new MurmurHash3.Hash128());
+        return String.format(Locale.ROOT, "%016x%016x", hash.h1, hash.h2);
     }
 
     @Override
@@ -312,20 +333,4 @@ public class TextEmbeddingProcessor extends AbstractProcessor {
         return TYPE;
     }
 
-    /**
-     * Since we need to build a {@link List<String>} as the input for text embedding, and the result type is {@link List<Float>} of {@link List},
-     * we need to map the result back to the input one by one with exactly order. For nested map type input, we're performing a pre-order
-     * traversal to extract the input strings, so when mapping back to the nested map, we still need a pre-order traversal to ensure the
-     * order. And we also need to ensure the index pointer goes forward in the recursive, so here the IndexWrapper is to store and increase
-     * the index pointer during the recursive.
-     * index: the index pointer of the text embedding result.
-     */
-    static class IndexWrapper {
-        private int index;
-
-        protected IndexWrapper(int index) {
-            this.index = index;
-        }
-    }
-
 }
@@ -16,6 +16,7 @@ import org.opensearch.core.ParseField;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.GenerativeTextLLMProcessor;
+import org.opensearch.neuralsearch.stats.NeuralStats;
 import org.opensearch.search.pipeline.Processor;
 
 /**
@@ -27,9 +28,11 @@ public class GenerativeTextLLMProcessorFactory implements Processor.Factory {
     private static final ParseField USE_CASE = new ParseField("usecase");
 
     private final MLCommonsClientAccessor clientAccessor;
+    private final NeuralStats neuralStats;
 
-    public GenerativeTextLLMProcessorFactory(final MLCommonsClientAccessor clientAccessor) {
+    public GenerativeTextLLMProcessorFactory(final MLCommonsClientAccessor clientAccessor, final NeuralStats neuralStats) {
         this.clientAccessor = clientAccessor;
+        this.neuralStats = neuralStats;
     }
 
     @Override
@@ -48,6 +51,6 @@ public class GenerativeTextLLMProcessorFactory implements Processor.Factory {
             USE_CASE.getPreferredName()
         );
         final String tag = StringUtils.isEmpty(processorTag) ? modelId : processorTag;
-        return new GenerativeTextLLMProcessor(tag, description, clientAccessor, fields, modelId, usecase);
+        return new GenerativeTextLLMProcessor(tag, description, clientAccessor, fields, modelId, usecase, neuralStats);
     }
 }
@@ -5,26 +5,53 @@
 
 package org.opensearch.neuralsearch.processor.factory;
 
+import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readIntProperty;
+import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 import static org.opensearch.ingest.ConfigurationUtils.readMap;
+import static org.opensearch.ingest.ConfigurationUtils.readOptionalMap;
+import static org.opensearch.ingest.ConfigurationUtils.readOptionalStringProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.*;
 
 import java.util.Map;
 
 import org.opensearch.env.Environment;
+import org.opensearch.index.mapper.MapperService;
 import org.opensearch.ingest.Processor;
-import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.cache.EmbeddingCache;
+import org.opensearch.neuralsearch.ml.InferenceBatchQueue;
+import org.opensearch.neuralsearch.processor.FieldMapPlan;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.vector.ScalarQuantizer;
+import org.opensearch.neuralsearch.vector.VectorEncoding;
+import org.opensearch.neuralsearch.vector.VectorProjectionStore;
 
 public class TextEmbeddingProcessorFactory implements Processor.Factory {
 
-    private final MLCommonsClientAccessor clientAccessor;
+    private final InferenceBatchQueue inferenceBatchQueue;
+
+    private final EmbeddingCache embeddingCache;
+
+    private final VectorProjectionStore projectionStore;
 
     private final Environment environment;
 
-    public TextEmbeddingProcessorFactory(MLCommonsClientAccessor clientAccessor, Environment environment) {
-        this.clientAccessor = clientAccessor;
+    private final NeuralStats neuralStats;
+
+    public TextEmbeddingProcessorFactory(
+        InferenceBatchQueue inferenceBatchQueue,
+        EmbeddingCache embeddingCache,
+        VectorProjectionStore projectionStore,
+        Environment environment,
+        NeuralStats neuralStats
+    ) {
+        this.inferenceBatchQueue = inferenceBatchQueue;
+        this.embeddingCache = embeddingCache;
+        this.projectionStore = projectionStore;
         this.environment = environment;
+        this.neuralStats = neuralStats;
     }
 
     @Override
@@ -36,6 +63,51 @@ public class TextEmbeddingProcessorFactory implements Processor.Factory {
     ) throws Exception {
         String modelId = readStringProperty(TYPE, processorTag, config, MODEL_ID_FIELD);
         Map<String, Object> filedMap = readMap(TYPE, processorTag, config, FIELD_MAP_FIELD);
-        return new TextEmbeddingProcessor(processorTag, description, modelId, filedMap, clientAccessor, environment);
+        boolean skipUnchanged = readBooleanProperty(TYPE, processorTag, config, SKIP_UNCHANGED_FIELD, false);
+        String projection = readOptionalStringProperty(TYPE, processorTag, config, PROJECTION_FIELD);
+        Integer dimensions = readIntProperty(TYPE, processorTag, config, DIMENSIONS_FIELD, null);
+        if (dimensions != null && dimensions <= 0) {
+            throw newConfigurationException(TYPE, processorTag, DIMENSIONS_FIELD, "must be a positive integer");
+        }
+        Map<String, Object> quantizationConfig = readOptionalMap(TYPE, processorTag, config, QUANTIZATION_FIELD);
+        ScalarQuantizer quantizer = null;
+        if (quantizationConfig != null) {
+            try {
+                ScalarQuantizer.checkSupported();
+                quantizer = ScalarQuantizer.parse(quantizationConfig);
+            } catch (IllegalArgumentException e) {
+                throw newConfigurationException(TYPE, processorTag, QUANTIZATION_FIELD, e.getMessage());
+            }
+        }
+        VectorEncoding encoding;
+        try {
+            encoding = VectorEncoding.fromName(
+                readStringProperty(TYPE, processorTag, config, ENCODING_FIELD, VectorEncoding.ARRAY.getName())
+            );
+        } catch (IllegalArgumentException e) {
+            throw newConfigurationException(TYPE, processorTag, ENCODING_FIELD, e.getMessage());
+        }
+        if (quantizer != null && encoding != VectorEncoding.ARRAY) {
+            throw newConfigurationException(TYPE, processorTag, ENCODING_FIELD, "quantized vectors can only be written as arrays");
+        }
+        FieldMapPlan fieldMapPlan = FieldMapPlan.compile(
+            filedMap,
+            MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING.get(environment.settings())
+        );
+        return new TextEmbeddingProcessor(
+            processorTag,
+            description,
+            modelId,
+            fieldMapPlan,
+            skipUnchanged,
+            projection,
+            dimensions,
+            quantizer,
+            encoding,
+            inferenceBatchQueue,
+            embeddingCache,
+            projectionStore,
+            neuralStats
+        );
     }
 }
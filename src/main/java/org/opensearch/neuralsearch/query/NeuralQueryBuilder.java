@@ -6,10 +6,10 @@
 package org.opensearch.neuralsearch.query;
 
 import static org.opensearch.knn.index.query.KNNQueryBuilder.FILTER_FIELD;
-import static org.opensearch.neuralsearch.common.VectorUtil.vectorAsListToArray;
 
 import java.io.IOException;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -22,6 +22,7 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.apache.lucene.search.Query;
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.common.ParsingException;
 import org.opensearch.common.SetOnce;
@@ -36,14 +37,20 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.knn.index.query.KNNQueryBuilder;
+import org.opensearch.neuralsearch.cache.EmbeddingCache;
+import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.vector.ScalarQuantizer;
+import org.opensearch.neuralsearch.vector.VectorProjection;
+import org.opensearch.neuralsearch.vector.VectorProjectionStore;
 
 import com.google.common.annotations.VisibleForTesting;
 
 /**
  * NeuralQueryBuilder is responsible for producing "neural" query types. A "neural" query type is a wrapper around a
  * k-NN vector query. It uses a ML language model to produce a dense vector from a query string that is then used as
- * the query vector for the k-NN search.
+ * the query vector for the k-NN search. The query vector is projected, truncated and quantized the same way as the
+ * vectors written by the text_embedding processor.
  */
 
 @Log4j2
@@ -65,12 +72,37 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
     @VisibleForTesting
     static final ParseField K_FIELD = new ParseField("k");
 
+    @VisibleForTesting
+    static final ParseField PROJECTION_FIELD = new ParseField("projection");
+
+    @VisibleForTesting
+    static final ParseField DIMENSIONS_FIELD = new ParseField("dimensions");
+
+    @VisibleForTesting
+    static final ParseField QUANTIZATION_FIELD = new ParseField("quantization");
+
     private static final int DEFAULT_K = 10;
 
+    // first version which streams the projection, dimensions and quantization of the query, the nodes of older
+    // versions run the query with the full float vector of the model
+    private static final Version MINIMAL_SUPPORTED_VERSION_VECTOR_OPTIONS = Version.V_2_7_0;
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
     private static MLCommonsClientAccessor ML_CLIENT;
 
-    public static void initialize(MLCommonsClientAccessor mlClient) {
+    private static EmbeddingCache QUERY_EMBEDDING_CACHE;
+
+    private static VectorProjectionStore PROJECTION_STORE;
+
+    public static void initialize(
+        MLCommonsClientAccessor mlClient,
+        EmbeddingCache queryEmbeddingCache,
+        VectorProjectionStore projectionStore
+    ) {
         NeuralQueryBuilder.ML_CLIENT = mlClient;
+        NeuralQueryBuilder.QUERY_EMBEDDING_CACHE = queryEmbeddingCache;
+        NeuralQueryBuilder.PROJECTION_STORE = projectionStore;
     }
 
     private String fieldName;
@@ -82,6 +114,12 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
     @Setter(AccessLevel.PACKAGE)
     private Supplier<float[]> vectorSupplier;
     private QueryBuilder filter;
+    // name of the projection of the query vector, the same as the one of the text_embedding processor
+    private String projection;
+    // dimensions the query vector is truncated to, the same as the ones of the text_embedding processor
+    private Integer dimensions;
+    // quantization of the query vector, the same as the one of the text_embedding processor which produced the vectors
+    private ScalarQuantizer quantization;
 
     /**
      * Constructor from stream input
@@ -96,6 +134,11 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         this.modelId = in.readString();
         this.k = in.readVInt();
         this.filter = in.readOptionalNamedWriteable(QueryBuilder.class);
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_VECTOR_OPTIONS)) {
+            this.projection = in.readOptionalString();
+            this.dimensions = in.readOptionalVInt();
+            this.quantization = in.readOptionalWriteable(ScalarQuantizer::new);
+        }
     }
 
     @Override
@@ -105,6 +148,11 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         out.writeString(this.modelId);
         out.writeVInt(this.k);
         out.writeOptionalNamedWriteable(this.filter);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_VECTOR_OPTIONS)) {
+            out.writeOptionalString(this.projection);
+            out.writeOptionalVInt(this.dimensions);
+            out.writeOptionalWriteable(this.quantization);
+        }
     }
 
     @Override
@@ -117,6 +165,15 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         if (filter != null) {
             xContentBuilder.field(FILTER_FIELD.getPreferredName(), filter);
         }
+        if (projection != null) {
+            xContentBuilder.field(PROJECTION_FIELD.getPreferredName(), projection);
+        }
+        if (dimensions != null) {
+            xContentBuilder.field(DIMENSIONS_FIELD.getPreferredName(), dimensions);
+        }
+        if (quantization != null) {
+            xContentBuilder.field(QUANTIZATION_FIELD.getPreferredName(), quantization);
+        }
         printBoostAndQueryName(xContentBuilder);
         xContentBuilder.endObject();
         xContentBuilder.endObject();
@@ -133,7 +190,10 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
      *    "k": int,
      *    "name": "string", (optional)
      *    "boost": float (optional),
-     *    "filter": map (optional)
+     *    "filter": map (optional),
+     *    "projection": "string" (optional),
+     *    "dimensions": int (optional),
+     *    "quantization": map (optional, rejected until k-NN supports byte vector fields)
      *  }
      * }
      *
@@ -165,6 +225,9 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         requireValue(neuralQueryBuilder.queryText(), "Query text must be provided for neural query");
         requireValue(neuralQueryBuilder.fieldName(), "Field name must be provided for neural query");
         requireValue(neuralQueryBuilder.modelId(), "Model ID must be provided for neural query");
+        if (neuralQueryBuilder.dimensions() != null && neuralQueryBuilder.dimensions() <= 0) {
+            throw new ParsingException(parser.getTokenLocation(), "[" + NAME + "] dimensions must be a positive integer");
+        }
 
         return neuralQueryBuilder;
     }
@@ -182,6 +245,10 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
                     neuralQueryBuilder.modelId(parser.text());
                 } else if (K_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     neuralQueryBuilder.k((Integer) NumberFieldMapper.NumberType.INTEGER.parse(parser.objectBytes(), false));
+                } else if (PROJECTION_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    neuralQueryBuilder.projection(parser.text());
+                } else if (DIMENSIONS_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    neuralQueryBuilder.dimensions(parser.intValue());
                 } else if (NAME_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     neuralQueryBuilder.queryName(parser.text());
                 } else if (BOOST_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
@@ -195,6 +262,13 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             } else if (token == XContentParser.Token.START_OBJECT) {
                 if (FILTER_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     neuralQueryBuilder.filter(parseInnerQueryBuilder(parser));
+                } else if (QUANTIZATION_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    try {
+                        ScalarQuantizer.checkSupported();
+                        neuralQueryBuilder.quantization(ScalarQuantizer.parse(parser.map()));
+                    } catch (IllegalArgumentException e) {
+                        throw new ParsingException(parser.getTokenLocation(), "[" + NAME + "] " + e.getMessage(), e);
+                    }
                 }
             } else {
                 throw new ParsingException(
@@ -217,17 +291,82 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         // create a new builder. Once the supplier's value gets set, we return a KNNQueryBuilder. Otherwise, we just
         // return the current unmodified query builder.
         if (vectorSupplier() != null) {
-            return vectorSupplier().get() == null ? this : new KNNQueryBuilder(fieldName(), vectorSupplier.get(), k(), filter());
+            return vectorSupplier().get() == null
+                ? this
+                : new KNNQueryBuilder(fieldName(), toQueryVector(vectorSupplier.get()), k(), filter());
+        }
+
+        // Popular query texts are served from the cache without going through the async action. The cached vector is
+        // copied, as it is shared with other queries and the k-NN query owns its vector. The cache keeps the vectors
+        // as produced by the model, the projection is applied once the vector is read. The model embeds the same
+        // normalized text the cache is keyed on, so every text of an entry gets the same vector.
+        final EmbeddingCache queryEmbeddingCache = QUERY_EMBEDDING_CACHE;
+        final String cacheKey = normalizeQueryText(queryText());
+        final float[] cachedVector = queryEmbeddingCache == null ? null : queryEmbeddingCache.get(modelId(), cacheKey);
+        if (cachedVector != null) {
+            if (projection() == null) {
+                return new KNNQueryBuilder(fieldName(), toQueryVector(cachedVector.clone()), k(), filter());
+            }
+            final VectorProjection loadedProjection = PROJECTION_STORE.getIfLoaded(projection());
+            if (loadedProjection != null) {
+                return new KNNQueryBuilder(fieldName(), toQueryVector(loadedProjection.project(cachedVector)), k(), filter());
+            }
         }
 
         SetOnce<float[]> vectorSetOnce = new SetOnce<>();
-        queryRewriteContext.registerAsyncAction(
-            ((client, actionListener) -> ML_CLIENT.inferenceSentence(modelId(), queryText(), ActionListener.wrap(floatList -> {
-                vectorSetOnce.set(vectorAsListToArray(floatList));
+        queryRewriteContext.registerAsyncAction((client, actionListener) -> {
+            final ActionListener<float[]> projectionListener = ActionListener.wrap(vector -> {
+                vectorSetOnce.set(vector);
                 actionListener.onResponse(null);
-            }, actionListener::onFailure)))
+            }, actionListener::onFailure);
+            if (cachedVector != null) {
+                project(cachedVector, projectionListener);
+                return;
+            }
+            ML_CLIENT.inferenceSentence(modelId(), cacheKey, ActionListener.wrap(vector -> {
+                if (queryEmbeddingCache != null) {
+                    queryEmbeddingCache.put(modelId(), cacheKey, vector.clone());
+                }
+                project(vector, projectionListener);
+            }, actionListener::onFailure));
+        });
+        return new NeuralQueryBuilder(
+            fieldName(),
+            queryText(),
+            modelId(),
+            k(),
+            vectorSetOnce::get,
+            filter(),
+            projection(),
+            dimensions(),
+            quantization()
         );
-        return new NeuralQueryBuilder(fieldName(), queryText(), modelId(), k(), vectorSetOnce::get, filter());
+    }
+
+    /**
+     * Projects the vector with the projection of the query, which is loaded from the {@link VectorProjectionStore}
+     * the first time it is used on the node.
+     */
+    private void project(final float[] vector, final ActionListener<float[]> listener) {
+        if (projection() == null) {
+            listener.onResponse(vector);
+            return;
+        }
+        PROJECTION_STORE.get(projection(), ActionListener.wrap(loaded -> listener.onResponse(loaded.project(vector)), listener::onFailure));
+    }
+
+    private float[] toQueryVector(final float[] vector) {
+        final float[] truncated = dimensions == null ? vector : VectorUtil.truncate(vector, dimensions);
+        return quantization == null ? truncated : quantization.quantizeAsFloats(truncated);
+    }
+
+    /**
+     * Normalizes the query text which is embedded and used as cache key, texts which only differ by their leading,
+     * trailing or repeated whitespaces are embedded to the same vector by the tokenizers.
+     */
+    @VisibleForTesting
+    static String normalizeQueryText(final String queryText) {
+        return WHITESPACES.matcher(queryText.trim()).replaceAll(" ");
     }
 
     @Override
@@ -246,12 +385,22 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         equalsBuilder.append(modelId, obj.modelId);
         equalsBuilder.append(k, obj.k);
         equalsBuilder.append(filter, obj.filter);
+        equalsBuilder.append(projection, obj.projection);
+        equalsBuilder.append(dimensions, obj.dimensions);
+        equalsBuilder.append(quantization, obj.quantization);
         return equalsBuilder.isEquals();
     }
 
     @Override
     protected int doHashCode() {
-        return new HashCodeBuilder().append(fieldName).append(queryText).append(modelId).append(k).toHashCode();
+        return new HashCodeBuilder().append(fieldName)
+            .append(queryText)
+            .append(modelId)
+            .append(k)
+            .append(projection)
+            .append(dimensions)
+            .append(quantization)
+            .toHashCode();
     }
 
     @Override
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.rest;
+
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.rest.RestRequest.Method.PUT;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.neuralsearch.transport.FitVectorProjectionAction;
+import org.opensearch.neuralsearch.transport.FitVectorProjectionRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+/**
+ * Fits a projection and persists it under _plugins/_neural/projections/{name}, see {@link FitVectorProjectionRequest}
+ * for the body of the request.
+ */
+public class RestFitVectorProjectionAction extends BaseRestHandler {
+
+    private static final String NAME = "neural_fit_projection_action";
+    private static final String PROJECTIONS_URI = "/_plugins/_neural/projections/{name}";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(new Route(PUT, PROJECTIONS_URI), new Route(POST, PROJECTIONS_URI));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final Map<String, Object> body;
+        try (XContentParser parser = request.contentParser()) {
+            body = parser.map();
+        }
+        final FitVectorProjectionRequest fitRequest = FitVectorProjectionRequest.fromMap(request.param("name"), body);
+        return channel -> client.execute(FitVectorProjectionAction.INSTANCE, fitRequest, new RestToXContentListener<>(channel));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.rest;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+import java.util.List;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.Strings;
+import org.opensearch.neuralsearch.transport.NeuralStatsAction;
+import org.opensearch.neuralsearch.transport.NeuralStatsRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestActions;
+
+/**
+ * Exposes the stats of the plugin under _plugins/_neural/stats, for all the nodes, and under
+ * _plugins/_neural/{nodeId}/stats, for a comma separated list of nodes.
+ */
+public class RestNeuralStatsAction extends BaseRestHandler {
+
+    private static final String NAME = "neural_stats_action";
+    private static final String NEURAL_BASE_URI = "/_plugins/_neural";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(new Route(GET, NEURAL_BASE_URI + "/stats"), new Route(GET, NEURAL_BASE_URI + "/{nodeId}/stats"));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) {
+        final NeuralStatsRequest neuralStatsRequest = new NeuralStatsRequest(Strings.splitStringByCommaToArray(request.param("nodeId")));
+        neuralStatsRequest.timeout(request.param("timeout"));
+        return channel -> client.execute(
+            NeuralStatsAction.INSTANCE,
+            neuralStatsRequest,
+            new RestActions.NodesResponseRestListener<>(channel)
+        );
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.settings;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.neuralsearch.util.RetryUtil;
+
+/**
+ * Class holds all the node level settings of the Neural Search plugin
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NeuralSearchSettings {
+
+    private static final String SETTINGS_PREFIX = "plugins.neural_search.";
+
+    /**
+     * Maximum number of input texts that are merged into a single predict call by the ingest inference batch queue.
+     */
+    public static final Setting<Integer> INGEST_BATCH_MAX_SIZE = Setting.intSetting(
+        SETTINGS_PREFIX + "ingest.batch.max_size",
+        64,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum time an ingest document waits for other documents to join its inference batch. A value of 0 disables
+     * cross document batching, every document is then sent to the model on its own.
+     */
+    public static final Setting<TimeValue> INGEST_BATCH_MAX_WAIT = Setting.timeSetting(
+        SETTINGS_PREFIX + "ingest.batch.max_wait",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum heap memory used by the cache of the query text embeddings of neural queries, either as a percentage of
+     * the heap or as an absolute size. A value of 0, the default, disables the cache.
+     */
+    public static final Setting<ByteSizeValue> QUERY_EMBEDDING_CACHE_SIZE = Setting.memorySizeSetting(
+        SETTINGS_PREFIX + "query_embedding_cache.size",
+        "0b",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum heap memory used by the cache of text embeddings produced during ingestion, either as a percentage of the
+     * heap or as an absolute size. A value of 0 disables the cache.
+     */
+    public static final Setting<ByteSizeValue> EMBEDDING_CACHE_SIZE = Setting.memorySizeSetting(
+        SETTINGS_PREFIX + "embedding_cache.size",
+        "0b",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables the persistent store of text embeddings in the data path of the node, which is consulted before calling
+     * the model on both the ingest and the query path.
+     */
+    public static final Setting<Boolean> EMBEDDING_STORE_ENABLED = Setting.boolSetting(
+        SETTINGS_PREFIX + "embedding_store.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Size of the memory mapped file of the persistent embedding store. Once the file is full, it is compacted down to
+     * the most recently added half.
+     */
+    public static final Setting<ByteSizeValue> EMBEDDING_STORE_SIZE = Setting.byteSizeSetting(
+        SETTINGS_PREFIX + "embedding_store.size",
+        new ByteSizeValue(1, ByteSizeUnit.GB),
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(Integer.MAX_VALUE, ByteSizeUnit.BYTES),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables the adaptive per model limit of concurrent predict calls.
+     */
+    public static final Setting<Boolean> INFERENCE_CONCURRENCY_ENABLED = Setting.boolSetting(
+        SETTINGS_PREFIX + "inference.concurrency.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Limit of concurrent predict calls per model the adaptive limiter starts with.
+     */
+    public static final Setting<Integer> INFERENCE_CONCURRENCY_INITIAL_LIMIT = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.concurrency.initial_limit",
+        8,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Upper bound of the adaptive limit of concurrent predict calls per model.
+     */
+    public static final Setting<Integer> INFERENCE_CONCURRENCY_MAX_LIMIT = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.concurrency.max_limit",
+        64,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Number of predict calls per model which can wait for the concurrency limit. Calls over it are rejected with a
+     * 429 error.
+     */
+    public static final Setting<Integer> INFERENCE_CONCURRENCY_QUEUE_SIZE = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.concurrency.queue_size",
+        1000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Share of the per model concurrency limit reserved for interactive calls such as the query rewrite. Ingest calls
+     * can only use the rest of the limit, so that bulk loads do not delay searches.
+     */
+    public static final Setting<Double> INFERENCE_CONCURRENCY_INTERACTIVE_RESERVED_RATIO = Setting.doubleSetting(
+        SETTINGS_PREFIX + "inference.concurrency.interactive_reserved_ratio",
+        0.2,
+        0.0,
+        1.0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables the hedging of the query side inference, which sends a second call when the first one is slower than
+     * the recent latencies of the model.
+     */
+    public static final Setting<Boolean> INFERENCE_HEDGING_ENABLED = Setting.boolSetting(
+        SETTINGS_PREFIX + "inference.hedging.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Percentile of the recent latencies of a model after which a query side call is hedged.
+     */
+    public static final Setting<Double> INFERENCE_HEDGING_LATENCY_PERCENTILE = Setting.doubleSetting(
+        SETTINGS_PREFIX + "inference.hedging.latency_percentile",
+        95.0,
+        50.0,
+        100.0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum share of the query side calls which can be hedged, which caps the extra load put on the models.
+     */
+    public static final Setting<Double> INFERENCE_HEDGING_BUDGET_RATIO = Setting.doubleSetting(
+        SETTINGS_PREFIX + "inference.hedging.budget_ratio",
+        0.05,
+        0.0,
+        1.0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of retries of a failed predict call.
+     */
+    public static final Setting<Integer> INFERENCE_RETRY_MAX_RETRIES = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.retry.max_retries",
+        3,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Cap of the random delay before the first retry, the cap doubles with every retry.
+     */
+    public static final Setting<TimeValue> INFERENCE_RETRY_INITIAL_BACKOFF = Setting.timeSetting(
+        SETTINGS_PREFIX + "inference.retry.initial_backoff",
+        TimeValue.timeValueMillis(50),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Cap of the random delay before any retry.
+     */
+    public static final Setting<TimeValue> INFERENCE_RETRY_MAX_BACKOFF = Setting.timeSetting(
+        SETTINGS_PREFIX + "inference.retry.max_backoff",
+        TimeValue.timeValueSeconds(2),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum share of the predict calls of a model which can be retried.
+     */
+    public static final Setting<Double> INFERENCE_RETRY_BUDGET_RATIO = Setting.doubleSetting(
+        SETTINGS_PREFIX + "inference.retry.budget_ratio",
+        0.1,
+        0.0,
+        1.0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Class names of the exceptions which make a predict call retryable, subclasses are retryable as well.
+     */
+    public static final Setting<List<String>> INFERENCE_RETRY_RETRYABLE_EXCEPTIONS = Setting.listSetting(
+        SETTINGS_PREFIX + "inference.retry.retryable_exceptions",
+        RetryUtil.DEFAULT_RETRYABLE_EXCEPTIONS,
+        Function.identity(),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables the per model circuit breaker, which fails the predict calls right away while a model fails or is slow.
+     */
+    public static final Setting<Boolean> INFERENCE_CIRCUIT_BREAKER_ENABLED = Setting.boolSetting(
+        SETTINGS_PREFIX + "inference.circuit_breaker.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Number of the last predict calls of a model whose outcome is considered by its circuit breaker.
+     */
+    public static final Setting<Integer> INFERENCE_CIRCUIT_BREAKER_WINDOW_SIZE = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.circuit_breaker.window_size",
+        100,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Minimum number of predict calls in the window before the circuit breaker can open.
+     */
+    public static final Setting<Integer> INFERENCE_CIRCUIT_BREAKER_MIN_CALLS = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.circuit_breaker.min_calls",
+        20,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Share of failed or slow predict calls in the window which opens the circuit breaker. Only server side errors,
+     * rejections and timeouts count as failures, client errors are ignored.
+     */
+    public static final Setting<Double> INFERENCE_CIRCUIT_BREAKER_FAILURE_RATE = Setting.doubleSetting(
+        SETTINGS_PREFIX + "inference.circuit_breaker.failure_rate",
+        0.5,
+        0.0,
+        1.0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Latency over which a successful predict call counts as a failure for the circuit breaker.
+     */
+    public static final Setting<TimeValue> INFERENCE_CIRCUIT_BREAKER_SLOW_CALL_THRESHOLD = Setting.timeSetting(
+        SETTINGS_PREFIX + "inference.circuit_breaker.slow_call_threshold",
+        TimeValue.timeValueSeconds(10),
+        TimeValue.timeValueMillis(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Time an open circuit breaker rejects the predict calls before it lets trial calls through.
+     */
+    public static final Setting<TimeValue> INFERENCE_CIRCUIT_BREAKER_OPEN_DURATION = Setting.timeSetting(
+        SETTINGS_PREFIX + "inference.circuit_breaker.open_duration",
+        TimeValue.timeValueSeconds(30),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Number of trial calls of a half open circuit breaker which must succeed to close it.
+     */
+    public static final Setting<Integer> INFERENCE_CIRCUIT_BREAKER_HALF_OPEN_CALLS = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.circuit_breaker.half_open_calls",
+        5,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Name of the inference backend the predict calls are sent to. ml_commons, the default, calls the models deployed in
+     * ML Commons, local produces deterministic vectors on the node without any model. Other backends can be added by
+     * plugins which extend this plugin.
+     */
+    public static final Setting<String> INFERENCE_BACKEND = Setting.simpleString(
+        SETTINGS_PREFIX + "inference.backend",
+        "ml_commons",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Dimension of the vectors produced by the local inference backend.
+     */
+    public static final Setting<Integer> INFERENCE_LOCAL_DIMENSION = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.local.dimension",
+        768,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Latency added to every predict call of the local inference backend, to simulate the latency of a real model.
+     */
+    public static final Setting<TimeValue> INFERENCE_LOCAL_LATENCY = Setting.timeSetting(
+        SETTINGS_PREFIX + "inference.local.latency",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Estimated number of tokens sent to a model in a single predict call. Larger inputs are split into sub-batches
+     * which are sent concurrently. A value of 0, the default, disables the split.
+     */
+    public static final Setting<Integer> INFERENCE_MAX_BATCH_TOKENS = Setting.intSetting(
+        SETTINGS_PREFIX + "inference.max_batch_tokens",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Gets the list of all the settings registered by the plugin
+     *
+     * @return {@link List} of {@link Setting}
+     */
+    public static List<Setting<?>> getSettings() {
+        return List.of(
+            INGEST_BATCH_MAX_SIZE,
+            INGEST_BATCH_MAX_WAIT,
+            EMBEDDING_CACHE_SIZE,
+            QUERY_EMBEDDING_CACHE_SIZE,
+            EMBEDDING_STORE_ENABLED,
+            EMBEDDING_STORE_SIZE,
+            INFERENCE_CONCURRENCY_ENABLED,
+            INFERENCE_CONCURRENCY_INITIAL_LIMIT,
+            INFERENCE_CONCURRENCY_MAX_LIMIT,
+            INFERENCE_CONCURRENCY_QUEUE_SIZE,
+            INFERENCE_CONCURRENCY_INTERACTIVE_RESERVED_RATIO,
+            INFERENCE_MAX_BATCH_TOKENS,
+            INFERENCE_HEDGING_ENABLED,
+            INFERENCE_HEDGING_LATENCY_PERCENTILE,
+            INFERENCE_HEDGING_BUDGET_RATIO,
+            INFERENCE_RETRY_MAX_RETRIES,
+            INFERENCE_RETRY_INITIAL_BACKOFF,
+            INFERENCE_RETRY_MAX_BACKOFF,
+            INFERENCE_RETRY_BUDGET_RATIO,
+            INFERENCE_RETRY_RETRYABLE_EXCEPTIONS,
+            INFERENCE_CIRCUIT_BREAKER_ENABLED,
+            INFERENCE_CIRCUIT_BREAKER_WINDOW_SIZE,
+            INFERENCE_CIRCUIT_BREAKER_MIN_CALLS,
+            INFERENCE_CIRCUIT_BREAKER_FAILURE_RATE,
+            INFERENCE_CIRCUIT_BREAKER_SLOW_CALL_THRESHOLD,
+            INFERENCE_CIRCUIT_BREAKER_OPEN_DURATION,
+            INFERENCE_CIRCUIT_BREAKER_HALF_OPEN_CALLS,
+            INFERENCE_BACKEND,
+            INFERENCE_LOCAL_DIMENSION,
+            INFERENCE_LOCAL_LATENCY
+        );
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.settings;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+
+/**
+ * Class holds the thread pools of the Neural Search plugin. Each pool is sized with the thread_pool.[name] node
+ * settings and reported in the thread pool section of the node stats. There is no pool for the generative text LLM
+ * processor, search response processors are synchronous on OpenSearch 2.7 so its work stays on the search thread.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NeuralSearchThreadPools {
+
+    /**
+     * Fixed pool which turns model responses into vectors and runs the continuations of the inference calls, sized
+     * with thread_pool.neural_search_inference.size and thread_pool.neural_search_inference.queue_size.
+     */
+    public static final String INFERENCE_THREAD_POOL = "neural_search_inference";
+
+    static final int INFERENCE_QUEUE_SIZE = 1000;
+
+    /**
+     * @param settings node {@link Settings}
+     * @return {@link ExecutorBuilder} of every pool of the plugin
+     */
+    public static List<ExecutorBuilder<?>> getExecutorBuilders(final Settings settings) {
+        final int allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
+        return List.of(
+            new FixedExecutorBuilder(
+                settings,
+                INFERENCE_THREAD_POOL,
+                allocatedProcessors,
+                INFERENCE_QUEUE_SIZE,
+                "thread_pool." + INFERENCE_THREAD_POOL
+            )
+        );
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.stats;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets in the style of HdrHistogram. Latencies are recorded in
+ * microseconds, every power of two range is split into {@link #SUB_BUCKET_COUNT} linear buckets, so a recorded
+ * latency is reported with a relative error under 1 / {@link #SUB_BUCKET_COUNT}. Latencies of more than
+ * 2^{@link #MAX_EXPONENT} microseconds, about 12 days, are counted in the last bucket.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param latencyNanos latency to record, in nanoseconds
+     */
+    public void record(final long latencyNanos) {
+        final long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        buckets.incrementAndGet(bucketIndex(micros));
+        sumMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    /**
+     * @return point in time {@link Snapshot} of the histogram, concurrent records may be partially included
+     */
+    public Snapshot snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new Snapshot(counts, sumMicros.sum(), maxMicros.get());
+    }
+
+    static int bucketIndex(final long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * @return highest latency counted in the bucket, in microseconds
+     */
+    static long bucketUpperBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        final int subBucket = index % SUB_BUCKET_COUNT;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKET_COUNT + subBucket) * width + width - 1;
+    }
+
+    /**
+     * Immutable copy of a {@link LatencyHistogram}, which can be sent to other nodes and merged with the snapshots of
+     * other histograms.
+     */
+    public static final class Snapshot implements Writeable, ToXContentObject {
+
+        private final long[] counts;
+        private final long sumMicros;
+        private final long maxMicros;
+
+        Snapshot(final long[] counts, final long sumMicros, final long maxMicros) {
+            this.counts = counts;
+            this.sumMicros = sumMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        public Snapshot(final StreamInput in) throws IOException {
+            this(in.readVLongArray(), in.readVLong(), in.readVLong());
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            out.writeVLongArray(counts);
+            out.writeVLong(sumMicros);
+            out.writeVLong(maxMicros);
+        }
+
+        /**
+         * @param other {@link Snapshot} to merge with
+         * @return new {@link Snapshot} which counts the latencies of both snapshots
+         */
+        public Snapshot merge(final Snapshot other) {
+            final long[] mergedCounts = Arrays.copyOf(counts, Math.max(counts.length, other.counts.length));
+            for (int i = 0; i < other.counts.length; i++) {
+                mergedCounts[i] += other.counts[i];
+            }
+            return new Snapshot(mergedCounts, sumMicros + other.sumMicros, Math.max(maxMicros, other.maxMicros));
+        }
+
+        /**
+         * @return number of recorded latencies
+         */
+        public long getCount() {
+            long count = 0;
+            for (long bucketCount : counts) {
+                count += bucketCount;
+            }
+            return count;
+        }
+
+        /**
+         * @return highest recorded latency, in microseconds
+         */
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        /**
+         * @return mean of the recorded latencies, in microseconds
+         */
+        public double getMeanMicros() {
+            final long count = getCount();
+            return count == 0 ? 0 : (double) sumMicros / count;
+        }
+
+        /**
+         * @param percentile percentile between 0 and 100
+         * @return latency under which the given percentile of the recorded latencies fall, in microseconds
+         */
+        public long getPercentileMicros(final double percentile) {
+            final long count = getCount();
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+
+        @Override
+        public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+            builder.startObject();
+            builder.field("mean_millis", toMillis(getMeanMicros()));
+            builder.field("p50_millis", toMillis(getPercentileMicros(50)));
+            builder.field("p90_millis", toMillis(getPercentileMicros(90)));
+            builder.field("p99_millis", toMillis(getPercentileMicros(99)));
+            builder.field("max_millis", toMillis(maxMicros));
+            return builder.endObject();
+        }
+
+        private static double toMillis(final double micros) {
+            return micros / 1000.0;
+        }
+    }
+}
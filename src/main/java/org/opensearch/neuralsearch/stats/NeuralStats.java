@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.stats;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.opensearch.action.ActionListener;
+
+/**
+ * Node level stats of the plugin operations, broken down by model id and by processor tag. Stats are recorded with
+ * lock-free counters and exposed through the _plugins/_neural/stats API, together with the stats of the registered
+ * node level components.
+ */
+public class NeuralStats {
+
+    public static final String CONCURRENCY_LIMITERS_COMPONENT = "concurrency_limiters";
+    public static final String CIRCUIT_BREAKERS_COMPONENT = "circuit_breakers";
+    public static final String HEDGING_COMPONENT = "hedging";
+    public static final String RETRIES_COMPONENT = "retries";
+    public static final String INGEST_EMBEDDING_CACHE_COMPONENT = "ingest_embedding_cache";
+    public static final String QUERY_EMBEDDING_CACHE_COMPONENT = "query_embedding_cache";
+    public static final String EMBEDDING_STORE_COMPONENT = "embedding_store";
+
+    private final Map<String, Map<NeuralStatsOperation, OperationStats>> modelStats = new ConcurrentHashMap<>();
+    private final Map<String, Map<NeuralStatsOperation, OperationStats>> processorStats = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<Map<String, Object>>> componentStats = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    public NeuralStats() {
+        this(System::nanoTime);
+    }
+
+    public NeuralStats(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Wraps the listener of an operation, so its latency and outcome are recorded once it completes.
+     *
+     * @param operation {@link NeuralStatsOperation} which is called
+     * @param modelId id of the called model, null if the call is not tracked by model
+     * @param tag tag of the calling processor, null if the call is not tracked by processor
+     * @param items number of texts, documents or hits handled by the call
+     * @param listener {@link ActionListener} of the operation
+     * @return {@link ActionListener} which records the call and delegates to the given listener
+     */
+    public <T> ActionListener<T> track(
+        final NeuralStatsOperation operation,
+        final String modelId,
+        final String tag,
+        final int items,
+        final ActionListener<T> listener
+    ) {
+        final OperationStats model = modelId == null ? null : stats(modelStats, modelId, operation);
+        final OperationStats processor = tag == null ? null : stats(processorStats, tag, operation);
+        final long startNanos = nanoTime.getAsLong();
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(final T response) {
+                record(true);
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(final Exception e) {
+                record(false);
+                listener.onFailure(e);
+            }
+
+            private void record(final boolean success) {
+                final long latencyNanos = nanoTime.getAsLong() - startNanos;
+                if (model != null) {
+                    model.record(latencyNanos, items, success);
+                }
+                if (processor != null) {
+                    processor.record(latencyNanos, items, success);
+                }
+            }
+        };
+    }
+
+    /**
+     * Counts an occurrence of an operation of a model which has no latency.
+     *
+     * @param operation {@link NeuralStatsOperation} which occurred
+     * @param modelId id of the model
+     */
+    public void increment(final NeuralStatsOperation operation, final String modelId) {
+        stats(modelStats, modelId, operation).increment();
+    }
+
+    /**
+     * Registers a node level component, such as a cache, whose stats are collected on every snapshot.
+     *
+     * @param name name the stats of the component are reported under
+     * @param stats supplies the current stats of the component, nested maps whose leaves are long counters or gauges
+     */
+    public void registerComponent(final String name, final Supplier<Map<String, Object>> stats) {
+        if (componentStats.putIfAbsent(name, stats) != null) {
+            throw new IllegalArgumentException("stats of component [" + name + "] are already registered");
+        }
+    }
+
+    /**
+     * @return point in time {@link NeuralStatsSnapshot} of the stats of this node
+     */
+    public NeuralStatsSnapshot snapshot() {
+        final Map<String, Object> components = new TreeMap<>();
+        componentStats.forEach((name, stats) -> components.put(name, stats.get()));
+        return new NeuralStatsSnapshot(snapshot(modelStats), snapshot(processorStats), NeuralStatsSnapshot.sortComponents(components));
+    }
+
+    private static OperationStats stats(
+        final Map<String, Map<NeuralStatsOperation, OperationStats>> statsMap,
+        final String key,
+        final NeuralStatsOperation operation
+    ) {
+        return statsMap.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).computeIfAbsent(operation, o -> new OperationStats());
+    }
+
+    private static Map<String, Map<String, OperationStats.Snapshot>> snapshot(
+        final Map<String, Map<NeuralStatsOperation, OperationStats>> statsMap
+    ) {
+        final Map<String, Map<String, OperationStats.Snapshot>> snapshots = new TreeMap<>();
+        statsMap.forEach((key, operations) -> {
+            final Map<String, OperationStats.Snapshot> operationSnapshots = new TreeMap<>();
+            operations.forEach((operation, stats) -> operationSnapshots.put(operation.getName(), stats.snapshot()));
+            snapshots.put(key, operationSnapshots);
+        });
+        return snapshots;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Operations of the plugin which are tracked in {@link NeuralStats}.
+ */
+@AllArgsConstructor
+@Getter
+public enum NeuralStatsOperation {
+    /**
+     * Batch inference of the ingest path, see MLCommonsClientAccessor#inferenceSentences
+     */
+    INFERENCE_SENTENCES("inference_sentences"),
+    /**
+     * Single text inference of the query path, see MLCommonsClientAccessor#inferenceSentence
+     */
+    INFERENCE_SENTENCE("inference_sentence"),
+    /**
+     * Retry of a failed predict call, only counted
+     */
+    INFERENCE_RETRY("inference_retry"),
+    /**
+     * Generative predict call, see MLCommonsClientAccessor#predict
+     */
+    PREDICT("predict"),
+    /**
+     * Document processed by a text_embedding ingest processor
+     */
+    TEXT_EMBEDDING_PROCESSOR("text_embedding_processor"),
+    /**
+     * Search response processed by an llm_processor search response processor
+     */
+    GENERATIVE_TEXT_LLM_PROCESSOR("llm_processor");
+
+    private final String name;
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.stats;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Immutable copy of the {@link NeuralStats} of a node, or of several nodes once merged. Stats are keyed by model id or
+ * processor tag, then by {@link NeuralStatsOperation} name. Stats of the node level components, such as the concurrency
+ * limiters or the caches, are keyed by component name and are nested maps whose leaves are long counters or gauges,
+ * which are summed when snapshots are merged.
+ */
+@Getter
+@AllArgsConstructor
+public final class NeuralStatsSnapshot implements Writeable, ToXContentFragment {
+
+    public static final NeuralStatsSnapshot EMPTY = new NeuralStatsSnapshot(Map.of(), Map.of(), Map.of());
+
+    private final Map<String, Map<String, OperationStats.Snapshot>> models;
+    private final Map<String, Map<String, OperationStats.Snapshot>> processors;
+    private final Map<String, Object> components;
+
+    public NeuralStatsSnapshot(final StreamInput in) throws IOException {
+        this(readStats(in), readStats(in), sortComponents(in.readMap()));
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        writeStats(out, models);
+        writeStats(out, processors);
+        out.writeMap(components);
+    }
+
+    /**
+     * @param other {@link NeuralStatsSnapshot} to merge with
+     * @return new {@link NeuralStatsSnapshot} which sums the stats of both snapshots
+     */
+    public NeuralStatsSnapshot merge(final NeuralStatsSnapshot other) {
+        return new NeuralStatsSnapshot(
+            merge(models, other.models),
+            merge(processors, other.processors),
+            mergeComponents(components, other.components)
+        );
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        statsToXContent(builder, params, "models", models);
+        statsToXContent(builder, params, "processors", processors);
+        for (Map.Entry<String, Object> component : components.entrySet()) {
+            if (NeuralStats.HEDGING_COMPONENT.equals(component.getKey())) {
+                hedgingToXContent(builder, (Map<?, ?>) component.getValue());
+            } else {
+                builder.field(component.getKey(), component.getValue());
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Rates can not be summed across nodes, so the hedge rates are derived from the merged counters.
+     */
+    private static void hedgingToXContent(final XContentBuilder builder, final Map<?, ?> hedging) throws IOException {
+        builder.startObject(NeuralStats.HEDGING_COMPONENT);
+        for (Map.Entry<?, ?> entry : hedging.entrySet()) {
+            builder.field((String) entry.getKey(), entry.getValue());
+        }
+        final long callCount = count(hedging, "call_count");
+        final long hedgeCount = count(hedging, "hedge_count");
+        builder.field("hedge_rate", callCount == 0 ? 0.0 : (double) hedgeCount / callCount);
+        builder.field("hedge_win_rate", hedgeCount == 0 ? 0.0 : (double) count(hedging, "hedge_win_count") / hedgeCount);
+        builder.endObject();
+    }
+
+    private static long count(final Map<?, ?> stats, final String name) {
+        final Object value = stats.get(name);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    /**
+     * @param components stats of the node level components, keyed by component name
+     * @return copy of the stats whose maps are sorted by key at every level
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> sortComponents(final Map<String, Object> components) {
+        final Map<String, Object> sorted = new TreeMap<>();
+        components.forEach((key, value) -> sorted.put(key, value instanceof Map ? sortComponents((Map<String, Object>) value) : value));
+        return sorted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mergeComponents(final Map<String, Object> first, final Map<String, Object> second) {
+        final Map<String, Object> merged = sortComponents(first);
+        second.forEach((key, value) -> merged.merge(key, value, (firstValue, secondValue) -> {
+            if (firstValue instanceof Map && secondValue instanceof Map) {
+                return mergeComponents((Map<String, Object>) firstValue, (Map<String, Object>) secondValue);
+            }
+            if (firstValue instanceof Number && secondValue instanceof Number) {
+                return ((Number) firstValue).longValue() + ((Number) secondValue).longValue();
+            }
+            throw new IllegalArgumentException("can not merge component stats [" + key + "] of different types");
+        }));
+        return sortComponents(merged);
+    }
+
+    private static void statsToXContent(
+        final XContentBuilder builder,
+        final Params params,
+        final String name,
+        final Map<String, Map<String, OperationStats.Snapshot>> stats
+    ) throws IOException {
+        builder.startObject(name);
+        for (Map.Entry<String, Map<String, OperationStats.Snapshot>> entry : stats.entrySet()) {
+            builder.startObject(entry.getKey());
+            for (Map.Entry<String, OperationStats.Snapshot> operation : entry.getValue().entrySet()) {
+                builder.field(operation.getKey());
+                operation.getValue().toXContent(builder, params);
+            }
+            builder.endObject();
+        }
+        builder.endObject();
+    }
+
+    private static Map<String, Map<String, OperationStats.Snapshot>> merge(
+        final Map<String, Map<String, OperationStats.Snapshot>> first,
+        final Map<String, Map<String, OperationStats.Snapshot>> second
+    ) {
+        final Map<String, Map<String, OperationStats.Snapshot>> merged = new TreeMap<>();
+        first.forEach((key, operations) -> merged.put(key, new TreeMap<>(operations)));
+        second.forEach(
+            (key, operations) -> operations.forEach(
+                (operation, stats) -> merged.computeIfAbsent(key, k -> new TreeMap<>())
+                    .merge(operation, stats, OperationStats.Snapshot::merge)
+            )
+        );
+        return merged;
+    }
+
+    private static Map<String, Map<String, OperationStats.Snapshot>> readStats(final StreamInput in) throws IOException {
+        return new TreeMap<>(
+            in.readMap(StreamInput::readString, operationsIn -> operationsIn.readMap(StreamInput::readString, OperationStats.Snapshot::new))
+        );
+    }
+
+    private static void writeStats(final StreamOutput out, final Map<String, Map<String, OperationStats.Snapshot>> stats)
+        throws IOException {
+        out.writeMap(
+            stats,
+            StreamOutput::writeString,
+            (operationsOut, operations) -> operationsOut.writeMap(
+                operations,
+                StreamOutput::writeString,
+                (statsOut, operationStats) -> operationStats.writeTo(statsOut)
+            )
+        );
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.stats;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Lock-free counters and {@link LatencyHistogram} of a single operation, for a single model or processor.
+ */
+public final class OperationStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder itemCount = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Records a completed call of the operation.
+     *
+     * @param latencyNanos latency of the call, in nanoseconds
+     * @param items number of texts, documents or hits handled by the call
+     * @param success false if the call failed
+     */
+    public void record(final long latencyNanos, final int items, final boolean success) {
+        count.increment();
+        itemCount.add(items);
+        if (!success) {
+            failedCount.increment();
+        }
+        latency.record(latencyNanos);
+    }
+
+    /**
+     * Records an occurrence of an operation which is only counted.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * @return point in time {@link Snapshot} of the stats
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(count.sum(), failedCount.sum(), itemCount.sum(), latency.snapshot());
+    }
+
+    /**
+     * Immutable copy of {@link OperationStats}, which can be sent to other nodes and merged with other snapshots.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static final class Snapshot implements Writeable, ToXContentObject {
+        private final long count;
+        private final long failedCount;
+        private final long itemCount;
+        private final LatencyHistogram.Snapshot latency;
+
+        public Snapshot(final StreamInput in) throws IOException {
+            this(in.readVLong(), in.readVLong(), in.readVLong(), new LatencyHistogram.Snapshot(in));
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(failedCount);
+            out.writeVLong(itemCount);
+            latency.writeTo(out);
+        }
+
+        /**
+         * @param other {@link Snapshot} to merge with
+         * @return new {@link Snapshot} which sums both snapshots
+         */
+        public Snapshot merge(final Snapshot other) {
+            return new Snapshot(
+                count + other.count,
+                failedCount + other.failedCount,
+                itemCount + other.itemCount,
+                latency.merge(other.latency)
+            );
+        }
+
+        @Override
+        public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+            builder.startObject();
+            builder.field("count", count);
+            // operations which are only counted have no latency
+            if (latency.getCount() > 0) {
+                builder.field("failed_count", failedCount);
+                builder.field("failure_rate", count == 0 ? 0.0 : (double) failedCount / count);
+                builder.field("item_count", itemCount);
+                builder.field("latency", latency);
+            }
+            return builder.endObject();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Action which fits a {@link org.opensearch.neuralsearch.vector.VectorProjection} and persists it under a name.
+ */
+public class FitVectorProjectionAction extends ActionType<FitVectorProjectionResponse> {
+
+    public static final String NAME = "cluster:admin/neural/projection/fit";
+    public static final FitVectorProjectionAction INSTANCE = new FitVectorProjectionAction();
+
+    private FitVectorProjectionAction() {
+        super(NAME, FitVectorProjectionResponse::new);
+    }
+}
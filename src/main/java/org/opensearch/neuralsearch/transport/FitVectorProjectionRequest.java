@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.neuralsearch.vector.VectorEncoding;
+import org.opensearch.neuralsearch.vector.VectorProjection;
+
+/**
+ * Request to fit a projection. A random projection only needs the dimensions, a PCA projection is fitted on a random
+ * sample of the vectors of a field of an index.
+ *
+ * The body of the request looks like:
+ * {
+ *   "method": "random" | "pca",
+ *   "input_dimension": int, (random only)
+ *   "output_dimension": int,
+ *   "seed": long, (optional)
+ *   "index": "string", (pca only)
+ *   "field": "string", (pca only)
+ *   "sample_size": int (optional, pca only),
+ *   "encoding": "string" (optional, pca only, encoding of the vectors of the field, see {@link VectorEncoding})
+ * }
+ */
+@Getter
+@AllArgsConstructor
+public class FitVectorProjectionRequest extends ActionRequest {
+
+    static final String METHOD_FIELD = "method";
+    static final String INPUT_DIMENSION_FIELD = "input_dimension";
+    static final String OUTPUT_DIMENSION_FIELD = "output_dimension";
+    static final String SEED_FIELD = "seed";
+    static final String INDEX_FIELD = "index";
+    static final String FIELD_FIELD = "field";
+    static final String SAMPLE_SIZE_FIELD = "sample_size";
+    static final String ENCODING_FIELD = "encoding";
+    private static final Set<String> FIELDS = Set.of(
+        METHOD_FIELD,
+        INPUT_DIMENSION_FIELD,
+        OUTPUT_DIMENSION_FIELD,
+        SEED_FIELD,
+        INDEX_FIELD,
+        FIELD_FIELD,
+        SAMPLE_SIZE_FIELD,
+        ENCODING_FIELD
+    );
+
+    static final int DEFAULT_SAMPLE_SIZE = 1000;
+    // index.max_result_window of the default index settings
+    static final int MAX_SAMPLE_SIZE = 10000;
+
+    private final String name;
+    private final String method;
+    // null for a PCA projection, the dimension of the sampled vectors is used
+    private final Integer inputDimension;
+    private final int outputDimension;
+    private final long seed;
+    private final String index;
+    private final String field;
+    private final int sampleSize;
+    private final VectorEncoding encoding;
+
+    public FitVectorProjectionRequest(final StreamInput in) throws IOException {
+        super(in);
+        this.name = in.readString();
+        this.method = in.readString();
+        this.inputDimension = in.readOptionalVInt();
+        this.outputDimension = in.readVInt();
+        this.seed = in.readLong();
+        this.index = in.readOptionalString();
+        this.field = in.readOptionalString();
+        this.sampleSize = in.readVInt();
+        this.encoding = in.readEnum(VectorEncoding.class);
+    }
+
+    /**
+     * @param name name of the projection
+     * @param body body of the request
+     * @return {@link FitVectorProjectionRequest}
+     * @throws IllegalArgumentException if the body has unknown or malformed fields
+     */
+    public static FitVectorProjectionRequest fromMap(final String name, final Map<String, Object> body) {
+        for (String key : body.keySet()) {
+            if (!FIELDS.contains(key)) {
+                throw new IllegalArgumentException("projection fit request does not support [" + key + "]");
+            }
+        }
+        final Number inputDimension = readNumber(body, INPUT_DIMENSION_FIELD);
+        final Number outputDimension = readNumber(body, OUTPUT_DIMENSION_FIELD);
+        final Number seed = readNumber(body, SEED_FIELD);
+        final Number sampleSize = readNumber(body, SAMPLE_SIZE_FIELD);
+        return new FitVectorProjectionRequest(
+            name,
+            body.get(METHOD_FIELD) == null ? null : body.get(METHOD_FIELD).toString(),
+            inputDimension == null ? null : inputDimension.intValue(),
+            outputDimension == null ? 0 : outputDimension.intValue(),
+            seed == null ? 0L : seed.longValue(),
+            body.get(INDEX_FIELD) == null ? null : body.get(INDEX_FIELD).toString(),
+            body.get(FIELD_FIELD) == null ? null : body.get(FIELD_FIELD).toString(),
+            sampleSize == null ? DEFAULT_SAMPLE_SIZE : sampleSize.intValue(),
+            body.get(ENCODING_FIELD) == null ? VectorEncoding.ARRAY : VectorEncoding.fromName(body.get(ENCODING_FIELD).toString())
+        );
+    }
+
+    private static Number readNumber(final Map<String, Object> body, final String field) {
+        final Object value = body.get(field);
+        if (value == null || value instanceof Number) {
+            return (Number) value;
+        }
+        throw new IllegalArgumentException("[" + field + "] must be a number, got [" + value + "]");
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (StringUtils.isBlank(name)) {
+            validationException = addValidationError("projection name is missing", validationException);
+        }
+        if (outputDimension <= 0) {
+            validationException = addValidationError("[" + OUTPUT_DIMENSION_FIELD + "] must be a positive integer", validationException);
+        }
+        if (VectorProjection.RANDOM_METHOD.equals(method)) {
+            if (inputDimension == null || inputDimension < outputDimension) {
+                validationException = addValidationError(
+                    "[" + INPUT_DIMENSION_FIELD + "] must be at least [" + OUTPUT_DIMENSION_FIELD + "] for a random projection",
+                    validationException
+                );
+            }
+        } else if (VectorProjection.PCA_METHOD.equals(method)) {
+            if (StringUtils.isBlank(index) || StringUtils.isBlank(field)) {
+                validationException = addValidationError(
+                    "[" + INDEX_FIELD + "] and [" + FIELD_FIELD + "] are required for a pca projection",
+                    validationException
+                );
+            }
+            if (sampleSize < 2 || sampleSize > MAX_SAMPLE_SIZE) {
+                validationException = addValidationError(
+                    "[" + SAMPLE_SIZE_FIELD + "] must be between 2 and " + MAX_SAMPLE_SIZE,
+                    validationException
+                );
+            }
+        } else {
+            validationException = addValidationError(
+                "[" + METHOD_FIELD + "] must be [" + VectorProjection.RANDOM_METHOD + "] or [" + VectorProjection.PCA_METHOD + "]",
+                validationException
+            );
+        }
+        return validationException;
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(name);
+        out.writeString(method);
+        out.writeOptionalVInt(inputDimension);
+        out.writeVInt(outputDimension);
+        out.writeLong(seed);
+        out.writeOptionalString(index);
+        out.writeOptionalString(field);
+        out.writeVInt(sampleSize);
+        out.writeEnum(encoding);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import java.io.IOException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Description of a fitted projection, the matrix itself is only kept in the system index.
+ */
+@Getter
+@AllArgsConstructor
+public class FitVectorProjectionResponse extends ActionResponse implements ToXContentObject {
+
+    private final String name;
+    private final String method;
+    private final int inputDimension;
+    private final int outputDimension;
+    // number of vectors the projection was fitted on, 0 for a random projection
+    private final int sampleCount;
+
+    public FitVectorProjectionResponse(final StreamInput in) throws IOException {
+        super(in);
+        this.name = in.readString();
+        this.method = in.readString();
+        this.inputDimension = in.readVInt();
+        this.outputDimension = in.readVInt();
+        this.sampleCount = in.readVInt();
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeString(name);
+        out.writeString(method);
+        out.writeVInt(inputDimension);
+        out.writeVInt(outputDimension);
+        out.writeVInt(sampleCount);
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject();
+        builder.field("name", name);
+        builder.field("method", method);
+        builder.field("input_dimension", inputDimension);
+        builder.field("output_dimension", outputDimension);
+        builder.field("sample_count", sampleCount);
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Action which collects the {@link org.opensearch.neuralsearch.stats.NeuralStats} of the nodes of the cluster.
+ */
+public class NeuralStatsAction extends ActionType<NeuralStatsResponse> {
+
+    public static final String NAME = "cluster:monitor/neural/stats";
+    public static final NeuralStatsAction INSTANCE = new NeuralStatsAction();
+
+    private NeuralStatsAction() {
+        super(NAME, NeuralStatsResponse::new);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeRequest;
+import org.opensearch.common.io.stream.StreamInput;
+
+/**
+ * Request of the stats of a single node, sent by {@link TransportNeuralStatsAction} to every requested node. It extends
+ * the deprecated {@link BaseNodeRequest} only because {@link org.opensearch.action.support.nodes.TransportNodesAction}
+ * of OpenSearch 2.7 requires its node requests to, it should extend {@link org.opensearch.transport.TransportRequest}
+ * once that bound is relaxed.
+ */
+public class NeuralStatsNodeRequest extends BaseNodeRequest {
+
+    public NeuralStatsNodeRequest() {
+        super();
+    }
+
+    public NeuralStatsNodeRequest(final StreamInput in) throws IOException {
+        super(in);
+    }
+}
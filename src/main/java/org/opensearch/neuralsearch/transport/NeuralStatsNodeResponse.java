@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import java.io.IOException;
+
+import lombok.Getter;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.neuralsearch.stats.NeuralStatsSnapshot;
+
+/**
+ * Stats of a single node.
+ */
+@Getter
+public class NeuralStatsNodeResponse extends BaseNodeResponse {
+
+    private final NeuralStatsSnapshot stats;
+
+    public NeuralStatsNodeResponse(final DiscoveryNode node, final NeuralStatsSnapshot stats) {
+        super(node);
+        this.stats = stats;
+    }
+
+    public NeuralStatsNodeResponse(final StreamInput in) throws IOException {
+        super(in);
+        this.stats = new NeuralStatsSnapshot(in);
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        super.writeTo(out);
+        stats.writeTo(out);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.common.io.stream.StreamInput;
+
+/**
+ * Request of the stats of the given nodes, or of all the nodes if none is given.
+ */
+public class NeuralStatsRequest extends BaseNodesRequest<NeuralStatsRequest> {
+
+    public NeuralStatsRequest(final String... nodeIds) {
+        super(nodeIds);
+    }
+
+    public NeuralStatsRequest(final StreamInput in) throws IOException {
+        super(in);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.neuralsearch.stats.NeuralStatsSnapshot;
+
+/**
+ * Stats of the requested nodes, rendered both merged across the nodes and per node.
+ */
+public class NeuralStatsResponse extends BaseNodesResponse<NeuralStatsNodeResponse> implements ToXContentFragment {
+
+    public NeuralStatsResponse(final StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public NeuralStatsResponse(
+        final ClusterName clusterName,
+        final List<NeuralStatsNodeResponse> nodes,
+        final List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<NeuralStatsNodeResponse> readNodesFrom(final StreamInput in) throws IOException {
+        return in.readList(NeuralStatsNodeResponse::new);
+    }
+
+    @Override
+    protected void writeNodesTo(final StreamOutput out, final List<NeuralStatsNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    /**
+     * @return stats of all the responding nodes merged together
+     */
+    public NeuralStatsSnapshot getClusterStats() {
+        NeuralStatsSnapshot clusterStats = NeuralStatsSnapshot.EMPTY;
+        for (NeuralStatsNodeResponse node : getNodes()) {
+            clusterStats = clusterStats.merge(node.getStats());
+        }
+        return clusterStats;
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject("cluster");
+        getClusterStats().toXContent(builder, params);
+        builder.endObject();
+        builder.startObject("nodes");
+        for (NeuralStatsNodeResponse node : getNodes()) {
+            builder.startObject(node.getNode().getId());
+            node.getStats().toXContent(builder, params);
+            builder.endObject();
+        }
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.Client;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.functionscore.ScoreFunctionBuilders;
+import org.opensearch.neuralsearch.vector.VectorEncoding;
+import org.opensearch.neuralsearch.vector.VectorProjection;
+import org.opensearch.neuralsearch.vector.VectorProjectionFitter;
+import org.opensearch.neuralsearch.vector.VectorProjectionStore;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Fits a projection and persists it in the {@link VectorProjectionStore}. The vectors of a PCA projection are sampled
+ * with a seeded random score, the fit itself runs on the generic thread pool.
+ */
+@Log4j2
+public class TransportFitVectorProjectionAction extends HandledTransportAction<FitVectorProjectionRequest, FitVectorProjectionResponse> {
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final VectorProjectionStore projectionStore;
+
+    @Inject
+    public TransportFitVectorProjectionAction(
+        final TransportService transportService,
+        final ActionFilters actionFilters,
+        final Client client,
+        final ThreadPool threadPool,
+        final VectorProjectionStore projectionStore
+    ) {
+        super(FitVectorProjectionAction.NAME, transportService, actionFilters, FitVectorProjectionRequest::new);
+        this.client = client;
+        this.threadPool = threadPool;
+        this.projectionStore = projectionStore;
+    }
+
+    @Override
+    protected void doExecute(
+        final Task task,
+        final FitVectorProjectionRequest request,
+        final ActionListener<FitVectorProjectionResponse> listener
+    ) {
+        if (VectorProjection.RANDOM_METHOD.equals(request.getMethod())) {
+            fitAndCreate(request, List.of(), listener);
+            return;
+        }
+        final SearchRequest searchRequest = new SearchRequest(request.getIndex()).source(
+            new SearchSourceBuilder().query(
+                QueryBuilders.functionScoreQuery(
+                    ScoreFunctionBuilders.randomFunction().seed(request.getSeed()).setField(SeqNoFieldMapper.NAME)
+                )
+            ).size(request.getSampleSize()).fetchSource(request.getField(), null)
+        );
+        client.search(searchRequest, ActionListener.wrap(response -> {
+            final List<float[]> samples = readVectors(response, request.getField(), request.getEncoding());
+            log.debug("Sampled {} vectors of field [{}] to fit projection [{}]", samples.size(), request.getField(), request.getName());
+            fitAndCreate(request, samples, listener);
+        }, listener::onFailure));
+    }
+
+    private void fitAndCreate(
+        final FitVectorProjectionRequest request,
+        final List<float[]> samples,
+        final ActionListener<FitVectorProjectionResponse> listener
+    ) {
+        threadPool.generic().execute(() -> {
+            final VectorProjection projection;
+            try {
+                projection = VectorProjection.RANDOM_METHOD.equals(request.getMethod())
+                    ? VectorProjectionFitter.random(
+                        request.getName(),
+                        request.getInputDimension(),
+                        request.getOutputDimension(),
+                        request.getSeed()
+                    )
+                    : VectorProjectionFitter.pca(request.getName(), samples, request.getOutputDimension(), request.getSeed());
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            projectionStore.create(
+                projection,
+                ActionListener.wrap(
+                    created -> listener.onResponse(
+                        new FitVectorProjectionResponse(
+                            created.getName(),
+                            created.getMethod(),
+                            created.getInputDimension(),
+                            created.getOutputDimension(),
+                            samples.size()
+                        )
+                    ),
+                    listener::onFailure
+                )
+            );
+        });
+    }
+
+    private static List<float[]> readVectors(final SearchResponse response, final String field, final VectorEncoding encoding) {
+        final List<float[]> vectors = new ArrayList<>(response.getHits().getHits().length);
+        for (SearchHit hit : response.getHits().getHits()) {
+            final Object value = XContentMapValues.extractValue(field, hit.getSourceAsMap());
+            if (value == null) {
+                continue;
+            }
+            final float[] vector = encoding.decode(value);
+            if (vector == null) {
+                throw new IllegalArgumentException("field [" + field + "] of document [" + hit.getId() + "] is not a vector");
+            }
+            vectors.add(vector);
+        }
+        return vectors;
+    }
+}
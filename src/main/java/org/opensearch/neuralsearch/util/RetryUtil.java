@@ -5,21 +5,32 @@
 
 package org.opensearch.neuralsearch.util;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.transport.NodeDisconnectedException;
 import org.opensearch.transport.NodeNotConnectedException;
 
-import com.google.common.collect.ImmutableList;
-
 public class RetryUtil {
 
     private static final int MAX_RETRY = 3;
 
-    private static final List<Class<? extends Throwable>> RETRYABLE_EXCEPTIONS = ImmutableList.of(
-        NodeNotConnectedException.class,
-        NodeDisconnectedException.class
+    // caps the exponent of the backoff, so that the delay can not overflow before it is capped by the max backoff
+    private static final int MAX_BACKOFF_EXPONENT = 30;
+
+    /**
+     * Class names of the exceptions retried by default, subclasses of these exceptions are retried as well.
+     */
+    public static final List<String> DEFAULT_RETRYABLE_EXCEPTIONS = List.of(
+        NodeNotConnectedException.class.getName(),
+        NodeDisconnectedException.class.getName(),
+        OpenSearchRejectedExecutionException.class.getName(),
+        CircuitBreakingException.class.getName()
     );
 
     /**
@@ -29,8 +40,51 @@ public class RetryUtil {
      * @return {@link boolean} which is the result of if current exception needs retry or not.
      */
     public static boolean shouldRetry(final Exception e, int retryTime) {
-        boolean hasRetryException = RETRYABLE_EXCEPTIONS.stream().anyMatch(x -> ExceptionUtils.indexOfThrowable(e, x) != -1);
-        return hasRetryException && retryTime < MAX_RETRY;
+        return shouldRetry(e, retryTime, MAX_RETRY, DEFAULT_RETRYABLE_EXCEPTIONS);
     }
 
+    /**
+     *
+     * @param e {@link Exception} which is the exception received to check if retryable.
+     * @param retryTime {@link int} which is the current retried times.
+     * @param maxRetry {@link int} which is the max retried times.
+     * @param retryableExceptions class names of the retryable exceptions, which are matched against the exception,
+     *                            its causes and their superclasses.
+     * @return {@link boolean} which is the result of if current exception needs retry or not.
+     */
+    public static boolean shouldRetry(final Exception e, int retryTime, int maxRetry, final Collection<String> retryableExceptions) {
+        if (retryTime >= maxRetry) {
+            return false;
+        }
+        for (Throwable throwable : ExceptionUtils.getThrowableList(e)) {
+            for (Class<?> clazz = throwable.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+                if (retryableExceptions.contains(clazz.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the delay before a retry as an exponential backoff with full jitter, a random delay between 0 and
+     * initialBackoff * 2^retryTime capped by maxBackoff. The jitter spreads the retries of the calls which failed
+     * together, such as on a node disconnect.
+     *
+     * @param retryTime {@link int} which is the current retried times.
+     * @param initialBackoff {@link TimeValue} cap of the delay of the first retry
+     * @param maxBackoff {@link TimeValue} cap of the delay of any retry
+     * @param random {@link Random} source of the jitter
+     * @return delay in milliseconds
+     */
+    public static long backoffDelayMillis(
+        final int retryTime,
+        final TimeValue initialBackoff,
+        final TimeValue maxBackoff,
+        final Random random
+    ) {
+        final long exponentialBackoff = initialBackoff.millis() << Math.min(retryTime, MAX_BACKOFF_EXPONENT);
+        final long cap = Math.min(maxBackoff.millis(), exponentialBackoff < 0 ? Long.MAX_VALUE : exponentialBackoff);
+        return (long) (random.nextDouble() * (cap + 1));
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.util;
+
+/**
+ * Token bucket which caps the extra calls, such as retries or hedges, to a share of the regular calls. Every regular
+ * call deposits {@link #ratio} tokens, every extra call withdraws a whole token.
+ */
+public class TokenBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    /**
+     * @param ratio tokens deposited by a regular call
+     * @param maxTokens tokens which can be saved, which is the burst of extra calls allowed after a quiet period
+     * @param initialTokens tokens available before any regular call
+     */
+    public TokenBudget(final double ratio, final double maxTokens, final double initialTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = Math.min(initialTokens, maxTokens);
+    }
+
+    /**
+     * Deposits the tokens of a regular call.
+     */
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * Withdraws the token of an extra call.
+     *
+     * @return true if the extra call is within the budget
+     */
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Scalar quantization of float vectors to int8 vectors. The knn_vector fields of k-NN 2.7 only store floats, so the
+ * int8 values are indexed as floats and take as much memory and disk as the float vectors, quantization only coarsens
+ * the values. The space saving needs a byte vector field, which later k-NN versions add, so the processor and the
+ * query reject the option until then, see {@link #checkSupported}. Each dimension is mapped
+ * with the same affine function and rounded, values outside of the range are clamped to [-128, 127]. The quantizer is
+ * configured either with the min and max values of the model, calibrated on a sample of its vectors, which are mapped
+ * to -128 and 127, or with a fixed scale which maps 0 to 0, so the order of the inner products is kept as well.
+ * Documents and queries must be quantized with the same configuration to be in the same space.
+ *
+ * The configuration format, in the processor and the query, is:
+ * {
+ *   "type": "int8", (optional)
+ *   "min": float,
+ *   "max": float
+ * }
+ * or
+ * {
+ *   "type": "int8", (optional)
+ *   "scale": float
+ * }
+ */
+@EqualsAndHashCode
+public final class ScalarQuantizer implements Writeable, ToXContentObject {
+
+    public static final String INT8_TYPE = "int8";
+    public static final String TYPE_FIELD = "type";
+    public static final String MIN_FIELD = "min";
+    public static final String MAX_FIELD = "max";
+    public static final String SCALE_FIELD = "scale";
+    private static final Set<String> FIELDS = Set.of(TYPE_FIELD, MIN_FIELD, MAX_FIELD, SCALE_FIELD);
+
+    // null for a fixed scale quantizer
+    @Getter
+    private final Float min;
+    @Getter
+    private final Float max;
+    @Getter
+    private final Float scale;
+
+    @EqualsAndHashCode.Exclude
+    private final float multiplier;
+    @EqualsAndHashCode.Exclude
+    private final float offset;
+
+    private ScalarQuantizer(final Float min, final Float max, final Float scale) {
+        this.min = min;
+        this.max = max;
+        this.scale = scale;
+        if (scale != null) {
+            this.multiplier = scale;
+            this.offset = 0;
+        } else {
+            this.multiplier = (Byte.MAX_VALUE - Byte.MIN_VALUE) / (max - min);
+            this.offset = Byte.MIN_VALUE - min * multiplier;
+        }
+    }
+
+    public ScalarQuantizer(final StreamInput in) throws IOException {
+        this(in.readOptionalFloat(), in.readOptionalFloat(), in.readOptionalFloat());
+    }
+
+    /**
+     * @param min value mapped to -128
+     * @param max value mapped to 127, greater than min
+     * @return {@link ScalarQuantizer} calibrated on the range of the model
+     */
+    public static ScalarQuantizer ofRange(final float min, final float max) {
+        if (!Float.isFinite(min) || !Float.isFinite(max) || min >= max) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "quantization min [%s] must be lower than max [%s]", min, max));
+        }
+        return new ScalarQuantizer(min, max, null);
+    }
+
+    /**
+     * @param scale multiplier of the values, positive
+     * @return {@link ScalarQuantizer} with a fixed scale
+     */
+    public static ScalarQuantizer ofScale(final float scale) {
+        if (!Float.isFinite(scale) || scale <= 0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "quantization scale [%s] must be positive", scale));
+        }
+        return new ScalarQuantizer(null, null, scale);
+    }
+
+    /**
+     * Rejects the quantization option of a processor or a query, which would only lose precision as long as the
+     * quantized vectors are indexed as floats.
+     *
+     * @throws IllegalArgumentException until k-NN supports byte vector fields
+     */
+    public static void checkSupported() {
+        throw new IllegalArgumentException("quantization is not supported, the knn_vector fields of k-NN 2.7 can not store byte vectors");
+    }
+
+    /**
+     * Parses the quantization configuration of a processor or a query.
+     *
+     * @param config quantization configuration
+     * @return {@link ScalarQuantizer}
+     * @throws IllegalArgumentException if the configuration is invalid
+     */
+    public static ScalarQuantizer parse(final Map<String, Object> config) {
+        final Object type = config.getOrDefault(TYPE_FIELD, INT8_TYPE);
+        if (!INT8_TYPE.equals(type)) {
+            throw new IllegalArgumentException("unsupported quantization type [" + type + "], supported types are [" + INT8_TYPE + "]");
+        }
+        for (String key : config.keySet()) {
+            if (!FIELDS.contains(key)) {
+                throw new IllegalArgumentException("quantization does not support [" + key + "]");
+            }
+        }
+        final Float min = readFloat(config, MIN_FIELD);
+        final Float max = readFloat(config, MAX_FIELD);
+        final Float scale = readFloat(config, SCALE_FIELD);
+        if (scale != null && min == null && max == null) {
+            return ofScale(scale);
+        }
+        if (scale == null && min != null && max != null) {
+            return ofRange(min, max);
+        }
+        throw new IllegalArgumentException("quantization requires either [min] and [max] or [scale]");
+    }
+
+    private static Float readFloat(final Map<String, Object> config, final String field) {
+        final Object value = config.get(field);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).floatValue();
+        }
+        try {
+            return Float.parseFloat(value.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("quantization [" + field + "] must be a number, got [" + value + "]");
+        }
+    }
+
+    /**
+     * @param vector float vector
+     * @return int8 vector of the same dimension
+     */
+    public byte[] quantize(final float[] vector) {
+        final byte[] quantized = new byte[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            quantized[i] = (byte) quantizeValue(vector[i]);
+        }
+        return quantized;
+    }
+
+    /**
+     * Quantizes a query vector, the int8 values are returned as floats as the k-NN query takes a float vector.
+     *
+     * @param vector float vector
+     * @return int8 values of the vector, as floats
+     */
+    public float[] quantizeAsFloats(final float[] vector) {
+        final float[] quantized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            quantized[i] = quantizeValue(vector[i]);
+        }
+        return quantized;
+    }
+
+    private int quantizeValue(final float value) {
+        final int quantized = Math.round(value * multiplier + offset);
+        return Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, quantized));
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeOptionalFloat(min);
+        out.writeOptionalFloat(max);
+        out.writeOptionalFloat(scale);
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject();
+        builder.field(TYPE_FIELD, INT8_TYPE);
+        if (scale != null) {
+            builder.field(SCALE_FIELD, scale);
+        } else {
+            builder.field(MIN_FIELD, min);
+            builder.field(MAX_FIELD, max);
+        }
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+import java.util.Locale;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.opensearch.neuralsearch.common.VectorUtil;
+
+/**
+ * Encoding of the float vectors written to the document source. By default a vector is a JSON array of numbers, which
+ * takes about 10 bytes of text per dimension and has to be parsed again to be indexed. The base64 encodings write the
+ * vector as a single string of its little endian float32 or float16 values, 4 or 2 bytes per dimension before the
+ * base64 expansion. Encoded vectors can not be indexed by a knn_vector field, they are meant for fields mapped as
+ * binary, or not indexed at all, which keep the vectors in the source for re-indexing, re-ranking or fitting a
+ * {@link VectorProjection}.
+ */
+@Getter
+@AllArgsConstructor
+public enum VectorEncoding {
+    ARRAY("array"),
+    BASE64_FLOAT32("base64_float32"),
+    BASE64_FLOAT16("base64_float16");
+
+    private final String name;
+
+    /**
+     * @param name name of the encoding
+     * @return {@link VectorEncoding}
+     * @throws IllegalArgumentException if there is no encoding with this name
+     */
+    public static VectorEncoding fromName(final String name) {
+        for (VectorEncoding encoding : values()) {
+            if (encoding.name.equals(name)) {
+                return encoding;
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "vector encoding must be one of [array, base64_float32, base64_float16] but got [%s]", name)
+        );
+    }
+
+    /**
+     * @param vector vector to encode
+     * @return value of the vector in the document source, a list of floats or a base64 string
+     */
+    public Object encode(final float[] vector) {
+        switch (this) {
+            case BASE64_FLOAT32:
+                final ByteBuffer floats = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                floats.asFloatBuffer().put(vector);
+                return Base64.getEncoder().encodeToString(floats.array());
+            case BASE64_FLOAT16:
+                final ByteBuffer halfFloats = ByteBuffer.allocate(vector.length * Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                for (float value : vector) {
+                    halfFloats.putShort(floatToHalf(value));
+                }
+                return Base64.getEncoder().encodeToString(halfFloats.array());
+            default:
+                return VectorUtil.vectorAsArrayToList(vector);
+        }
+    }
+
+    /**
+     * Reads a vector back from the document source. Arrays of numbers are read with any encoding, so documents written
+     * before the encoding of a field changed can still be read.
+     *
+     * @param sourceValue value of the vector field in the document source
+     * @return the vector, or null if the value is not a vector of this encoding
+     */
+    public float[] decode(final Object sourceValue) {
+        if (!(sourceValue instanceof String) || this == ARRAY) {
+            return VectorUtil.vectorFromSourceValue(sourceValue);
+        }
+        final byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode((String) sourceValue);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        if (this == BASE64_FLOAT32) {
+            if (bytes.length % Float.BYTES != 0) {
+                return null;
+            }
+            final float[] vector = new float[bytes.length / Float.BYTES];
+            buffer.asFloatBuffer().get(vector);
+            return vector;
+        }
+        if (bytes.length % Short.BYTES != 0) {
+            return null;
+        }
+        final float[] vector = new float[bytes.length / Short.BYTES];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = halfToFloat(buffer.getShort());
+        }
+        return vector;
+    }
+
+    /**
+     * IEEE 754 binary16 conversion rounding to the nearest even value, values beyond the range of half floats become
+     * infinities and values below it become zeros.
+     */
+    static short floatToHalf(final float value) {
+        final int bits = Float.floatToRawIntBits(value);
+        final int sign = (bits >>> 16) & 0x8000;
+        final int exponent = (bits >>> 23) & 0xff;
+        int mantissa = bits & 0x7fffff;
+        if (exponent == 0xff) {
+            // infinities keep a zero mantissa, NaNs a quiet one
+            return (short) (sign | 0x7c00 | (mantissa == 0 ? 0 : 0x200));
+        }
+        final int halfExponent = exponent - 127 + 15;
+        if (halfExponent >= 0x1f) {
+            return (short) (sign | 0x7c00);
+        }
+        if (halfExponent <= 0) {
+            if (halfExponent < -10) {
+                return (short) sign;
+            }
+            // subnormal half float, the implicit leading bit of the float becomes explicit
+            mantissa |= 0x800000;
+            final int shift = 14 - halfExponent;
+            return (short) (sign | roundToNearestEven(mantissa >> shift, mantissa & ((1 << shift) - 1), 1 << (shift - 1)));
+        }
+        // a carry of the rounding into the exponent gives the next power of two, or the infinity
+        return (short) (sign | roundToNearestEven((halfExponent << 10) | (mantissa >> 13), mantissa & 0x1fff, 0x1000));
+    }
+
+    private static int roundToNearestEven(final int truncated, final int remainder, final int halfway) {
+        return remainder > halfway || (remainder == halfway && (truncated & 1) != 0) ? truncated + 1 : truncated;
+    }
+
+    static float halfToFloat(final short half) {
+        final int bits = half & 0xffff;
+        final int sign = (bits & 0x8000) << 16;
+        final int exponent = (bits >>> 10) & 0x1f;
+        final int mantissa = bits & 0x3ff;
+        if (exponent == 0x1f) {
+            return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            final float value = mantissa * 0x1p-24f;
+            return sign == 0 ? value : -value;
+        }
+        return Float.intBitsToFloat(sign | ((exponent - 15 + 127) << 23) | (mantissa << 13));
+    }
+}
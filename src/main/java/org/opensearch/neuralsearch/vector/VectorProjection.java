@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Linear projection of vectors of inputDimension dimensions to outputDimension dimensions, y = W x - b. W is either a
+ * seeded random Gaussian matrix, which keeps the distances between vectors up to a small error, or the top principal
+ * components of a sample of vectors, in which case b is W times the mean of the sample so vectors are centered first.
+ * Projections are fitted with {@link VectorProjectionFitter} and persisted by name in {@link VectorProjectionStore}.
+ */
+@Getter
+public final class VectorProjection implements ToXContentObject {
+
+    public static final String RANDOM_METHOD = "random";
+    public static final String PCA_METHOD = "pca";
+
+    static final String METHOD_FIELD = "method";
+    static final String INPUT_DIMENSION_FIELD = "input_dimension";
+    static final String OUTPUT_DIMENSION_FIELD = "output_dimension";
+    static final String MATRIX_FIELD = "matrix";
+    static final String BIAS_FIELD = "bias";
+
+    // rows of W computed together, every loaded dimension of the input is used by as many rows
+    private static final int ROW_BLOCK = 4;
+
+    private final String name;
+    private final String method;
+    private final int inputDimension;
+    private final int outputDimension;
+    // W in row major order, outputDimension rows of inputDimension values
+    private final float[] matrix;
+    // b, null if the projection does not center the vectors
+    private final float[] bias;
+
+    public VectorProjection(
+        final String name,
+        final String method,
+        final int inputDimension,
+        final int outputDimension,
+        final float[] matrix,
+        final float[] bias
+    ) {
+        if (inputDimension <= 0 || outputDimension <= 0 || outputDimension > inputDimension) {
+            throw new IllegalArgumentException(
+                "projection output dimension ["
+                    + outputDimension
+                    + "] must be positive and at most the input dimension ["
+                    + inputDimension
+                    + "]"
+            );
+        }
+        if (matrix.length != inputDimension * outputDimension || (bias != null && bias.length != outputDimension)) {
+            throw new IllegalArgumentException("projection [" + name + "] does not match its dimensions");
+        }
+        this.name = name;
+        this.method = method;
+        this.inputDimension = inputDimension;
+        this.outputDimension = outputDimension;
+        this.matrix = matrix;
+        this.bias = bias;
+    }
+
+    /**
+     * Projects a vector. Blocks of {@link #ROW_BLOCK} rows are multiplied in a single pass over the input, with
+     * independent accumulators, so each input value is loaded once per block and the inner loop has no dependency
+     * between the rows.
+     *
+     * @param vector vector of inputDimension dimensions
+     * @return new vector of outputDimension dimensions
+     */
+    public float[] project(final float[] vector) {
+        if (vector.length != inputDimension) {
+            throw new IllegalArgumentException(
+                "projection [" + name + "] expects vectors of dimension [" + inputDimension + "] but got [" + vector.length + "]"
+            );
+        }
+        final float[] projected = new float[outputDimension];
+        int row = 0;
+        for (; row + ROW_BLOCK <= outputDimension; row += ROW_BLOCK) {
+            final int offset0 = row * inputDimension;
+            final int offset1 = offset0 + inputDimension;
+            final int offset2 = offset1 + inputDimension;
+            final int offset3 = offset2 + inputDimension;
+            float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+            for (int i = 0; i < inputDimension; i++) {
+                final float value = vector[i];
+                sum0 += matrix[offset0 + i] * value;
+                sum1 += matrix[offset1 + i] * value;
+                sum2 += matrix[offset2 + i] * value;
+                sum3 += matrix[offset3 + i] * value;
+            }
+            projected[row] = sum0;
+            projected[row + 1] = sum1;
+            projected[row + 2] = sum2;
+            projected[row + 3] = sum3;
+        }
+        for (; row < outputDimension; row++) {
+            final int offset = row * inputDimension;
+            float sum = 0;
+            for (int i = 0; i < inputDimension; i++) {
+                sum += matrix[offset + i] * vector[i];
+            }
+            projected[row] = sum;
+        }
+        if (bias != null) {
+            for (int i = 0; i < outputDimension; i++) {
+                projected[i] -= bias[i];
+            }
+        }
+        return projected;
+    }
+
+    /**
+     * @param vectors vectors of inputDimension dimensions
+     * @return projected vectors, in the same order
+     */
+    public List<float[]> project(final List<float[]> vectors) {
+        final List<float[]> projected = new ArrayList<>(vectors.size());
+        for (float[] vector : vectors) {
+            projected.add(project(vector));
+        }
+        return projected;
+    }
+
+    /**
+     * @return document of the projection in {@link VectorProjectionStore#INDEX_NAME}, W and b are encoded with
+     * {@link VectorEncoding#BASE64_FLOAT32}
+     */
+    public Map<String, Object> toSource() {
+        final Map<String, Object> source = new HashMap<>();
+        source.put(METHOD_FIELD, method);
+        source.put(INPUT_DIMENSION_FIELD, inputDimension);
+        source.put(OUTPUT_DIMENSION_FIELD, outputDimension);
+        source.put(MATRIX_FIELD, VectorEncoding.BASE64_FLOAT32.encode(matrix));
+        if (bias != null) {
+            source.put(BIAS_FIELD, VectorEncoding.BASE64_FLOAT32.encode(bias));
+        }
+        return source;
+    }
+
+    /**
+     * @param name name of the projection
+     * @param source document of the projection in {@link VectorProjectionStore#INDEX_NAME}
+     * @return {@link VectorProjection}
+     */
+    public static VectorProjection fromSource(final String name, final Map<String, Object> source) {
+        final Object bias = source.get(BIAS_FIELD);
+        return new VectorProjection(
+            name,
+            (String) source.get(METHOD_FIELD),
+            ((Number) source.get(INPUT_DIMENSION_FIELD)).intValue(),
+            ((Number) source.get(OUTPUT_DIMENSION_FIELD)).intValue(),
+            VectorEncoding.BASE64_FLOAT32.decode(source.get(MATRIX_FIELD)),
+            bias == null ? null : VectorEncoding.BASE64_FLOAT32.decode(bias)
+        );
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject();
+        builder.field("name", name);
+        builder.field(METHOD_FIELD, method);
+        builder.field(INPUT_DIMENSION_FIELD, inputDimension);
+        builder.field(OUTPUT_DIMENSION_FIELD, outputDimension);
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fits {@link VectorProjection}s, either a seeded random projection or the principal components of a sample of
+ * vectors.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VectorProjectionFitter {
+
+    static final int MAX_ITERATIONS = 30;
+    static final double CONVERGENCE_TOLERANCE = 1e-6;
+    private static final double ZERO_NORM = 1e-12;
+
+    /**
+     * Random projection with independent Gaussian entries of variance 1 / outputDimension, which keeps the distances
+     * and inner products of the vectors up to a small error (Johnson-Lindenstrauss).
+     *
+     * @param name name of the projection
+     * @param inputDimension dimension of the vectors of the model
+     * @param outputDimension dimension of the projected vectors
+     * @param seed seed of the matrix, the same seed gives the same matrix
+     * @return {@link VectorProjection}
+     */
+    public static VectorProjection random(final String name, final int inputDimension, final int outputDimension, final long seed) {
+        if (inputDimension <= 0 || outputDimension <= 0 || outputDimension > inputDimension) {
+            throw new IllegalArgumentException(
+                "projection output dimension ["
+                    + outputDimension
+                    + "] must be positive and at most the input dimension ["
+                    + inputDimension
+                    + "]"
+            );
+        }
+        final Random random = new Random(seed);
+        final double scale = 1.0 / Math.sqrt(outputDimension);
+        final float[] matrix = new float[inputDimension * outputDimension];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = (float) (random.nextGaussian() * scale);
+        }
+        return new VectorProjection(name, VectorProjection.RANDOM_METHOD, inputDimension, outputDimension, matrix, null);
+    }
+
+    /**
+     * Principal component analysis of a sample of vectors. The top outputDimension eigenvectors of the covariance of
+     * the sample are found by orthogonal iteration, which runs at most {@link #MAX_ITERATIONS} multiplications of the
+     * covariance by the basis, and are ordered by decreasing variance, so the projected vectors can be truncated as
+     * well.
+     *
+     * @param name name of the projection
+     * @param samples vectors of the model, at least two and all of the same dimension
+     * @param outputDimension dimension of the projected vectors
+     * @param seed seed of the initial basis
+     * @return {@link VectorProjection} which centers the vectors on the mean of the sample
+     */
+    public static VectorProjection pca(final String name, final List<float[]> samples, final int outputDimension, final long seed) {
+        if (samples.size() < 2) {
+            throw new IllegalArgumentException("principal component analysis requires at least 2 vectors but got [" + samples.size() + "]");
+        }
+        final int dimension = samples.get(0).length;
+        if (outputDimension <= 0 || outputDimension > dimension) {
+            throw new IllegalArgumentException(
+                "projection output dimension [" + outputDimension + "] must be positive and at most the input dimension [" + dimension + "]"
+            );
+        }
+        final double[] mean = new double[dimension];
+        for (float[] sample : samples) {
+            if (sample.length != dimension) {
+                throw new IllegalArgumentException(
+                    "all the sampled vectors must have dimension [" + dimension + "] but got [" + sample.length + "]"
+                );
+            }
+            for (int i = 0; i < dimension; i++) {
+                mean[i] += sample[i];
+            }
+        }
+        for (int i = 0; i < dimension; i++) {
+            mean[i] /= samples.size();
+        }
+        final double[] covariance = covariance(samples, mean);
+
+        final Random random = new Random(seed);
+        double[][] basis = new double[outputDimension][];
+        for (int k = 0; k < outputDimension; k++) {
+            basis[k] = randomVector(random, dimension);
+        }
+        orthonormalize(basis, random);
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            final double[][] next = new double[outputDimension][];
+            for (int k = 0; k < outputDimension; k++) {
+                next[k] = multiply(covariance, basis[k]);
+            }
+            orthonormalize(next, random);
+            double minAlignment = 1;
+            for (int k = 0; k < outputDimension; k++) {
+                minAlignment = Math.min(minAlignment, Math.abs(dot(next[k], basis[k])));
+            }
+            basis = next;
+            if (1 - minAlignment < CONVERGENCE_TOLERANCE) {
+                break;
+            }
+        }
+
+        final double[][] components = basis;
+        final double[] variances = new double[outputDimension];
+        final Integer[] order = new Integer[outputDimension];
+        for (int k = 0; k < outputDimension; k++) {
+            variances[k] = dot(components[k], multiply(covariance, components[k]));
+            order[k] = k;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer k) -> variances[k]).reversed());
+
+        final float[] matrix = new float[outputDimension * dimension];
+        final float[] bias = new float[outputDimension];
+        for (int row = 0; row < outputDimension; row++) {
+            final double[] component = components[order[row]];
+            for (int i = 0; i < dimension; i++) {
+                matrix[row * dimension + i] = (float) component[i];
+            }
+            bias[row] = (float) dot(component, mean);
+        }
+        return new VectorProjection(name, VectorProjection.PCA_METHOD, dimension, outputDimension, matrix, bias);
+    }
+
+    /**
+     * @return sample covariance matrix, in row major order
+     */
+    private static double[] covariance(final List<float[]> samples, final double[] mean) {
+        final int dimension = mean.length;
+        final double[] covariance = new double[dimension * dimension];
+        final double[] centered = new double[dimension];
+        for (float[] sample : samples) {
+            for (int i = 0; i < dimension; i++) {
+                centered[i] = sample[i] - mean[i];
+            }
+            // only the upper triangle is accumulated, it is mirrored once all the samples are added
+            for (int i = 0; i < dimension; i++) {
+                final double value = centered[i];
+                final int offset = i * dimension;
+                for (int j = i; j < dimension; j++) {
+                    covariance[offset + j] += value * centered[j];
+                }
+            }
+        }
+        final double normalization = 1.0 / (samples.size() - 1);
+        for (int i = 0; i < dimension; i++) {
+            for (int j = i; j < dimension; j++) {
+                final double value = covariance[i * dimension + j] * normalization;
+                covariance[i * dimension + j] = value;
+                covariance[j * dimension + i] = value;
+            }
+        }
+        return covariance;
+    }
+
+    private static double[] multiply(final double[] matrix, final double[] vector) {
+        final int dimension = vector.length;
+        final double[] result = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            final int offset = i * dimension;
+            double sum = 0;
+            for (int j = 0; j < dimension; j++) {
+                sum += matrix[offset + j] * vector[j];
+            }
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * Modified Gram-Schmidt, a vector which is in the span of the previous ones, as happens when the sample has fewer
+     * directions than the output dimension, is replaced by a random vector.
+     */
+    private static void orthonormalize(final double[][] vectors, final Random random) {
+        for (int k = 0; k < vectors.length; k++) {
+            double norm = removeProjections(vectors, k);
+            while (norm < ZERO_NORM) {
+                vectors[k] = randomVector(random, vectors[k].length);
+                norm = removeProjections(vectors, k);
+            }
+            for (int i = 0; i < vectors[k].length; i++) {
+                vectors[k][i] /= norm;
+            }
+        }
+    }
+
+    /**
+     * @return norm of vectors[k] once its projections on the previous vectors are removed
+     */
+    private static double removeProjections(final double[][] vectors, final int k) {
+        final double[] vector = vectors[k];
+        for (int previous = 0; previous < k; previous++) {
+            final double projection = dot(vector, vectors[previous]);
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] -= projection * vectors[previous][i];
+            }
+        }
+        return Math.sqrt(dot(vector, vector));
+    }
+
+    private static double[] randomVector(final Random random, final int dimension) {
+        final double[] vector = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static double dot(final double[] a, final double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceAlreadyExistsException;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.admin.indices.create.CreateIndexRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.engine.VersionConflictEngineException;
+
+/**
+ * Persists the {@link VectorProjection}s by name in a system index and keeps the ones used on the node in memory.
+ * Projections are immutable, a projection can not be replaced under the same name, so the copies kept by the nodes
+ * never go stale.
+ */
+@Log4j2
+public class VectorProjectionStore {
+
+    public static final String INDEX_NAME = ".plugins-neural-search-projections";
+
+    private static final String INDEX_MAPPING = "{\"dynamic\":false,\"properties\":{"
+        + "\"method\":{\"type\":\"keyword\"},"
+        + "\"input_dimension\":{\"type\":\"integer\"},"
+        + "\"output_dimension\":{\"type\":\"integer\"},"
+        + "\"matrix\":{\"type\":\"binary\"},"
+        + "\"bias\":{\"type\":\"binary\"}}}";
+
+    private final Client client;
+    private final Map<String, VectorProjection> projections = new ConcurrentHashMap<>();
+
+    public VectorProjectionStore(final Client client) {
+        this.client = client;
+    }
+
+    /**
+     * @param name name of the projection
+     * @return {@link VectorProjection} if it was already loaded on the node, null otherwise
+     */
+    public VectorProjection getIfLoaded(final String name) {
+        return projections.get(name);
+    }
+
+    /**
+     * Gets a projection, which is loaded from the system index the first time it is used on the node.
+     *
+     * @param name name of the projection
+     * @param listener {@link ActionListener} called with the {@link VectorProjection}, or with a
+     *                 {@link ResourceNotFoundException} if there is no projection with this name
+     */
+    public void get(final String name, final ActionListener<VectorProjection> listener) {
+        final VectorProjection loaded = projections.get(name);
+        if (loaded != null) {
+            listener.onResponse(loaded);
+            return;
+        }
+        final ThreadContext threadContext = client.threadPool().getThreadContext();
+        final Supplier<ThreadContext.StoredContext> restorableContext = threadContext.newRestorableContext(false);
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            client.get(
+                new GetRequest(INDEX_NAME, name),
+                new ContextPreservingActionListener<>(restorableContext, ActionListener.wrap(response -> {
+                    if (!response.isExists()) {
+                        listener.onFailure(new ResourceNotFoundException("projection [" + name + "] does not exist"));
+                        return;
+                    }
+                    final VectorProjection projection = VectorProjection.fromSource(name, response.getSourceAsMap());
+                    projections.putIfAbsent(name, projection);
+                    listener.onResponse(projection);
+                }, e -> {
+                    if (ExceptionsHelper.unwrapCause(e) instanceof IndexNotFoundException) {
+                        listener.onFailure(new ResourceNotFoundException("projection [" + name + "] does not exist"));
+                    } else {
+                        listener.onFailure(e);
+                    }
+                }))
+            );
+        }
+    }
+
+    /**
+     * Persists a new projection, the system index is created with the first projection.
+     *
+     * @param projection {@link VectorProjection} to persist
+     * @param listener {@link ActionListener} called once the projection is persisted, or with a
+     *                 {@link ResourceAlreadyExistsException} if a projection already has this name
+     */
+    public void create(final VectorProjection projection, final ActionListener<VectorProjection> listener) {
+        final ThreadContext threadContext = client.threadPool().getThreadContext();
+        final Supplier<ThreadContext.StoredContext> restorableContext = threadContext.newRestorableContext(false);
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            final ActionListener<VectorProjection> contextListener = new ContextPreservingActionListener<>(restorableContext, listener);
+            client.admin().indices().create(createIndexRequest(), ActionListener.wrap(response -> index(projection, contextListener), e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof ResourceAlreadyExistsException) {
+                    index(projection, contextListener);
+                } else {
+                    contextListener.onFailure(e);
+                }
+            }));
+        }
+    }
+
+    private void index(final VectorProjection projection, final ActionListener<VectorProjection> listener) {
+        final IndexRequest indexRequest = new IndexRequest(INDEX_NAME).id(projection.getName())
+            .source(projection.toSource())
+            .create(true)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        client.index(indexRequest, ActionListener.wrap(response -> {
+            log.info("Created projection [{}]", projection.getName());
+            projections.putIfAbsent(projection.getName(), projection);
+            listener.onResponse(projection);
+        }, e -> {
+            if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+                listener.onFailure(new ResourceAlreadyExistsException("projection [{}] already exists", projection.getName()));
+            } else {
+                listener.onFailure(e);
+            }
+        }));
+    }
+
+    private static CreateIndexRequest createIndexRequest() {
+        return new CreateIndexRequest(INDEX_NAME).settings(
+            Settings.builder().put("index.number_of_shards", 1).put("index.auto_expand_replicas", "0-1").put("index.hidden", true)
+        ).mapping(INDEX_MAPPING, XContentType.JSON);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.cache;
+
+import java.util.Map;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EmbeddingCacheTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+
+    public void testGet_whenVectorCached_thenHit() {
+        EmbeddingCache embeddingCache = new EmbeddingCache(1024 * 1024);
+        float[] vector = new float[] { 1.0f, 2.0f };
+
+        assertNull(embeddingCache.get(MODEL_ID, "text"));
+        embeddingCache.put(MODEL_ID, "text", vector);
+
+        assertArrayEquals(vector, embeddingCache.get(MODEL_ID, "text"), 0.0f);
+        assertNull(embeddingCache.get("otherModelId", "text"));
+        assertNull(embeddingCache.get(MODEL_ID, "other text"));
+        assertEquals(1, embeddingCache.count());
+        assertTrue(embeddingCache.weightInBytes() > 0);
+        Cache.CacheStats stats = embeddingCache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(3, stats.getMisses());
+    }
+
+    public void testPut_whenMaxSizeReached_thenEvictLeastRecentlyUsed() {
+        EmbeddingCache embeddingCache = new EmbeddingCache(1000);
+        for (int i = 0; i < 100; i++) {
+            embeddingCache.put(MODEL_ID, "text" + i, new float[] { 1.0f, 2.0f, 3.0f, 4.0f });
+        }
+
+        assertTrue(embeddingCache.weightInBytes() <= 1000);
+        assertTrue(embeddingCache.stats().getEvictions() > 0);
+        assertNotNull(embeddingCache.get(MODEL_ID, "text99"));
+        assertNull(embeddingCache.get(MODEL_ID, "text0"));
+    }
+
+    public void testPut_whenCacheDisabled_thenNoop() {
+        EmbeddingCache embeddingCache = new EmbeddingCache(0);
+        embeddingCache.put(MODEL_ID, "text", new float[] { 1.0f });
+
+        assertFalse(embeddingCache.isEnabled());
+        assertNull(embeddingCache.get(MODEL_ID, "text"));
+        assertEquals(0, embeddingCache.count());
+    }
+
+    public void testStatsAsMap_whenCacheUsed_thenReportCounts() {
+        EmbeddingCache embeddingCache = new EmbeddingCache(1024 * 1024);
+        embeddingCache.put(MODEL_ID, "text", new float[] { 1.0f, 2.0f });
+        embeddingCache.get(MODEL_ID, "text");
+        embeddingCache.get(MODEL_ID, "other text");
+
+        Map<String, Object> stats = embeddingCache.statsAsMap();
+
+        assertEquals(1L, stats.get("count"));
+        assertEquals(embeddingCache.weightInBytes(), stats.get("size_in_bytes"));
+        assertEquals(1L, stats.get("hit_count"));
+        assertEquals(1L, stats.get("miss_count"));
+        assertEquals(0L, stats.get("eviction_count"));
+    }
+}
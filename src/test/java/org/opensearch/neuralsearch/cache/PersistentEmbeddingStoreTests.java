@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.opensearch.neuralsearch.common.VectorUtil;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PersistentEmbeddingStoreTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+
+    private Path directory;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("embedding-store");
+    }
+
+    public void testGet_whenVectorStored_thenReturnVector() throws IOException {
+        try (PersistentEmbeddingStore store = new PersistentEmbeddingStore(directory, 4096, Runnable::run)) {
+            store.put(MODEL_ID, "text", new float[] { 1.0f, 2.0f, 3.0f });
+
+            assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f }, VectorUtil.vectorAsBufferToArray(store.get(MODEL_ID, "text")), 0.0f);
+            assertNull(store.get(MODEL_ID, "otherText"));
+            assertNull(store.get("otherModelId", "text"));
+            assertEquals(1, store.count());
+        }
+    }
+
+    public void testGet_whenStoreReopened_thenReturnPersistedVector() throws IOException {
+        try (PersistentEmbeddingStore store = new PersistentEmbeddingStore(directory, 4096, Runnable::run)) {
+            store.put(MODEL_ID, "text", new float[] { 1.0f, 2.0f });
+        }
+
+        try (PersistentEmbeddingStore store = new PersistentEmbeddingStore(directory, 4096, Runnable::run)) {
+            assertEquals(1, store.count());
+            assertArrayEquals(new float[] { 1.0f, 2.0f }, VectorUtil.vectorAsBufferToArray(store.get(MODEL_ID, "text")), 0.0f);
+        }
+    }
+
+    public void testPut_whenStoreFull_thenCompactKeepingNewestVectors() throws IOException {
+        // every record takes 8 + 24 + 7 + 4 bytes, so 20 of them fill up the store
+        try (PersistentEmbeddingStore store = new PersistentEmbeddingStore(directory, 16 + 20 * 43, Runnable::run)) {
+            for (int i = 0; i < 20; i++) {
+                store.put(MODEL_ID, "text" + i, new float[] { (float) i });
+            }
+            assertEquals(20, store.count());
+
+            store.put(MODEL_ID, "text20", new float[] { 20.0f });
+
+            assertEquals(1, store.getDroppedPutCount());
+            assertEquals(10, store.count());
+            assertNull(store.get(MODEL_ID, "text0"));
+            assertArrayEquals(new float[] { 19.0f }, VectorUtil.vectorAsBufferToArray(store.get(MODEL_ID, "text19")), 0.0f);
+
+            store.put(MODEL_ID, "text20", new float[] { 20.0f });
+            assertArrayEquals(new float[] { 20.0f }, VectorUtil.vectorAsBufferToArray(store.get(MODEL_ID, "text20")), 0.0f);
+        }
+
+        try (PersistentEmbeddingStore store = new PersistentEmbeddingStore(directory, 16 + 20 * 43, Runnable::run)) {
+            assertEquals(11, store.count());
+        }
+    }
+
+    public void testPut_whenCompactionRunning_thenDropAndCount() throws IOException {
+        List<Runnable> compactions = new ArrayList<>();
+        try (PersistentEmbeddingStore store = new PersistentEmbeddingStore(directory, 16 + 2 * 43, compactions::add)) {
+            store.put(MODEL_ID, "text0", new float[] { 0.0f });
+            store.put(MODEL_ID, "text1", new float[] { 1.0f });
+            store.put(MODEL_ID, "text2", new float[] { 2.0f });
+            assertEquals(1, compactions.size());
+
+            store.put(MODEL_ID, "text3", new float[] { 3.0f });
+
+            assertNull(store.get(MODEL_ID, "text3"));
+            assertEquals(2, store.getDroppedPutCount());
+            assertEquals(2L, store.statsAsMap().get("dropped_put_count"));
+            assertEquals(2L, store.statsAsMap().get("count"));
+        }
+    }
+}
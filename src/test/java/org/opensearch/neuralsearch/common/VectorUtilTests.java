@@ -5,6 +5,7 @@
 
 package org.opensearch.neuralsearch.common;
 
+import java.nio.FloatBuffer;
 import java.util.Collections;
 import java.util.List;
 
@@ -26,4 +27,62 @@ public class VectorUtilTests extends OpenSearchTestCase {
         assertEquals(0, vectorAsArray_withNoElements.length);
     }
 
+    public void testVectorAsArrayToList() {
+        float[] vectorAsArray = new float[] { 1.3f, 2.5f, 3.5f };
+        List<Float> vectorAsList = VectorUtil.vectorAsArrayToList(vectorAsArray);
+
+        assertEquals(List.of(1.3f, 2.5f, 3.5f), vectorAsList);
+        // the list is a mutable copy, later processors can change it without touching the cached array
+        vectorAsList.set(0, 1.0f);
+        assertEquals(1.3f, vectorAsArray[0], 0.0f);
+    }
+
+    public void testVectorAsBufferToArray() {
+        FloatBuffer vectorAsBuffer = FloatBuffer.wrap(new float[] { 1.3f, 2.5f, 3.5f }, 1, 2);
+        float[] vectorAsArray = VectorUtil.vectorAsBufferToArray(vectorAsBuffer);
+
+        assertArrayEquals(new float[] { 2.5f, 3.5f }, vectorAsArray, 0.0f);
+        assertEquals(1, vectorAsBuffer.position());
+    }
+
+    public void testDotProduct() {
+        assertEquals(32.0f, VectorUtil.dotProduct(new float[] { 1, 2, 3 }, new float[] { 4, 5, 6 }), 0.0f);
+        expectThrows(IllegalArgumentException.class, () -> VectorUtil.dotProduct(new float[] { 1, 2 }, new float[] { 1, 2, 3 }));
+    }
+
+    public void testCosine() {
+        assertEquals(1.0f, VectorUtil.cosine(new float[] { 1, 2, 3 }, new float[] { 2, 4, 6 }), 1e-6f);
+        assertEquals(0.0f, VectorUtil.cosine(new float[] { 1, 0 }, new float[] { 0, 1 }), 0.0f);
+        assertEquals(0.0f, VectorUtil.cosine(new float[] { 0, 0 }, new float[] { 0, 1 }), 0.0f);
+    }
+
+    public void testL2DistanceAndNorm() {
+        assertEquals(5.0f, VectorUtil.l2Distance(new float[] { 0, 0 }, new float[] { 3, 4 }), 0.0f);
+        assertEquals(5.0f, VectorUtil.norm(new float[] { 3, 4 }), 0.0f);
+    }
+
+    public void testNormalize() {
+        float[] vector = new float[] { 3, 4 };
+
+        assertSame(vector, VectorUtil.normalize(vector));
+        assertArrayEquals(new float[] { 0.6f, 0.8f }, vector, 1e-6f);
+        assertArrayEquals(new float[] { 0, 0 }, VectorUtil.normalize(new float[] { 0, 0 }), 0.0f);
+    }
+
+    public void testTruncate_whenDimensionsLower_thenKeepFirstDimensionsNormalized() {
+        float[] vector = new float[] { 3, 4, 12 };
+
+        assertArrayEquals(new float[] { 0.6f, 0.8f }, VectorUtil.truncate(vector, 2), 1e-6f);
+        assertArrayEquals(new float[] { 3, 4, 12 }, vector, 0.0f);
+        expectThrows(IllegalArgumentException.class, () -> VectorUtil.truncate(vector, 4));
+        expectThrows(IllegalArgumentException.class, () -> VectorUtil.truncate(vector, 0));
+    }
+
+    public void testDotProductsAndCosines_whenMatrix_thenOneScorePerRow() {
+        float[] query = new float[] { 1, 0 };
+        float[][] matrix = new float[][] { { 2, 0 }, { 0, 3 }, { 1, 1 }, { 0, 0 } };
+
+        assertArrayEquals(new float[] { 2, 0, 1, 0 }, VectorUtil.dotProducts(query, matrix), 0.0f);
+        assertArrayEquals(new float[] { 1, 0, (float) Math.sqrt(0.5), 0 }, VectorUtil.cosines(query, matrix), 1e-6f);
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class AdaptiveConcurrencyLimiterTests extends OpenSearchTestCase {
+
+    private AtomicLong nanoTime;
+    private List<AdaptiveConcurrencyLimiter.Permit> permits;
+
+    @Before
+    public void setup() {
+        nanoTime = new AtomicLong();
+        permits = new ArrayList<>();
+    }
+
+    public void testExecute_whenLimitReached_thenQueueUntilRelease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 2, 10, 10, 0.0, nanoTime::get, Runnable::run);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.execute(InferencePriority.BULK, permits::add);
+        }
+        assertEquals(2, permits.size());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getQueueSize());
+
+        permits.get(0).release();
+        // releasing twice must not free another slot
+        permits.get(0).release();
+
+        assertEquals(3, permits.size());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueueSize());
+    }
+
+    public void testExecute_whenQueueFull_thenReject() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 1, 10, 1, 0.0, nanoTime::get, Runnable::run);
+        limiter.execute(InferencePriority.BULK, permits::add);
+        limiter.execute(InferencePriority.BULK, permits::add);
+
+        expectThrows(OpenSearchRejectedExecutionException.class, () -> limiter.execute(InferencePriority.BULK, permits::add));
+        assertEquals(1, limiter.getRejectedCount());
+        assertEquals(1, permits.size());
+    }
+
+    public void testRelease_whenLatencyRises_thenDecreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 10, 10, 10, 0.0, nanoTime::get, Runnable::run);
+        completeCall(limiter, 10, null);
+        assertEquals(10, limiter.getLimit());
+
+        completeCall(limiter, 100, null);
+
+        assertEquals(9, limiter.getLimit());
+    }
+
+    public void testRelease_whenCallRejected_thenDecreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 10, 10, 10, 0.0, nanoTime::get, Runnable::run);
+
+        completeCall(limiter, 10, new OpenSearchRejectedExecutionException("rejected"));
+
+        assertEquals(9, limiter.getLimit());
+    }
+
+    public void testRelease_whenClientError_thenKeepLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 10, 10, 10, 0.0, nanoTime::get, Runnable::run);
+
+        completeCall(limiter, 10, new IllegalArgumentException("invalid input"));
+        completeCall(limiter, 10, new OpenSearchStatusException("not found", RestStatus.NOT_FOUND));
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    public void testRelease_whenConcurrentCallsOverloaded_thenDecreaseLimitOnce() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 10, 10, 10, 0.0, nanoTime::get, Runnable::run);
+        for (int i = 0; i < 3; i++) {
+            limiter.execute(InferencePriority.BULK, permits::add);
+        }
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+
+        permits.forEach(permit -> permit.release(new OpenSearchStatusException("unavailable", RestStatus.SERVICE_UNAVAILABLE)));
+        assertEquals(9, limiter.getLimit());
+
+        // a call started after the decrease can decrease the limit again
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        completeCall(limiter, 10, new OpenSearchTimeoutException("timed out"));
+        assertEquals(8, limiter.getLimit());
+    }
+
+    public void testRelease_whenTaskQueued_thenDispatchToExecutor() {
+        List<Runnable> executedTasks = new ArrayList<>();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 1, 10, 10, 0.0, nanoTime::get, executedTasks::add);
+        limiter.execute(InferencePriority.BULK, permits::add);
+        limiter.execute(InferencePriority.BULK, permits::add);
+
+        permits.get(0).release();
+
+        assertEquals(1, permits.size());
+        assertEquals(1, executedTasks.size());
+        assertEquals(1, limiter.getInFlight());
+        executedTasks.get(0).run();
+        assertEquals(2, permits.size());
+    }
+
+    public void testRelease_whenLimitInUseAndLatencyStable_thenIncreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 2, 10, 10, 0.0, nanoTime::get, Runnable::run);
+
+        for (int round = 0; round < 10; round++) {
+            limiter.execute(InferencePriority.BULK, permits::add);
+            limiter.execute(InferencePriority.BULK, permits::add);
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            permits.forEach(permit -> permit.release());
+            permits.clear();
+        }
+
+        assertTrue(limiter.getLimit() > 2);
+        assertTrue(limiter.getLimit() <= 10);
+    }
+
+    public void testExecute_whenInteractiveCapacityReserved_thenQueueBulkAndRunInteractive() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 4, 10, 10, 0.5, nanoTime::get, Runnable::run);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.execute(InferencePriority.BULK, permits::add);
+        }
+        limiter.execute(InferencePriority.INTERACTIVE, permits::add);
+        limiter.execute(InferencePriority.INTERACTIVE, permits::add);
+
+        assertEquals(4, permits.size());
+        assertEquals(1, limiter.getLaneStats(InferencePriority.BULK).getQueueSize());
+        assertEquals(0, limiter.getLaneStats(InferencePriority.INTERACTIVE).getQueueSize());
+        assertEquals(2, limiter.getLaneStats(InferencePriority.INTERACTIVE).getDispatchedCount());
+    }
+
+    public void testRelease_whenBothLanesQueued_thenDispatchInteractiveFirst() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 1, 1, 10, 0.0, nanoTime::get, Runnable::run);
+        List<String> dispatched = new ArrayList<>();
+        limiter.execute(InferencePriority.BULK, permits::add);
+        limiter.execute(InferencePriority.BULK, permit -> {
+            dispatched.add("bulk");
+            permits.add(permit);
+        });
+        limiter.execute(InferencePriority.INTERACTIVE, permit -> {
+            dispatched.add("interactive");
+            permits.add(permit);
+        });
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+
+        permits.get(0).release();
+
+        assertEquals(List.of("interactive"), dispatched);
+        AdaptiveConcurrencyLimiter.LaneStats interactiveStats = limiter.getLaneStats(InferencePriority.INTERACTIVE);
+        assertEquals(1, interactiveStats.getDispatchedCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), interactiveStats.getTotalQueueTimeNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), interactiveStats.getAverageQueueTimeNanos());
+        assertEquals(1, limiter.getLaneStats(InferencePriority.BULK).getQueueSize());
+    }
+
+    public void testExecute_whenLaneQueueFull_thenRejectOnlyThatLane() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("modelId", 2, 10, 0, 0.5, nanoTime::get, Runnable::run);
+        limiter.execute(InferencePriority.BULK, permits::add);
+
+        expectThrows(OpenSearchRejectedExecutionException.class, () -> limiter.execute(InferencePriority.BULK, permits::add));
+        limiter.execute(InferencePriority.INTERACTIVE, permits::add);
+
+        assertEquals(2, permits.size());
+        assertEquals(1, limiter.getLaneStats(InferencePriority.BULK).getRejectedCount());
+        assertEquals(0, limiter.getLaneStats(InferencePriority.INTERACTIVE).getRejectedCount());
+    }
+
+    private void completeCall(final AdaptiveConcurrencyLimiter limiter, final long latencyMillis, final Exception failure) {
+        limiter.execute(InferencePriority.BULK, permits::add);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        permits.remove(permits.size() - 1).release(failure);
+    }
+}
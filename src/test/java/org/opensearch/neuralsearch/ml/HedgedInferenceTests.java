@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.opensearch.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+
+public class HedgedInferenceTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+    private static final String OTHER_MODEL_ID = "otherModelId";
+
+    private List<Long> scheduledDelays;
+    private List<Runnable> scheduledTasks;
+    private List<Scheduler.ScheduledCancellable> cancellables;
+
+    @Before
+    public void setup() {
+        scheduledDelays = new ArrayList<>();
+        scheduledTasks = new ArrayList<>();
+        cancellables = new ArrayList<>();
+    }
+
+    public void testExecute_whenTooFewLatencySamples_thenNotHedged() {
+        HedgedInference hedgedInference = createHedgedInference(1.0);
+
+        recordLatencies(hedgedInference, MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES - 1, 10);
+
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    public void testExecute_whenCallSlowerThanPercentile_thenHedgeWins() {
+        HedgedInference hedgedInference = createHedgedInference(1.0);
+        recordLatencies(hedgedInference, MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES, 10);
+        List<ActionListener<String>> callListeners = new ArrayList<>();
+        List<ActionListener<String>> hedgeListeners = new ArrayList<>();
+        AtomicReference<String> result = new AtomicReference<>();
+
+        hedgedInference.execute(MODEL_ID, callListeners::add, hedgeListeners::add, ActionListener.wrap(result::set, e -> fail()));
+        assertEquals(List.of(10L), scheduledDelays);
+        scheduledTasks.get(0).run();
+        hedgeListeners.get(0).onResponse("hedge");
+        callListeners.get(0).onResponse("call");
+
+        assertEquals("hedge", result.get());
+        assertEquals(1, hedgedInference.getHedgeCount());
+        assertEquals(1, hedgedInference.getHedgeWinCount());
+        assertEquals(1.0, hedgedInference.getHedgeWinRate(), 0.0);
+        assertEquals(1.0, hedgedInference.getHedgeRate(), 0.0);
+    }
+
+    public void testExecute_whenCallReturnsFirst_thenCancelHedge() {
+        HedgedInference hedgedInference = createHedgedInference(1.0);
+        recordLatencies(hedgedInference, MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES, 10);
+        List<ActionListener<String>> hedgeListeners = new ArrayList<>();
+        AtomicReference<String> result = new AtomicReference<>();
+
+        hedgedInference.execute(
+            MODEL_ID,
+            listener -> listener.onResponse("call"),
+            hedgeListeners::add,
+            ActionListener.wrap(result::set, e -> fail())
+        );
+        scheduledTasks.get(0).run();
+
+        assertEquals("call", result.get());
+        verify(cancellables.get(0)).cancel();
+        assertTrue(hedgeListeners.isEmpty());
+        assertEquals(0, hedgedInference.getHedgeCount());
+    }
+
+    public void testExecute_whenBudgetExhausted_thenNotHedged() {
+        HedgedInference hedgedInference = createHedgedInference(0.0);
+        recordLatencies(hedgedInference, MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES, 10);
+        List<ActionListener<String>> hedgeListeners = new ArrayList<>();
+
+        hedgedInference.<String>execute(MODEL_ID, listener -> {}, hedgeListeners::add, ActionListener.wrap(response -> {}, e -> {}));
+        scheduledTasks.get(0).run();
+
+        assertTrue(hedgeListeners.isEmpty());
+        assertEquals(0, hedgedInference.getHedgeCount());
+    }
+
+    public void testExecute_whenCallFailsWhileHedgeInFlight_thenWaitForHedge() {
+        HedgedInference hedgedInference = createHedgedInference(1.0);
+        recordLatencies(hedgedInference, MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES, 10);
+        List<ActionListener<String>> callListeners = new ArrayList<>();
+        List<ActionListener<String>> hedgeListeners = new ArrayList<>();
+        AtomicReference<String> result = new AtomicReference<>();
+
+        hedgedInference.execute(MODEL_ID, callListeners::add, hedgeListeners::add, ActionListener.wrap(result::set, e -> fail()));
+        scheduledTasks.get(0).run();
+        callListeners.get(0).onFailure(new IllegalStateException("failed"));
+        hedgeListeners.get(0).onResponse("hedge");
+
+        assertEquals("hedge", result.get());
+    }
+
+    public void testExecute_whenCallsRespond_thenLatenciesNotRecorded() {
+        HedgedInference hedgedInference = createHedgedInference(1.0);
+        recordLatencies(hedgedInference, OTHER_MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES, 10);
+
+        for (int i = 0; i < HedgedInference.MIN_LATENCY_SAMPLES + 1; i++) {
+            hedgedInference.execute(
+                MODEL_ID,
+                listener -> listener.onResponse("call"),
+                listener -> fail(),
+                ActionListener.wrap(response -> {}, e -> fail())
+            );
+        }
+
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    public void testExecute_whenOtherModelSpentItsBudget_thenHedged() {
+        HedgedInference hedgedInference = createHedgedInference(0.5);
+        recordLatencies(hedgedInference, MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES, 10);
+        recordLatencies(hedgedInference, OTHER_MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES, 10);
+        List<ActionListener<String>> hedgeListeners = new ArrayList<>();
+        hedgedInference.<String>execute(MODEL_ID, listener -> {}, hedgeListeners::add, ActionListener.wrap(response -> {}, e -> {}));
+        for (int i = 0; i < 3; i++) {
+            hedgedInference.<String>execute(
+                OTHER_MODEL_ID,
+                listener -> {},
+                hedgeListeners::add,
+                ActionListener.wrap(response -> {}, e -> {})
+            );
+        }
+        for (int i = 1; i < scheduledTasks.size(); i++) {
+            scheduledTasks.get(i).run();
+        }
+        assertEquals(1, hedgeListeners.size());
+
+        hedgedInference.<String>execute(MODEL_ID, listener -> {}, hedgeListeners::add, ActionListener.wrap(response -> {}, e -> {}));
+        scheduledTasks.get(scheduledTasks.size() - 1).run();
+
+        assertEquals(2, hedgeListeners.size());
+        assertEquals(2, hedgedInference.getHedgeCount());
+    }
+
+    public void testRecordLatency_whenModelSlowsDown_thenRaiseHedgeDelay() {
+        HedgedInference hedgedInference = createHedgedInference(1.0);
+        recordLatencies(hedgedInference, MODEL_ID, HedgedInference.MIN_LATENCY_SAMPLES, 10);
+        recordLatencies(hedgedInference, MODEL_ID, HedgedInference.LATENCY_WINDOW_SIZE, 30);
+
+        hedgedInference.<String>execute(MODEL_ID, listener -> {}, listener -> {}, ActionListener.wrap(response -> {}, e -> {}));
+
+        assertEquals(List.of(30L), scheduledDelays);
+    }
+
+    private HedgedInference createHedgedInference(final double budgetRatio) {
+        return new HedgedInference(95.0, budgetRatio, (delay, task) -> {
+            scheduledDelays.add(delay);
+            scheduledTasks.add(task);
+            Scheduler.ScheduledCancellable cancellable = mock(Scheduler.ScheduledCancellable.class);
+            cancellables.add(cancellable);
+            return cancellable;
+        });
+    }
+
+    private void recordLatencies(final HedgedInference hedgedInference, final String modelId, final int count, final long latencyMillis) {
+        for (int i = 0; i < count; i++) {
+            hedgedInference.recordLatency(modelId, TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+    }
+}
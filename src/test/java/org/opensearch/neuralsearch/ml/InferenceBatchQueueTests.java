@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+
+public class InferenceBatchQueueTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+
+    @Mock
+    private MLCommonsClientAccessor accessor;
+
+    private List<Runnable> scheduledTasks;
+
+    private InferenceBatchQueue batchQueue;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        scheduledTasks = new ArrayList<>();
+        batchQueue = new InferenceBatchQueue(accessor, 4, TimeValue.timeValueMillis(10), (delay, task) -> {
+            scheduledTasks.add(task);
+            return mock(Scheduler.ScheduledCancellable.class);
+        });
+        doAnswer(invocation -> {
+            List<String> inputText = invocation.getArgument(1);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(inputText.stream().map(text -> new float[] { text.length() }).collect(Collectors.toList()));
+            return null;
+        }).when(accessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testInferenceSentences_whenBatchingDisabled_thenCallAccessorDirectly() {
+        InferenceBatchQueue unbatchedQueue = new InferenceBatchQueue(accessor, 1, TimeValue.ZERO, null);
+        ActionListener<List<float[]>> listener = mock(ActionListener.class);
+
+        unbatchedQueue.inferenceSentences(MODEL_ID, List.of("a"), listener);
+
+        verify(accessor).inferenceSentences(Mockito.eq(MODEL_ID), Mockito.eq(List.of("a")), Mockito.eq(listener));
+        verifyVectors(listener, new float[] { 1.0f });
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testInferenceSentences_whenMaxWaitReached_thenSendMergedBatch() {
+        ActionListener<List<float[]>> listener1 = mock(ActionListener.class);
+        ActionListener<List<float[]>> listener2 = mock(ActionListener.class);
+
+        batchQueue.inferenceSentences(MODEL_ID, List.of("a"), listener1);
+        batchQueue.inferenceSentences(MODEL_ID, List.of("bb", "ccc"), listener2);
+        verifyNoInteractions(accessor);
+        assertEquals(1, scheduledTasks.size());
+
+        scheduledTasks.get(0).run();
+
+        verify(accessor).inferenceSentences(Mockito.eq(MODEL_ID), Mockito.eq(List.of("a", "bb", "ccc")), isA(ActionListener.class));
+        verifyVectors(listener1, new float[] { 1.0f });
+        verifyVectors(listener2, new float[] { 2.0f }, new float[] { 3.0f });
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testInferenceSentences_whenMaxBatchSizeReached_thenSendWithoutWaiting() {
+        ActionListener<List<float[]>> listener1 = mock(ActionListener.class);
+        ActionListener<List<float[]>> listener2 = mock(ActionListener.class);
+
+        batchQueue.inferenceSentences(MODEL_ID, List.of("a", "b"), listener1);
+        batchQueue.inferenceSentences(MODEL_ID, List.of("cc", "dd"), listener2);
+
+        verify(accessor).inferenceSentences(Mockito.eq(MODEL_ID), Mockito.eq(List.of("a", "b", "cc", "dd")), isA(ActionListener.class));
+        verifyVectors(listener1, new float[] { 1.0f }, new float[] { 1.0f });
+        verifyVectors(listener2, new float[] { 2.0f }, new float[] { 2.0f });
+
+        // timer of the already sent batch must not send it again
+        scheduledTasks.get(0).run();
+        verify(accessor, times(1)).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testInferenceSentences_whenDifferentModels_thenSeparateBatches() {
+        ActionListener<List<float[]>> listener1 = mock(ActionListener.class);
+        ActionListener<List<float[]>> listener2 = mock(ActionListener.class);
+
+        batchQueue.inferenceSentences(MODEL_ID, List.of("a"), listener1);
+        batchQueue.inferenceSentences("otherModelId", List.of("b"), listener2);
+        assertEquals(2, scheduledTasks.size());
+        scheduledTasks.forEach(Runnable::run);
+
+        verify(accessor).inferenceSentences(Mockito.eq(MODEL_ID), Mockito.eq(List.of("a")), isA(ActionListener.class));
+        verify(accessor).inferenceSentences(Mockito.eq("otherModelId"), Mockito.eq(List.of("b")), isA(ActionListener.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testInferenceSentences_whenInferenceFails_thenFailAllEntries() {
+        RuntimeException exception = new RuntimeException("predict failed");
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onFailure(exception);
+            return null;
+        }).when(accessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        ActionListener<List<float[]>> listener1 = mock(ActionListener.class);
+        ActionListener<List<float[]>> listener2 = mock(ActionListener.class);
+
+        batchQueue.inferenceSentences(MODEL_ID, List.of("a"), listener1);
+        batchQueue.inferenceSentences(MODEL_ID, List.of("b"), listener2);
+        scheduledTasks.get(0).run();
+
+        verify(listener1).onFailure(exception);
+        verify(listener2).onFailure(exception);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyVectors(final ActionListener<List<float[]>> listener, final float[]... expectedVectors) {
+        ArgumentCaptor<List<float[]>> vectorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(listener).onResponse(vectorsCaptor.capture());
+        List<float[]> vectors = vectorsCaptor.getValue();
+        assertEquals(expectedVectors.length, vectors.size());
+        for (int i = 0; i < expectedVectors.length; i++) {
+            assertArrayEquals(expectedVectors[i], vectors.get(i), 0.0f);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceCircuitBreakerTests extends OpenSearchTestCase {
+
+    private static final long SLOW_CALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private AtomicLong nanoTime;
+    private InferenceCircuitBreaker breaker;
+
+    @Before
+    public void setup() {
+        nanoTime = new AtomicLong();
+        breaker = new InferenceCircuitBreaker("modelId", 10, 4, 0.5, SLOW_CALL_NANOS, OPEN_NANOS, 2, nanoTime::get);
+    }
+
+    public void testOnResult_whenFailureRateBelowThreshold_thenStayClosed() {
+        completeCalls(4, 0, true);
+        completeCalls(3, 0, false);
+
+        assertEquals(InferenceCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    public void testOnResult_whenTooFewCalls_thenStayClosed() {
+        completeCalls(3, 0, false);
+
+        assertEquals(InferenceCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    public void testOnResult_whenSlowCallsReachThreshold_thenOpenAndReject() {
+        completeCalls(2, 0, true);
+        completeCalls(2, SLOW_CALL_NANOS + 1, true);
+
+        assertEquals(InferenceCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCount());
+        assertEquals(1, breaker.getTransitionCount(InferenceCircuitBreaker.State.OPEN));
+        assertEquals(RestStatus.SERVICE_UNAVAILABLE, breaker.createOpenException().status());
+    }
+
+    public void testTryAcquire_whenOpenDurationPassedAndTrialsSucceed_thenClose() {
+        completeCalls(4, 0, false);
+        nanoTime.addAndGet(OPEN_NANOS);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(InferenceCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        // only the configured number of trial calls are let through
+        assertFalse(breaker.tryAcquire());
+        breaker.onResult(0, true);
+        breaker.onResult(0, true);
+
+        assertEquals(InferenceCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1, breaker.getTransitionCount(InferenceCircuitBreaker.State.CLOSED));
+    }
+
+    public void testOnResult_whenTrialCallFails_thenOpenAgain() {
+        completeCalls(4, 0, false);
+        nanoTime.addAndGet(OPEN_NANOS);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onResult(0, false);
+
+        assertEquals(InferenceCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(2, breaker.getTransitionCount(InferenceCircuitBreaker.State.OPEN));
+    }
+
+    public void testIsModelFailure_whenServerErrorTimeoutOrRejection_thenTrue() {
+        assertTrue(InferenceCircuitBreaker.isModelFailure(new IllegalStateException("failed")));
+        assertTrue(InferenceCircuitBreaker.isModelFailure(new OpenSearchStatusException("unavailable", RestStatus.SERVICE_UNAVAILABLE)));
+        assertTrue(InferenceCircuitBreaker.isModelFailure(new OpenSearchRejectedExecutionException("rejected")));
+        assertTrue(InferenceCircuitBreaker.isModelFailure(new OpenSearchTimeoutException("timed out")));
+    }
+
+    public void testIsModelFailure_whenClientError_thenFalse() {
+        assertFalse(InferenceCircuitBreaker.isModelFailure(new IllegalArgumentException("invalid input")));
+        assertFalse(InferenceCircuitBreaker.isModelFailure(new OpenSearchStatusException("not found", RestStatus.NOT_FOUND)));
+    }
+
+    private void completeCalls(final int count, final long latencyNanos, final boolean success) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onResult(latencyNanos, success);
+        }
+    }
+}
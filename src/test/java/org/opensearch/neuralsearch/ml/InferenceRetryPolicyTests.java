@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.transport.NodeNotConnectedException;
+
+public class InferenceRetryPolicyTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+
+    public void testShouldRetry_whenBudgetExhausted_thenNoRetryUntilCallsRefillIt() {
+        InferenceRetryPolicy policy = createPolicy(0.5, null);
+        NodeNotConnectedException exception = new NodeNotConnectedException(null, "not connected");
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(policy.shouldRetry(MODEL_ID, exception, 0));
+        }
+        assertFalse(policy.shouldRetry(MODEL_ID, exception, 0));
+        // other models have their own budget
+        assertTrue(policy.shouldRetry("otherModelId", exception, 0));
+        policy.onCall(MODEL_ID);
+        policy.onCall(MODEL_ID);
+
+        assertTrue(policy.shouldRetry(MODEL_ID, exception, 0));
+        assertEquals(12, policy.getRetryCount());
+        assertEquals(1, policy.getBudgetExhaustedCount());
+    }
+
+    public void testShouldRetry_whenNotRetryable_thenBudgetNotUsed() {
+        InferenceRetryPolicy policy = createPolicy(0.0, null);
+
+        assertFalse(policy.shouldRetry(MODEL_ID, new IllegalStateException(), 0));
+        assertFalse(policy.shouldRetry(MODEL_ID, new NodeNotConnectedException(null, "not connected"), 3));
+        assertEquals(0, policy.getRetryCount());
+    }
+
+    public void testScheduleRetry_whenSchedulerSet_thenDelayRetry() {
+        List<Long> delays = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        InferenceRetryPolicy policy = createPolicy(0.1, (delay, task) -> {
+            delays.add(delay);
+            tasks.add(task);
+            return mock(Scheduler.ScheduledCancellable.class);
+        });
+        List<String> retries = new ArrayList<>();
+
+        policy.scheduleRetry(1, () -> retries.add("retry"));
+
+        assertTrue(retries.isEmpty());
+        assertEquals(1, tasks.size());
+        assertTrue(delays.get(0) >= 0 && delays.get(0) <= 100);
+        tasks.get(0).run();
+        assertEquals(List.of("retry"), retries);
+    }
+
+    private InferenceRetryPolicy createPolicy(
+        final double budgetRatio,
+        final BiFunction<Long, Runnable, Scheduler.ScheduledCancellable> scheduler
+    ) {
+        return new InferenceRetryPolicy(
+            3,
+            TimeValue.timeValueMillis(50),
+            TimeValue.timeValueSeconds(1),
+            budgetRatio,
+            Set.of(NodeNotConnectedException.class.getName()),
+            scheduler
+        );
+    }
+}
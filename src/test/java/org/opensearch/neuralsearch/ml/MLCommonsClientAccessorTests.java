@@ -10,17 +10,26 @@ import static org.mockito.Mockito.times;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
+import org.mockito.AdditionalMatchers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
@@ -29,16 +38,24 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.neuralsearch.constants.TestCommonConstants;
+import org.opensearch.neuralsearch.ml.backend.LocalInferenceBackend;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.settings.NeuralSearchThreadPools;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.stats.NeuralStatsOperation;
+import org.opensearch.neuralsearch.stats.OperationStats;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeNotConnectedException;
 
 public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
 
     @Mock
-    private ActionListener<List<List<Float>>> resultListener;
+    private ActionListener<List<float[]>> resultListener;
 
     @Mock
-    private ActionListener<List<Float>> singleSentenceResultListener;
+    private ActionListener<float[]> singleSentenceResultListener;
 
     @Mock
     private MachineLearningNodeClient client;
@@ -52,7 +69,6 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
     }
 
     public void testInferenceSentence_whenValidInput_thenSuccess() {
-        final List<Float> vector = new ArrayList<>(List.of(TestCommonConstants.PREDICT_VECTOR_ARRAY));
         Mockito.doAnswer(invocation -> {
             final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
             actionListener.onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
@@ -63,13 +79,11 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
 
         Mockito.verify(client)
             .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
-        Mockito.verify(singleSentenceResultListener).onResponse(vector);
+        Mockito.verify(singleSentenceResultListener).onResponse(AdditionalMatchers.aryEq(new float[] { 2.0f, 3.0f }));
         Mockito.verifyNoMoreInteractions(singleSentenceResultListener);
     }
 
     public void testInferenceSentences_whenValidInputThenSuccess() {
-        final List<List<Float>> vectorList = new ArrayList<>();
-        vectorList.add(Arrays.asList(TestCommonConstants.PREDICT_VECTOR_ARRAY));
         Mockito.doAnswer(invocation -> {
             final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
             actionListener.onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
@@ -79,13 +93,11 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
 
         Mockito.verify(client)
             .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
-        Mockito.verify(resultListener).onResponse(vectorList);
+        verifyVectors(new float[] { 2.0f, 3.0f });
         Mockito.verifyNoMoreInteractions(resultListener);
     }
 
     public void testInferenceSentences_whenResultFromClient_thenEmptyVectorList() {
-        final List<List<Float>> vectorList = new ArrayList<>();
-        vectorList.add(Collections.emptyList());
         Mockito.doAnswer(invocation -> {
             final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
             actionListener.onResponse(createModelTensorOutput(new Float[] {}));
@@ -95,10 +107,228 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
 
         Mockito.verify(client)
             .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
-        Mockito.verify(resultListener).onResponse(vectorList);
+        verifyVectors(new float[0]);
         Mockito.verifyNoMoreInteractions(resultListener);
     }
 
+    public void testInferenceSentences_whenConcurrencyLimitAndQueueFull_thenRejectWithoutCallingModel() {
+        accessor.initializeConcurrencyLimiters(
+            Settings.builder()
+                .put(NeuralSearchSettings.INFERENCE_CONCURRENCY_ENABLED.getKey(), true)
+                .put(NeuralSearchSettings.INFERENCE_CONCURRENCY_INITIAL_LIMIT.getKey(), 1)
+                .put(NeuralSearchSettings.INFERENCE_CONCURRENCY_QUEUE_SIZE.getKey(), 0)
+                .build()
+        );
+        // first call never completes and holds the only slot
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("OTHER TEXT"), resultListener);
+
+        Mockito.verify(client, times(1))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(resultListener).onFailure(Mockito.isA(OpenSearchRejectedExecutionException.class));
+        assertEquals(1, accessor.getConcurrencyLimiters().get(TestCommonConstants.MODEL_ID).getRejectedCount());
+    }
+
+    public void testInferenceSentence_whenBulkCapacityReached_thenUseReservedCapacity() {
+        accessor.initializeConcurrencyLimiters(
+            Settings.builder()
+                .put(NeuralSearchSettings.INFERENCE_CONCURRENCY_ENABLED.getKey(), true)
+                .put(NeuralSearchSettings.INFERENCE_CONCURRENCY_INITIAL_LIMIT.getKey(), 2)
+                .put(NeuralSearchSettings.INFERENCE_CONCURRENCY_QUEUE_SIZE.getKey(), 0)
+                .put(NeuralSearchSettings.INFERENCE_CONCURRENCY_INTERACTIVE_RESERVED_RATIO.getKey(), 0.5)
+                .build()
+        );
+        // first call never completes and holds the only slot available to bulk calls
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("OTHER TEXT"), resultListener);
+
+        accessor.inferenceSentence(TestCommonConstants.MODEL_ID, "QUERY TEXT", singleSentenceResultListener);
+
+        Mockito.verify(client, times(2))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(resultListener).onFailure(Mockito.isA(OpenSearchRejectedExecutionException.class));
+        Mockito.verifyNoInteractions(singleSentenceResultListener);
+        AdaptiveConcurrencyLimiter limiter = accessor.getConcurrencyLimiters().get(TestCommonConstants.MODEL_ID);
+        assertEquals(1, limiter.getLaneStats(InferencePriority.INTERACTIVE).getDispatchedCount());
+        assertEquals(1, limiter.getLaneStats(InferencePriority.BULK).getRejectedCount());
+    }
+
+    public void testInferenceSentences_whenInputExceedsTokenBudget_thenSplitAndKeepOrder() {
+        final List<ActionListener<MLOutput>> pendingListeners = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            pendingListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        // every text is estimated to 3 tokens, so each sub-batch holds a single text
+        accessor.setMaxBatchTokens(3);
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("a", "b", "c"), resultListener);
+
+        assertEquals(3, pendingListeners.size());
+        // sub-batches complete out of order
+        pendingListeners.get(2).onResponse(createModelTensorOutput(new Float[] { 3.0f }));
+        pendingListeners.get(0).onResponse(createModelTensorOutput(new Float[] { 1.0f }));
+        Mockito.verifyNoInteractions(resultListener);
+        pendingListeners.get(1).onResponse(createModelTensorOutput(new Float[] { 2.0f }));
+        verifyVectors(new float[] { 1.0f }, new float[] { 2.0f }, new float[] { 3.0f });
+        Mockito.verifyNoMoreInteractions(resultListener);
+    }
+
+    public void testInferenceSentences_whenSubBatchFails_thenFailOnce() {
+        final IllegalStateException illegalStateException = new IllegalStateException("Illegal state");
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(illegalStateException);
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.setMaxBatchTokens(3);
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("a", "b"), resultListener);
+
+        Mockito.verify(client, times(2))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(resultListener).onFailure(illegalStateException);
+        Mockito.verifyNoMoreInteractions(resultListener);
+    }
+
+    public void testInferenceSentences_whenSameTextInFlight_thenCoalesceIntoOneCall() {
+        final List<ActionListener<MLOutput>> pendingListeners = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            pendingListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+        final AtomicReference<List<float[]>> coalescedResult = new AtomicReference<>();
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+        accessor.inferenceSentences(
+            TestCommonConstants.MODEL_ID,
+            List.of(TestCommonConstants.SENTENCES_LIST.get(0)),
+            ActionListener.wrap(coalescedResult::set, e -> fail())
+        );
+
+        assertEquals(1, pendingListeners.size());
+        pendingListeners.get(0).onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
+        verifyVectors(new float[] { 2.0f, 3.0f });
+        assertArrayEquals(new float[] { 2.0f, 3.0f }, coalescedResult.get().get(0), 0.0f);
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of(TestCommonConstants.SENTENCES_LIST.get(0)), resultListener);
+
+        assertEquals(2, pendingListeners.size());
+    }
+
+    public void testInferenceSentence_whenSameTextInFlightForBulkCall_thenNotCoalesced() {
+        final List<ActionListener<MLOutput>> pendingListeners = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            pendingListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+        accessor.inferenceSentence(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST.get(0), singleSentenceResultListener);
+
+        // the interactive query does not wait for the bulk call, which may be queued in the bulk lane
+        assertEquals(2, pendingListeners.size());
+        pendingListeners.get(1).onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
+        Mockito.verify(singleSentenceResultListener).onResponse(AdditionalMatchers.aryEq(new float[] { 2.0f, 3.0f }));
+        Mockito.verify(resultListener, Mockito.never()).onResponse(Mockito.any());
+    }
+
+    public void testInferenceSentence_whenHedgingEnabled_thenRecordOnlyLatenciesOfModelCalls() {
+        final HedgedInference hedgedInference = Mockito.spy(new HedgedInference(95, 0.05, (delay, task) -> null));
+        accessor.setHedgedInference(hedgedInference);
+        final List<ActionListener<MLOutput>> pendingListeners = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            pendingListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+        accessor.inferenceSentence(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST.get(0), singleSentenceResultListener);
+        accessor.inferenceSentence(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST.get(0), singleSentenceResultListener);
+        assertEquals(2, pendingListeners.size());
+        pendingListeners.forEach(listener -> listener.onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY)));
+
+        // the bulk call and the coalesced query do not feed the hedge delay
+        Mockito.verify(singleSentenceResultListener, times(2)).onResponse(AdditionalMatchers.aryEq(new float[] { 2.0f, 3.0f }));
+        Mockito.verify(hedgedInference, times(1)).recordLatency(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.anyLong());
+    }
+
+    public void testInferenceSentences_whenCoalescedCallFails_thenFailAllListeners() {
+        final List<ActionListener<MLOutput>> pendingListeners = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            pendingListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final IllegalStateException illegalStateException = new IllegalStateException("Illegal state");
+
+        final AtomicReference<Exception> coalescedFailure = new AtomicReference<>();
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+        accessor.inferenceSentences(
+            TestCommonConstants.MODEL_ID,
+            List.of(TestCommonConstants.SENTENCES_LIST.get(0)),
+            ActionListener.wrap(vectors -> fail(), coalescedFailure::set)
+        );
+        pendingListeners.get(0).onFailure(illegalStateException);
+
+        assertEquals(1, pendingListeners.size());
+        Mockito.verify(resultListener).onFailure(illegalStateException);
+        assertSame(illegalStateException, coalescedFailure.get());
+    }
+
+    public void testInferenceSentences_whenCircuitBreakerOpen_thenFailWithoutCallingModel() {
+        final IllegalStateException illegalStateException = new IllegalStateException("Illegal state");
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(illegalStateException);
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.initializeCircuitBreakers(
+            Settings.builder()
+                .put(NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_ENABLED.getKey(), true)
+                .put(NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_MIN_CALLS.getKey(), 2)
+                .put(NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_WINDOW_SIZE.getKey(), 2)
+                .build()
+        );
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("a"), resultListener);
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("b"), resultListener);
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("c"), resultListener);
+
+        Mockito.verify(client, times(2))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(resultListener, times(2)).onFailure(illegalStateException);
+        Mockito.verify(resultListener).onFailure(Mockito.isA(OpenSearchStatusException.class));
+        assertEquals(InferenceCircuitBreaker.State.OPEN, accessor.getCircuitBreakers().get(TestCommonConstants.MODEL_ID).getState());
+    }
+
+    public void testInferenceSentences_whenClientErrors_thenCircuitBreakerStaysClosed() {
+        final IllegalArgumentException illegalArgumentException = new IllegalArgumentException("invalid input");
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(illegalArgumentException);
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.initializeCircuitBreakers(
+            Settings.builder()
+                .put(NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_ENABLED.getKey(), true)
+                .put(NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_MIN_CALLS.getKey(), 2)
+                .put(NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_WINDOW_SIZE.getKey(), 2)
+                .build()
+        );
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("a"), resultListener);
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("b"), resultListener);
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, List.of("c"), resultListener);
+
+        Mockito.verify(client, times(3))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(resultListener, times(3)).onFailure(illegalArgumentException);
+        assertEquals(InferenceCircuitBreaker.State.CLOSED, accessor.getCircuitBreakers().get(TestCommonConstants.MODEL_ID).getState());
+    }
+
     public void testInferenceSentences_whenExceptionFromMLClient_thenFailure() {
         final RuntimeException exception = new RuntimeException();
         Mockito.doAnswer(invocation -> {
@@ -129,6 +359,8 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
             actionListener.onFailure(nodeNodeConnectedException);
             return null;
         }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final NeuralStats neuralStats = new NeuralStats();
+        accessor.setNeuralStats(neuralStats);
         accessor.inferenceSentences(
             TestCommonConstants.TARGET_RESPONSE_FILTERS,
             TestCommonConstants.MODEL_ID,
@@ -139,6 +371,9 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verify(client, times(4))
             .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
         Mockito.verify(resultListener).onFailure(nodeNodeConnectedException);
+        final Map<String, OperationStats.Snapshot> modelStats = neuralStats.snapshot().getModels().get(TestCommonConstants.MODEL_ID);
+        assertEquals(3, modelStats.get(NeuralStatsOperation.INFERENCE_RETRY.getName()).getCount());
+        assertEquals(1, modelStats.get(NeuralStatsOperation.INFERENCE_SENTENCES.getName()).getFailedCount());
     }
 
     public void testInferenceSentences_whenNotConnectionException_thenNoRetry() {
@@ -160,6 +395,57 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verify(resultListener).onFailure(illegalStateException);
     }
 
+    public void testInferenceSentences_whenThreadPoolSet_thenRespondOnInferenceThreadPool() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(TestCommonConstants.PREDICT_VECTOR_ARRAY));
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final Settings settings = Settings.builder().put("node.name", "testNode").build();
+        final ThreadPool threadPool = new ThreadPool(
+            settings,
+            NeuralSearchThreadPools.getExecutorBuilders(settings).toArray(new ExecutorBuilder<?>[0])
+        );
+        try {
+            accessor.setThreadPool(threadPool);
+            final AtomicReference<String> responseThreadName = new AtomicReference<>();
+            final PlainActionFuture<List<float[]>> future = PlainActionFuture.newFuture();
+
+            accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, ActionListener.wrap(vectors -> {
+                responseThreadName.set(Thread.currentThread().getName());
+                future.onResponse(vectors);
+            }, future::onFailure));
+
+            assertArrayEquals(new float[] { 2.0f, 3.0f }, future.get(10, TimeUnit.SECONDS).get(0), 0.0f);
+            assertTrue(responseThreadName.get().contains(NeuralSearchThreadPools.INFERENCE_THREAD_POOL));
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testInferenceSentences_whenLocalBackend_thenVectorsWithoutCallingMLCommons() {
+        accessor.setInferenceBackend(new LocalInferenceBackend(8, TimeValue.ZERO, null));
+        final PlainActionFuture<List<float[]>> future = PlainActionFuture.newFuture();
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, future);
+
+        final List<float[]> vectors = future.actionGet();
+        assertEquals(TestCommonConstants.SENTENCES_LIST.size(), vectors.size());
+        vectors.forEach(vector -> assertEquals(8, vector.length));
+        Mockito.verifyNoInteractions(client);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyVectors(final float[]... expectedVectors) {
+        final ArgumentCaptor<List<float[]>> vectorsCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(resultListener).onResponse(vectorsCaptor.capture());
+        final List<float[]> vectors = vectorsCaptor.getValue();
+        assertEquals(expectedVectors.length, vectors.size());
+        for (int i = 0; i < expectedVectors.length; i++) {
+            assertArrayEquals(expectedVectors[i], vectors.get(i), 0.0f);
+        }
+    }
+
     private ModelTensorOutput createModelTensorOutput(final Float[] output) {
         final List<ModelTensors> tensorsList = new ArrayList<>();
         final List<ModelTensor> mlModelTensorList = new ArrayList<>();
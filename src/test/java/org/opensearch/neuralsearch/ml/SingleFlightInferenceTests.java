@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SingleFlightInferenceTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+
+    public void testInferenceSentences_whenTextsPartlyInFlight_thenInferOnlyNewTexts() {
+        SingleFlightInference singleFlightInference = new SingleFlightInference();
+        List<List<String>> inferredTexts = new ArrayList<>();
+        List<ActionListener<List<float[]>>> inferenceListeners = new ArrayList<>();
+        BiConsumer<List<String>, ActionListener<List<float[]>>> inference = (texts, listener) -> {
+            inferredTexts.add(texts);
+            inferenceListeners.add(listener);
+        };
+        AtomicReference<List<float[]>> firstResult = new AtomicReference<>();
+        AtomicReference<List<float[]>> secondResult = new AtomicReference<>();
+
+        singleFlightInference.inferenceSentences(
+            MODEL_ID,
+            InferencePriority.BULK,
+            List.of("a", "b"),
+            inference,
+            ActionListener.wrap(firstResult::set, e -> fail())
+        );
+        singleFlightInference.inferenceSentences(
+            MODEL_ID,
+            InferencePriority.BULK,
+            List.of("b", "c", "c"),
+            inference,
+            ActionListener.wrap(secondResult::set, e -> fail())
+        );
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), inferredTexts);
+        assertEquals(3, singleFlightInference.size());
+        inferenceListeners.get(1).onResponse(List.of(new float[] { 3.0f }));
+        assertNull(secondResult.get());
+        inferenceListeners.get(0).onResponse(List.of(new float[] { 1.0f }, new float[] { 2.0f }));
+
+        assertEquals(0, singleFlightInference.size());
+        assertEquals(2, firstResult.get().size());
+        assertArrayEquals(new float[] { 2.0f }, secondResult.get().get(0), 0.0f);
+        assertArrayEquals(new float[] { 3.0f }, secondResult.get().get(1), 0.0f);
+        assertArrayEquals(new float[] { 3.0f }, secondResult.get().get(2), 0.0f);
+    }
+
+    public void testInferenceSentences_whenInferenceThrows_thenFailAndForgetFlights() {
+        SingleFlightInference singleFlightInference = new SingleFlightInference();
+        IllegalStateException exception = new IllegalStateException("failed");
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        singleFlightInference.inferenceSentences(
+            MODEL_ID,
+            InferencePriority.BULK,
+            List.of("a"),
+            (texts, listener) -> { throw exception; },
+            ActionListener.wrap(vectors -> fail(), failure::set)
+        );
+
+        assertSame(exception, failure.get());
+        assertEquals(0, singleFlightInference.size());
+    }
+
+    public void testInferenceSentences_whenSameTextForOtherModel_thenNotCoalesced() {
+        SingleFlightInference singleFlightInference = new SingleFlightInference();
+        List<List<String>> inferredTexts = new ArrayList<>();
+        BiConsumer<List<String>, ActionListener<List<float[]>>> inference = (texts, listener) -> inferredTexts.add(texts);
+
+        singleFlightInference.inferenceSentences(
+            MODEL_ID,
+            InferencePriority.BULK,
+            List.of("a"),
+            inference,
+            ActionListener.wrap(vectors -> {}, e -> {})
+        );
+        singleFlightInference.inferenceSentences(
+            "otherModelId",
+            InferencePriority.BULK,
+            List.of("a"),
+            inference,
+            ActionListener.wrap(vectors -> {}, e -> {})
+        );
+
+        assertEquals(2, inferredTexts.size());
+    }
+
+    public void testInferenceSentences_whenSameTextInFlightWithOtherPriority_thenNotCoalesced() {
+        SingleFlightInference singleFlightInference = new SingleFlightInference();
+        List<List<String>> inferredTexts = new ArrayList<>();
+        List<ActionListener<List<float[]>>> inferenceListeners = new ArrayList<>();
+        BiConsumer<List<String>, ActionListener<List<float[]>>> inference = (texts, listener) -> {
+            inferredTexts.add(texts);
+            inferenceListeners.add(listener);
+        };
+        AtomicReference<List<float[]>> interactiveResult = new AtomicReference<>();
+
+        singleFlightInference.inferenceSentences(
+            MODEL_ID,
+            InferencePriority.BULK,
+            List.of("a"),
+            inference,
+            ActionListener.wrap(vectors -> {}, e -> {})
+        );
+        singleFlightInference.inferenceSentences(
+            MODEL_ID,
+            InferencePriority.INTERACTIVE,
+            List.of("a"),
+            inference,
+            ActionListener.wrap(interactiveResult::set, e -> fail())
+        );
+
+        // the interactive call leads its own flight instead of waiting for the bulk one
+        assertEquals(List.of(List.of("a"), List.of("a")), inferredTexts);
+        inferenceListeners.get(1).onResponse(List.of(new float[] { 1.0f }));
+        assertArrayEquals(new float[] { 1.0f }, interactiveResult.get().get(0), 0.0f);
+        assertEquals(1, singleFlightInference.size());
+    }
+}
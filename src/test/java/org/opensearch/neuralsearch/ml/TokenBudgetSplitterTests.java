@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml;
+
+import java.util.List;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TokenBudgetSplitterTests extends OpenSearchTestCase {
+
+    public void testEstimateTokens_whenText_thenCountCharactersAndSpecialTokens() {
+        assertEquals(2, TokenBudgetSplitter.estimateTokens(""));
+        assertEquals(3, TokenBudgetSplitter.estimateTokens("abcd"));
+        assertEquals(4, TokenBudgetSplitter.estimateTokens("abcde"));
+    }
+
+    public void testSplit_whenBudgetDisabled_thenSingleBatch() {
+        List<String> texts = List.of("a", "b", "c");
+
+        assertEquals(List.of(texts), TokenBudgetSplitter.split(texts, 0));
+    }
+
+    public void testSplit_whenTextsExceedBudget_thenSplitInOrder() {
+        // every text is estimated to 3 tokens
+        List<String> texts = List.of("a", "b", "c", "d", "e");
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), TokenBudgetSplitter.split(texts, 7));
+    }
+
+    public void testSplit_whenTextLargerThanBudget_thenOwnBatch() {
+        List<String> texts = List.of("a", "a much longer text", "b");
+
+        assertEquals(List.of(List.of("a"), List.of("a much longer text"), List.of("b")), TokenBudgetSplitter.split(texts, 4));
+    }
+}
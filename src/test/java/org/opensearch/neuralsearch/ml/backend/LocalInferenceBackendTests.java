@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.ml.backend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class LocalInferenceBackendTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+
+    public void testPredict_whenTextDocs_thenDeterministicUnitVectors() {
+        final LocalInferenceBackend backend = new LocalInferenceBackend(16, TimeValue.ZERO, null);
+
+        final List<Number[]> vectors = predictVectors(backend, MODEL_ID, List.of("hello", "world", "hello"));
+
+        assertEquals(3, vectors.size());
+        for (Number[] vector : vectors) {
+            assertEquals(16, vector.length);
+            double squaredNorm = 0;
+            for (Number value : vector) {
+                squaredNorm += value.floatValue() * value.floatValue();
+            }
+            assertEquals(1.0, squaredNorm, 1e-5);
+        }
+        assertArrayEquals(vectors.get(0), vectors.get(2));
+        assertFalse(Arrays.equals(vectors.get(0), vectors.get(1)));
+        assertArrayEquals(vectors.get(0), predictVectors(backend, MODEL_ID, List.of("hello")).get(0));
+        assertFalse(Arrays.equals(vectors.get(0), predictVectors(backend, "otherModelId", List.of("hello")).get(0)));
+    }
+
+    public void testPredict_whenLatencySet_thenRespondFromScheduler() {
+        final List<Long> delays = new ArrayList<>();
+        final List<Runnable> tasks = new ArrayList<>();
+        final LocalInferenceBackend backend = new LocalInferenceBackend(4, TimeValue.timeValueMillis(25), (delay, task) -> {
+            delays.add(delay);
+            tasks.add(task);
+            return null;
+        });
+        final PlainActionFuture<MLOutput> future = PlainActionFuture.newFuture();
+
+        backend.predict(MODEL_ID, textDocsInput(List.of("hello")), future);
+
+        assertFalse(future.isDone());
+        assertEquals(List.of(25L), delays);
+        tasks.get(0).run();
+        assertTrue(future.isDone());
+    }
+
+    public void testPredict_whenPrompt_thenGeneratedTextInBedrockFormat() {
+        final LocalInferenceBackend backend = new LocalInferenceBackend(4, TimeValue.ZERO, null);
+        final MLInput mlInput = new MLInput();
+        mlInput.setAlgorithm(FunctionName.REMOTE);
+        mlInput.setInputDataset(new RemoteInferenceInputDataSet(Map.of(LocalInferenceBackend.PROMPT_PARAMETER, "what is opensearch")));
+        final PlainActionFuture<MLOutput> future = PlainActionFuture.newFuture();
+
+        backend.predict(MODEL_ID, mlInput, future);
+
+        final ModelTensor tensor = ((ModelTensorOutput) future.actionGet()).getMlModelOutputs().get(0).getMlModelTensors().get(0);
+        final List<?> results = (List<?>) tensor.getDataAsMap().get("results");
+        final String outputText = (String) ((Map<?, ?>) results.get(0)).get("outputText");
+        assertTrue(outputText.contains(MODEL_ID));
+        assertTrue(outputText.contains("what is opensearch"));
+    }
+
+    public void testPredict_whenUnsupportedInput_thenFail() {
+        final LocalInferenceBackend backend = new LocalInferenceBackend(4, TimeValue.ZERO, null);
+        final PlainActionFuture<MLOutput> future = PlainActionFuture.newFuture();
+
+        backend.predict(MODEL_ID, new MLInput(), future);
+
+        expectThrows(IllegalArgumentException.class, future::actionGet);
+    }
+
+    public void testCreate_whenSettingsSet_thenUseDimension() {
+        final Settings settings = Settings.builder().put(NeuralSearchSettings.INFERENCE_LOCAL_DIMENSION.getKey(), 8).build();
+        final LocalInferenceBackend backend = LocalInferenceBackend.create(settings, null);
+
+        assertEquals(8, predictVectors(backend, MODEL_ID, List.of("hello")).get(0).length);
+    }
+
+    private static List<Number[]> predictVectors(final LocalInferenceBackend backend, final String modelId, final List<String> docs) {
+        final PlainActionFuture<MLOutput> future = PlainActionFuture.newFuture();
+        backend.predict(modelId, textDocsInput(docs), future);
+        final List<Number[]> vectors = new ArrayList<>();
+        ((ModelTensorOutput) future.actionGet()).getMlModelOutputs()
+            .forEach(tensors -> vectors.add(tensors.getMlModelTensors().get(0).getData()));
+        return vectors;
+    }
+
+    private static MLInput textDocsInput(final List<String> docs) {
+        return new MLInput(FunctionName.TEXT_EMBEDDING, null, new TextDocsInputDataSet(docs, null));
+    }
+}
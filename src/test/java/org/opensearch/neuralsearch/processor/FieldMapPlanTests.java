@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.google.common.collect.ImmutableMap;
+
+public class FieldMapPlanTests extends OpenSearchTestCase {
+
+    private static final long MAX_DEPTH = 20;
+
+    public void testCompile_whenFieldMapHasBlankValue_thenThrowIllegalArgumentException() {
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> FieldMapPlan.compile(ImmutableMap.of("key1", " "), MAX_DEPTH)
+        );
+        assertEquals("Unable to create the TextEmbedding processor as field_map has invalid key or value", exception.getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExtract_whenNestedFields_thenExtractTextsAndWriteVectorsInSameOrder() {
+        FieldMapPlan plan = FieldMapPlan.compile(
+            ImmutableMap.of("title", "title_knn", "tags", "tags_knn", "product", ImmutableMap.of("description", "description_knn")),
+            MAX_DEPTH
+        );
+        Map<String, Object> product = new HashMap<>();
+        product.put("description", "blue shirt");
+        product.put("price", "10");
+        Map<String, Object> source = new HashMap<>();
+        source.put("title", "shirt");
+        source.put("tags", List.of("blue", "cotton"));
+        source.put("product", product);
+        IngestDocument ingestDocument = new IngestDocument(source, new HashMap<>());
+
+        FieldMapPlan.Extraction extraction = plan.extract(ingestDocument.getSourceAndMetadata());
+
+        assertEquals(List.of("shirt", "blue", "cotton", "blue shirt"), extraction.getTexts());
+        extraction.write(ingestDocument, List.of(new float[] { 1.0f }, new float[] { 2.0f }, new float[] { 3.0f }, new float[] { 4.0f }));
+        assertEquals(List.of(1.0f), source.get("title_knn"));
+        assertEquals(List.of(Map.of("knn", List.of(2.0f)), Map.of("knn", List.of(3.0f))), source.get("tags_knn"));
+        assertEquals(List.of(4.0f), ((Map<String, Object>) source.get("product")).get("description_knn"));
+        assertFalse(product.containsKey("price_knn"));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExtract_whenNestedListHasNull_thenKeepPositionAndFailValidation() {
+        FieldMapPlan plan = FieldMapPlan.compile(ImmutableMap.of("product", ImmutableMap.of("tags", "tags_knn")), MAX_DEPTH);
+        Map<String, Object> product = new HashMap<>();
+        product.put("tags", new ArrayList<>(Arrays.asList("blue", null, "cotton")));
+        Map<String, Object> source = new HashMap<>();
+        source.put("product", product);
+        IngestDocument ingestDocument = new IngestDocument(source, new HashMap<>());
+
+        FieldMapPlan.Extraction extraction = plan.extract(ingestDocument.getSourceAndMetadata());
+
+        assertEquals(Arrays.asList("blue", null, "cotton"), extraction.getTexts());
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, extraction::validate);
+        assertEquals("list type field [product] has null, can not process it", exception.getMessage());
+        extraction.write(ingestDocument, List.of(new float[] { 1.0f }, new float[] { 2.0f }, new float[] { 3.0f }));
+        assertEquals(
+            List.of(Map.of("knn", List.of(1.0f)), Map.of("knn", List.of(2.0f)), Map.of("knn", List.of(3.0f))),
+            ((Map<String, Object>) source.get("product")).get("tags_knn")
+        );
+    }
+
+    public void testExtract_whenTopLevelListHasNull_thenThrowIllegalArgumentException() {
+        FieldMapPlan plan = FieldMapPlan.compile(ImmutableMap.of("tags", "tags_knn"), MAX_DEPTH);
+        Map<String, Object> source = new HashMap<>();
+        source.put("tags", Arrays.asList("blue", null));
+
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> plan.extract(source));
+        assertEquals("list type field [tags] has null, can not process it", exception.getMessage());
+    }
+
+    public void testExtract_whenUnconfiguredNestedValueInvalid_thenThrowIllegalArgumentException() {
+        FieldMapPlan plan = FieldMapPlan.compile(ImmutableMap.of("product", ImmutableMap.of("description", "description_knn")), MAX_DEPTH);
+        Map<String, Object> source = new HashMap<>();
+        source.put("product", ImmutableMap.of("description", "blue shirt", "price", 10));
+
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> plan.extract(source));
+        assertEquals("map type field [product] has non-string type, can not process it", exception.getMessage());
+    }
+
+    public void testExtract_whenMapDepthExceedsLimit_thenThrowIllegalArgumentException() {
+        FieldMapPlan plan = FieldMapPlan.compile(ImmutableMap.of("key1", "key1_knn"), 2);
+        Map<String, Object> source = new HashMap<>();
+        source.put("key1", ImmutableMap.of("level2", ImmutableMap.of("level3", "text")));
+
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> plan.extract(source));
+        assertEquals("map type field [key1] reached max depth limit, can not process it", exception.getMessage());
+    }
+
+    public void testExtract_whenMapTypeFieldIsNotMap_thenThrowIllegalArgumentException() {
+        FieldMapPlan plan = FieldMapPlan.compile(ImmutableMap.of("product", ImmutableMap.of("description", "description_knn")), MAX_DEPTH);
+        Map<String, Object> source = new HashMap<>();
+        source.put("product", "blue shirt");
+
+        expectThrows(IllegalArgumentException.class, () -> plan.extract(source));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.processor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.search.summary.GeneratedText;
+import org.opensearch.neuralsearch.search.summary.GenerativeTextLLMSearchResponse;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.stats.NeuralStatsOperation;
+import org.opensearch.neuralsearch.stats.OperationStats;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class GenerativeTextLLMProcessorTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+
+    public void testProcessResponse_whenModelResponds_thenAddGeneratedText() {
+        MLCommonsClientAccessor accessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<GeneratedText> listener = invocation.getArgument(2);
+            listener.onResponse(new GeneratedText("summary", ""));
+            return null;
+        }).when(accessor).predict(any(String.class), eq(MODEL_ID), any(ActionListener.class));
+        GenerativeTextLLMProcessor processor = new GenerativeTextLLMProcessor(
+            "tag",
+            null,
+            accessor,
+            List.of("text"),
+            MODEL_ID,
+            null,
+            new NeuralStats()
+        );
+
+        GenerativeTextLLMSearchResponse response = (GenerativeTextLLMSearchResponse) processor.processResponse(
+            new SearchRequest(),
+            createSearchResponse()
+        );
+
+        assertEquals(1, response.getGeneratedTextList().size());
+        assertEquals("summary", response.getGeneratedTextList().get(0).getValue());
+        assertEquals("tag", response.getGeneratedTextList().get(0).getProcessorTag());
+    }
+
+    public void testProcessResponse_whenPredictFails_thenReturnErrorText() {
+        NeuralStats neuralStats = new NeuralStats();
+        MLCommonsClientAccessor accessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<GeneratedText> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("model failed"));
+            return null;
+        }).when(accessor).predict(any(String.class), eq(MODEL_ID), any(ActionListener.class));
+        GenerativeTextLLMProcessor processor = new GenerativeTextLLMProcessor(
+            "tag",
+            null,
+            accessor,
+            List.of("text"),
+            MODEL_ID,
+            null,
+            neuralStats
+        );
+
+        GenerativeTextLLMSearchResponse response = (GenerativeTextLLMSearchResponse) processor.processResponse(
+            new SearchRequest(),
+            createSearchResponse()
+        );
+
+        assertEquals("", response.getGeneratedTextList().get(0).getValue());
+        assertTrue(response.getGeneratedTextList().get(0).getError().contains("model failed"));
+        // the failed predict call still produces a response, so the processor call is not counted as failed
+        OperationStats.Snapshot stats = neuralStats.snapshot()
+            .getProcessors()
+            .get("tag")
+            .get(NeuralStatsOperation.GENERATIVE_TEXT_LLM_PROCESSOR.getName());
+        assertEquals(1, stats.getCount());
+        assertEquals(0, stats.getFailedCount());
+        assertEquals(1, stats.getItemCount());
+    }
+
+    private SearchResponse createSearchResponse() {
+        SearchHit hit = new SearchHit(0);
+        hit.sourceRef(new BytesArray("{\"text\":\"some text\"}"));
+        SearchHits hits = new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
+        InternalSearchResponse internalResponse = new InternalSearchResponse(hits, null, null, null, false, null, 1);
+        return new SearchResponse(internalResponse, null, 1, 1, 0, 10, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+    }
+}
@@ -20,17 +20,26 @@ import java.util.function.Supplier;
 import lombok.SneakyThrows;
 
 import org.junit.Before;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.ActionListener;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.Processor;
+import org.opensearch.neuralsearch.cache.EmbeddingCache;
+import org.opensearch.neuralsearch.ml.InferenceBatchQueue;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.factory.TextEmbeddingProcessorFactory;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.stats.NeuralStatsOperation;
+import org.opensearch.neuralsearch.stats.OperationStats;
+import org.opensearch.neuralsearch.vector.VectorEncoding;
+import org.opensearch.neuralsearch.vector.VectorProjection;
+import org.opensearch.neuralsearch.vector.VectorProjectionStore;
 import org.opensearch.test.OpenSearchTestCase;
 
 import com.google.common.collect.ImmutableList;
@@ -44,7 +53,11 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
     @Mock
     private Environment env;
 
-    @InjectMocks
+    @Mock
+    private VectorProjectionStore projectionStore;
+
+    private NeuralStats neuralStats;
+
     private TextEmbeddingProcessorFactory textEmbeddingProcessorFactory;
     private static final String PROCESSOR_TAG = "mockTag";
     private static final String DESCRIPTION = "mockDescription";
@@ -54,10 +67,22 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         MockitoAnnotations.openMocks(this);
         Settings settings = Settings.builder().put("index.mapping.depth.limit", 20).build();
         when(env.settings()).thenReturn(settings);
+        neuralStats = new NeuralStats();
+        textEmbeddingProcessorFactory = new TextEmbeddingProcessorFactory(
+            createUnbatchedQueue(mlCommonsClientAccessor),
+            new EmbeddingCache(0),
+            projectionStore,
+            env,
+            neuralStats
+        );
+    }
+
+    private InferenceBatchQueue createUnbatchedQueue(MLCommonsClientAccessor accessor) {
+        return new InferenceBatchQueue(accessor, 1, TimeValue.ZERO, null);
     }
 
     @SneakyThrows
-    private TextEmbeddingProcessor createInstance(List<List<Float>> vector) {
+    private TextEmbeddingProcessor createInstance(List<float[]> vector) {
         Map<String, Processor.Factory> registry = new HashMap<>();
         Map<String, Object> config = new HashMap<>();
         config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
@@ -100,9 +125,9 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
         TextEmbeddingProcessor processor = createInstance(createMockVectorWithLength(2));
 
-        List<List<Float>> modelTensorList = createMockVectorResult();
+        List<float[]> modelTensorList = createMockVectorResult();
         doAnswer(invocation -> {
-            ActionListener<List<List<Float>>> listener = invocation.getArgument(2);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
             listener.onResponse(modelTensorList);
             return null;
         }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
@@ -120,7 +145,13 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
         Map<String, Processor.Factory> registry = new HashMap<>();
         MLCommonsClientAccessor accessor = mock(MLCommonsClientAccessor.class);
-        TextEmbeddingProcessorFactory textEmbeddingProcessorFactory = new TextEmbeddingProcessorFactory(accessor, env);
+        TextEmbeddingProcessorFactory textEmbeddingProcessorFactory = new TextEmbeddingProcessorFactory(
+            createUnbatchedQueue(accessor),
+            new EmbeddingCache(0),
+            projectionStore,
+            env,
+            neuralStats
+        );
 
         Map<String, Object> config = new HashMap<>();
         config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
@@ -138,7 +169,13 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
         Map<String, Processor.Factory> registry = new HashMap<>();
         MLCommonsClientAccessor accessor = mock(MLCommonsClientAccessor.class);
-        TextEmbeddingProcessorFactory textEmbeddingProcessorFactory = new TextEmbeddingProcessorFactory(accessor, env);
+        TextEmbeddingProcessorFactory textEmbeddingProcessorFactory = new TextEmbeddingProcessorFactory(
+            createUnbatchedQueue(accessor),
+            new EmbeddingCache(0),
+            projectionStore,
+            env,
+            neuralStats
+        );
 
         Map<String, Object> config = new HashMap<>();
         config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
@@ -159,9 +196,9 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
         TextEmbeddingProcessor processor = createInstance(createMockVectorWithLength(6));
 
-        List<List<Float>> modelTensorList = createMockVectorResult();
+        List<float[]> modelTensorList = createMockVectorResult();
         doAnswer(invocation -> {
-            ActionListener<List<List<Float>>> listener = invocation.getArgument(2);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
             listener.onResponse(modelTensorList);
             return null;
         }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
@@ -219,6 +256,17 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         verify(handler).accept(isNull(), any(IllegalArgumentException.class));
     }
 
+    @SneakyThrows
+    public void testExecute_nestedListHasNull_throwIllegalArgumentException() {
+        Map<String, Object> config = createNestedMapConfiguration();
+        IngestDocument ingestDocument = createNestedMapIngestDocument();
+        TextEmbeddingProcessor processor = createInstanceWithNestedMapConfiguration(config);
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+        verify(handler).accept(isNull(), any(IllegalArgumentException.class));
+        verify(mlCommonsClientAccessor, never()).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+    }
+
     public void testExecute_withMapTypeInput_successful() {
         Map<String, String> map1 = ImmutableMap.of("test1", "test2");
         Map<String, String> map2 = ImmutableMap.of("test4", "test5");
@@ -228,9 +276,9 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
         TextEmbeddingProcessor processor = createInstance(createMockVectorWithLength(2));
 
-        List<List<Float>> modelTensorList = createMockVectorResult();
+        List<float[]> modelTensorList = createMockVectorResult();
         doAnswer(invocation -> {
-            ActionListener<List<List<Float>>> listener = invocation.getArgument(2);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
             listener.onResponse(modelTensorList);
             return null;
         }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
@@ -287,7 +335,7 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         TextEmbeddingProcessor processor = createInstance(createMockVectorWithLength(2));
 
         doAnswer(invocation -> {
-            ActionListener<List<List<Float>>> listener = invocation.getArgument(2);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
             listener.onFailure(new IllegalArgumentException("illegal argument"));
             return null;
         }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
@@ -295,6 +343,349 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         BiConsumer handler = mock(BiConsumer.class);
         processor.execute(ingestDocument, handler);
         verify(handler).accept(isNull(), any(IllegalArgumentException.class));
+        OperationStats.Snapshot stats = neuralStats.snapshot()
+            .getProcessors()
+            .get(PROCESSOR_TAG)
+            .get(NeuralStatsOperation.TEXT_EMBEDDING_PROCESSOR.getName());
+        assertEquals(1, stats.getCount());
+        assertEquals(1, stats.getFailedCount());
+    }
+
+    @SneakyThrows
+    public void testExecute_whenEmbeddingCacheEnabled_thenOnlyInferCacheMisses() {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        TextEmbeddingProcessorFactory cachingProcessorFactory = new TextEmbeddingProcessorFactory(
+            createUnbatchedQueue(mlCommonsClientAccessor),
+            new EmbeddingCache(1024 * 1024),
+            projectionStore,
+            env,
+            neuralStats
+        );
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped", "key2", "key2Mapped"));
+        TextEmbeddingProcessor processor = cachingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+        doAnswer(invocation -> {
+            List<String> inferenceList = invocation.getArgument(1);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(createMockVectorWithLength(inferenceList.size()));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+
+        Map<String, Object> firstSource = new HashMap<>();
+        firstSource.put("key1", "value1");
+        IngestDocument firstDocument = new IngestDocument(firstSource, new HashMap<>());
+        BiConsumer firstHandler = mock(BiConsumer.class);
+        processor.execute(firstDocument, firstHandler);
+        verify(firstHandler).accept(any(IngestDocument.class), isNull());
+        verify(mlCommonsClientAccessor).inferenceSentences(eq("mockModelId"), eq(List.of("value1")), isA(ActionListener.class));
+
+        Map<String, Object> secondSource = new HashMap<>();
+        secondSource.put("key1", "value1");
+        secondSource.put("key2", "value2");
+        IngestDocument secondDocument = new IngestDocument(secondSource, new HashMap<>());
+        BiConsumer secondHandler = mock(BiConsumer.class);
+        processor.execute(secondDocument, secondHandler);
+        verify(secondHandler).accept(any(IngestDocument.class), isNull());
+        verify(mlCommonsClientAccessor).inferenceSentences(eq("mockModelId"), eq(List.of("value2")), isA(ActionListener.class));
+        assertEquals(firstDocument.getSourceAndMetadata().get("key1Mapped"), secondDocument.getSourceAndMetadata().get("key1Mapped"));
+        assertNotNull(secondDocument.getSourceAndMetadata().get("key2Mapped"));
+    }
+
+    public void testExecute_whenDuplicatedTexts_thenInferDistinctTextsOnce() {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put("key1", ImmutableList.of("tag1", "tag2", "tag1"));
+        sourceAndMetadata.put("key2", "tag2");
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        TextEmbeddingProcessor processor = createInstance(createMockVectorWithLength(2));
+        doAnswer(invocation -> {
+            List<String> inferenceList = invocation.getArgument(1);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            List<float[]> vectors = new ArrayList<>();
+            inferenceList.forEach(text -> vectors.add(new float[] { text.charAt(3) }));
+            listener.onResponse(vectors);
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        verify(handler).accept(any(IngestDocument.class), isNull());
+        verify(mlCommonsClientAccessor).inferenceSentences(eq("mockModelId"), eq(List.of("tag1", "tag2")), isA(ActionListener.class));
+        List<Map<String, Object>> key1Vectors = (List<Map<String, Object>>) ingestDocument.getSourceAndMetadata().get("key1Mapped");
+        assertEquals(3, key1Vectors.size());
+        assertEquals(List.of((float) '1'), key1Vectors.get(0).get("knn"));
+        assertEquals(List.of((float) '2'), key1Vectors.get(1).get("knn"));
+        assertEquals(List.of((float) '1'), key1Vectors.get(2).get("knn"));
+        assertEquals(List.of((float) '2'), ingestDocument.getSourceAndMetadata().get("key2Mapped"));
+    }
+
+    @SneakyThrows
+    public void testExecute_whenSkipUnchangedAndTextsUnchanged_thenSkipInference() {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped", "key2", "key2Mapped"));
+        config.put(TextEmbeddingProcessor.SKIP_UNCHANGED_FIELD, true);
+        TextEmbeddingProcessor processor = textEmbeddingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+        doAnswer(invocation -> {
+            List<String> inferenceList = invocation.getArgument(1);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(createMockVectorWithLength(inferenceList.size()));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put("key1", "value1");
+        sourceAndMetadata.put("key2", ImmutableList.of("value2", "value3"));
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        processor.execute(ingestDocument, mock(BiConsumer.class));
+        verify(mlCommonsClientAccessor).inferenceSentences(
+            eq("mockModelId"),
+            eq(List.of("value1", "value2", "value3")),
+            isA(ActionListener.class)
+        );
+        assertNotNull(ingestDocument.getSourceAndMetadata().get("key1Mapped" + TextEmbeddingProcessor.FINGERPRINT_FIELD_SUFFIX));
+        assertNotNull(ingestDocument.getSourceAndMetadata().get("key2Mapped" + TextEmbeddingProcessor.FINGERPRINT_FIELD_SUFFIX));
+
+        // an update which only changes other fields keeps the vectors
+        ingestDocument.getSourceAndMetadata().put("price", 10);
+        BiConsumer unchangedHandler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, unchangedHandler);
+        verify(unchangedHandler).accept(any(IngestDocument.class), isNull());
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+
+        // an update which changes a text replaces the stale vector of that field only
+        ingestDocument.getSourceAndMetadata().put("key1", "changedValue1");
+        BiConsumer changedHandler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, changedHandler);
+        verify(changedHandler).accept(any(IngestDocument.class), isNull());
+        verify(mlCommonsClientAccessor).inferenceSentences(eq("mockModelId"), eq(List.of("changedValue1")), isA(ActionListener.class));
+        assertEquals(2, ((List<?>) ingestDocument.getSourceAndMetadata().get("key1Mapped")).size());
+    }
+
+    public void testTextEmbeddingProcessConstructor_whenQuantization_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(TextEmbeddingProcessor.QUANTIZATION_FIELD, Map.of("min", -1.0, "max", 1.0));
+
+        OpenSearchParseException e = expectThrows(
+            OpenSearchParseException.class,
+            () -> textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config)
+        );
+        assertTrue(e.getMessage().contains("the knn_vector fields of k-NN 2.7 can not store byte vectors"));
+    }
+
+    @SneakyThrows
+    public void testExecute_whenDimensions_thenWriteTruncatedNormalizedVectors() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(TextEmbeddingProcessor.DIMENSIONS_FIELD, 2);
+        TextEmbeddingProcessor processor = textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config);
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new float[] { 3.0f, 4.0f, 12.0f }));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        IngestDocument ingestDocument = new IngestDocument(new HashMap<>(Map.of("key1", "value1")), new HashMap<>());
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        verify(handler).accept(any(IngestDocument.class), isNull());
+        assertEquals(List.of(0.6f, 0.8f), ingestDocument.getSourceAndMetadata().get("key1Mapped"));
+    }
+
+    @SneakyThrows
+    public void testExecute_whenProjection_thenWriteProjectedVectors() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(TextEmbeddingProcessor.PROJECTION_FIELD, "projection");
+        TextEmbeddingProcessor processor = textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config);
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new float[] { 1.0f, 2.0f, 3.0f }));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        VectorProjection projection = new VectorProjection(
+            "projection",
+            VectorProjection.PCA_METHOD,
+            3,
+            2,
+            new float[] { 1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f },
+            new float[] { 1.0f, 1.0f }
+        );
+        doAnswer(invocation -> {
+            ActionListener<VectorProjection> listener = invocation.getArgument(1);
+            listener.onResponse(projection);
+            return null;
+        }).when(projectionStore).get(eq("projection"), isA(ActionListener.class));
+        IngestDocument ingestDocument = new IngestDocument(new HashMap<>(Map.of("key1", "value1")), new HashMap<>());
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        verify(handler).accept(any(IngestDocument.class), isNull());
+        assertEquals(List.of(0.0f, 2.0f), ingestDocument.getSourceAndMetadata().get("key1Mapped"));
+    }
+
+    @SneakyThrows
+    public void testExecute_whenProjectionDoesNotExist_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(TextEmbeddingProcessor.PROJECTION_FIELD, "missing");
+        TextEmbeddingProcessor processor = textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config);
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new float[] { 1.0f, 2.0f, 3.0f }));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<VectorProjection> listener = invocation.getArgument(1);
+            listener.onFailure(new ResourceNotFoundException("projection [missing] does not exist"));
+            return null;
+        }).when(projectionStore).get(eq("missing"), isA(ActionListener.class));
+        IngestDocument ingestDocument = new IngestDocument(new HashMap<>(Map.of("key1", "value1")), new HashMap<>());
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        verify(handler).accept(isNull(), any(ResourceNotFoundException.class));
+        assertFalse(ingestDocument.getSourceAndMetadata().containsKey("key1Mapped"));
+    }
+
+    @SneakyThrows
+    public void testExecute_whenBase64Encoding_thenWriteEncodedVectors() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped", "key2", "key2Mapped"));
+        config.put(TextEmbeddingProcessor.ENCODING_FIELD, "base64_float16");
+        TextEmbeddingProcessor processor = textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config);
+        float[] vector1 = new float[] { 0.5f, -0.25f, 1.0f };
+        float[] vector2 = new float[] { -1.0f, 0.125f, 0.0f };
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(vector1, vector2));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put("key1", "value1");
+        sourceAndMetadata.put("key2", ImmutableList.of("value2"));
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        verify(handler).accept(any(IngestDocument.class), isNull());
+        Object key1Vector = ingestDocument.getSourceAndMetadata().get("key1Mapped");
+        assertTrue(key1Vector instanceof String);
+        assertArrayEquals(vector1, VectorEncoding.BASE64_FLOAT16.decode(key1Vector), 0.0f);
+        List<Map<String, Object>> key2Vectors = (List<Map<String, Object>>) ingestDocument.getSourceAndMetadata().get("key2Mapped");
+        assertArrayEquals(vector2, VectorEncoding.BASE64_FLOAT16.decode(key2Vectors.get(0).get("knn")), 0.0f);
+    }
+
+    @SneakyThrows
+    public void testExecute_whenSkipUnchangedAndEncodedVectors_thenSkipInference() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(TextEmbeddingProcessor.SKIP_UNCHANGED_FIELD, true);
+        config.put(TextEmbeddingProcessor.ENCODING_FIELD, "base64_float32");
+        TextEmbeddingProcessor processor = textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config);
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new float[] { 1.0f, 2.0f }));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        IngestDocument ingestDocument = new IngestDocument(new HashMap<>(Map.of("key1", "value1")), new HashMap<>());
+        processor.execute(ingestDocument, mock(BiConsumer.class));
+
+        BiConsumer unchangedHandler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, unchangedHandler);
+
+        verify(unchangedHandler).accept(any(IngestDocument.class), isNull());
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        assertArrayEquals(
+            new float[] { 1.0f, 2.0f },
+            VectorEncoding.BASE64_FLOAT32.decode(ingestDocument.getSourceAndMetadata().get("key1Mapped")),
+            0.0f
+        );
+    }
+
+    @SneakyThrows
+    public void testExecute_whenSkipUnchangedAndVectorOptionsChanged_thenRunInference() {
+        doAnswer(invocation -> {
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new float[] { 0.5f, 0.5f, 0.5f, 0.5f }));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        IngestDocument ingestDocument = new IngestDocument(new HashMap<>(Map.of("key1", "value1")), new HashMap<>());
+        List<Map.Entry<String, Object>> options = List.of(
+            Map.entry(TextEmbeddingProcessor.DIMENSIONS_FIELD, 2),
+            Map.entry(TextEmbeddingProcessor.ENCODING_FIELD, "base64_float32")
+        );
+        createSkipUnchangedProcessor(null).execute(ingestDocument, mock(BiConsumer.class));
+
+        int expectedInferences = 1;
+        for (Map.Entry<String, Object> option : options) {
+            TextEmbeddingProcessor processor = createSkipUnchangedProcessor(option);
+            BiConsumer handler = mock(BiConsumer.class);
+            processor.execute(ingestDocument, handler);
+            verify(handler).accept(any(IngestDocument.class), isNull());
+            verify(mlCommonsClientAccessor, times(++expectedInferences)).inferenceSentences(
+                anyString(),
+                anyList(),
+                isA(ActionListener.class)
+            );
+
+            // the vectors written with the same options are kept
+            processor.execute(ingestDocument, mock(BiConsumer.class));
+            verify(mlCommonsClientAccessor, times(expectedInferences)).inferenceSentences(
+                anyString(),
+                anyList(),
+                isA(ActionListener.class)
+            );
+        }
+    }
+
+    @SneakyThrows
+    private TextEmbeddingProcessor createSkipUnchangedProcessor(Map.Entry<String, Object> option) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(TextEmbeddingProcessor.SKIP_UNCHANGED_FIELD, true);
+        if (option != null) {
+            config.put(option.getKey(), option.getValue());
+        }
+        return textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config);
+    }
+
+    public void testTextEmbeddingProcessConstructor_whenEncodingInvalid_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(TextEmbeddingProcessor.ENCODING_FIELD, "base64_float64");
+
+        expectThrows(
+            OpenSearchParseException.class,
+            () -> textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config)
+        );
+    }
+
+    public void testTextEmbeddingProcessConstructor_whenDimensionsNotPositive_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(TextEmbeddingProcessor.DIMENSIONS_FIELD, 0);
+
+        expectThrows(
+            OpenSearchParseException.class,
+            () -> textEmbeddingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config)
+        );
     }
 
     private Map<String, Object> createMaxDepthLimitExceedMap(Supplier<Integer> maxDepthSupplier) {
@@ -326,7 +717,7 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         sourceAndMetadata.put("key2", 100.232D);
         IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
         doAnswer(invocation -> {
-            ActionListener<List<List<Float>>> listener = invocation.getArgument(2);
+            ActionListener<List<float[]>> listener = invocation.getArgument(2);
             listener.onFailure(new IllegalArgumentException("illegal argument"));
             return null;
         }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
@@ -347,10 +738,10 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         IngestDocument ingestDocument = createPlainIngestDocument();
         TextEmbeddingProcessor processor = createInstanceWithNestedMapConfiguration(config);
 
-        Map<String, Object> knnMap = processor.buildMapWithKnnKeyAndOriginalValue(ingestDocument);
+        FieldMapPlan.Extraction extraction = processor.extractFields(ingestDocument);
 
-        List<List<Float>> modelTensorList = createMockVectorResult();
-        processor.appendVectorFieldsToDocument(ingestDocument, knnMap, modelTensorList);
+        List<float[]> modelTensorList = createMockVectorResult();
+        processor.appendVectorFieldsToDocument(ingestDocument, extraction, modelTensorList);
         assertEquals(12, ingestDocument.getSourceAndMetadata().size());
     }
 
@@ -360,18 +751,20 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         IngestDocument ingestDocument = createPlainIngestDocument();
         TextEmbeddingProcessor processor = createInstanceWithNestedMapConfiguration(config);
 
-        Map<String, Object> knnMap = processor.buildMapWithKnnKeyAndOriginalValue(ingestDocument);
+        FieldMapPlan.Extraction extraction = processor.extractFields(ingestDocument);
 
-        // To assert the order is not changed between config map and generated map.
+        // To assert the order is not changed between config map and extracted fields.
         List<Object> configValueList = new LinkedList<>(config.values());
-        List<String> knnKeyList = new LinkedList<>(knnMap.keySet());
+        List<String> knnKeyList = new LinkedList<>();
+        extraction.getFields().forEach(field -> knnKeyList.add(field.getKey()));
         assertEquals(configValueList.size(), knnKeyList.size());
         assertEquals(knnKeyList.get(0), configValueList.get(0).toString());
         int lastIndex = knnKeyList.size() - 1;
         assertEquals(knnKeyList.get(lastIndex), configValueList.get(lastIndex).toString());
 
-        List<List<Float>> modelTensorList = createMockVectorResult();
-        Map<String, Object> result = processor.buildTextEmbeddingResult(knnMap, modelTensorList, ingestDocument.getSourceAndMetadata());
+        List<float[]> modelTensorList = createMockVectorResult();
+        processor.appendVectorFieldsToDocument(ingestDocument, extraction, modelTensorList);
+        Map<String, Object> result = ingestDocument.getSourceAndMetadata();
         assertTrue(result.containsKey("oriKey1_knn"));
         assertTrue(result.containsKey("oriKey2_knn"));
         assertTrue(result.containsKey("oriKey3_knn"));
@@ -386,9 +779,9 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         Map<String, Object> config = createNestedMapConfiguration();
         IngestDocument ingestDocument = createNestedMapIngestDocument();
         TextEmbeddingProcessor processor = createInstanceWithNestedMapConfiguration(config);
-        Map<String, Object> knnMap = processor.buildMapWithKnnKeyAndOriginalValue(ingestDocument);
-        List<List<Float>> modelTensorList = createMockVectorResult();
-        processor.buildTextEmbeddingResult(knnMap, modelTensorList, ingestDocument.getSourceAndMetadata());
+        FieldMapPlan.Extraction extraction = processor.extractFields(ingestDocument);
+        List<float[]> modelTensorList = createMockVectorResult();
+        processor.appendVectorFieldsToDocument(ingestDocument, extraction, modelTensorList);
         Map<String, Object> favoritesMap = (Map<String, Object>) ingestDocument.getSourceAndMetadata().get("favorites");
         assertNotNull(favoritesMap);
         Map<String, Object> favoriteGames = (Map<String, Object>) favoritesMap.get("favorite.games");
@@ -398,15 +791,15 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         assertNotNull(actionGamesKnn);
     }
 
-    private List<List<Float>> createMockVectorResult() {
-        List<List<Float>> modelTensorList = new ArrayList<>();
-        List<Float> number1 = ImmutableList.of(1.234f, 2.354f);
-        List<Float> number2 = ImmutableList.of(3.234f, 4.354f);
-        List<Float> number3 = ImmutableList.of(5.234f, 6.354f);
-        List<Float> number4 = ImmutableList.of(7.234f, 8.354f);
-        List<Float> number5 = ImmutableList.of(9.234f, 10.354f);
-        List<Float> number6 = ImmutableList.of(11.234f, 12.354f);
-        List<Float> number7 = ImmutableList.of(13.234f, 14.354f);
+    private List<float[]> createMockVectorResult() {
+        List<float[]> modelTensorList = new ArrayList<>();
+        float[] number1 = new float[] { 1.234f, 2.354f };
+        float[] number2 = new float[] { 3.234f, 4.354f };
+        float[] number3 = new float[] { 5.234f, 6.354f };
+        float[] number4 = new float[] { 7.234f, 8.354f };
+        float[] number5 = new float[] { 9.234f, 10.354f };
+        float[] number6 = new float[] { 11.234f, 12.354f };
+        float[] number7 = new float[] { 13.234f, 14.354f };
         modelTensorList.add(number1);
         modelTensorList.add(number2);
         modelTensorList.add(number3);
@@ -417,14 +810,11 @@ public class TextEmbeddingProcessorTests extends OpenSearchTestCase {
         return modelTensorList;
     }
 
-    private List<List<Float>> createMockVectorWithLength(int size) {
+    private List<float[]> createMockVectorWithLength(int size) {
         float suffix = .234f;
-        List<List<Float>> result = new ArrayList<>();
+        List<float[]> result = new ArrayList<>();
         for (int i = 0; i < size * 2;) {
-            List<Float> number = new ArrayList<>();
-            number.add(i++ + suffix);
-            number.add(i++ + suffix);
-            result.add(number);
+            result.add(new float[] { i++ + suffix, i++ + suffix });
         }
         return result;
     }
@@ -6,20 +6,26 @@
 package org.opensearch.neuralsearch.query;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 import static org.opensearch.index.query.AbstractQueryBuilder.BOOST_FIELD;
 import static org.opensearch.index.query.AbstractQueryBuilder.NAME_FIELD;
 import static org.opensearch.knn.index.query.KNNQueryBuilder.FILTER_FIELD;
 import static org.opensearch.neuralsearch.TestUtils.xContentBuilderToMap;
+import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.DIMENSIONS_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.K_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.MODEL_ID_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.NAME;
+import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.PROJECTION_FIELD;
+import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.QUANTIZATION_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralQueryBuilder.QUERY_TEXT_FIELD;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -29,6 +35,7 @@ import java.util.function.Supplier;
 
 import lombok.SneakyThrows;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.common.ParsingException;
@@ -37,6 +44,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.FilterStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -48,8 +56,11 @@ import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.knn.index.query.KNNQueryBuilder;
-import org.opensearch.neuralsearch.common.VectorUtil;
+import org.opensearch.neuralsearch.cache.EmbeddingCache;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.vector.ScalarQuantizer;
+import org.opensearch.neuralsearch.vector.VectorProjection;
+import org.opensearch.neuralsearch.vector.VectorProjectionStore;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class NeuralQueryBuilderTests extends OpenSearchTestCase {
@@ -332,6 +343,92 @@ public class NeuralQueryBuilderTests extends OpenSearchTestCase {
         );
     }
 
+    @SneakyThrows
+    public void testFromXContent_whenBuiltWithQuantization_thenFail() {
+        /*
+          {
+              "VECTOR_FIELD": {
+                "query_text": "string",
+                "model_id": "string",
+                "k": int,
+                "quantization": {
+                  "type": "int8",
+                  "scale": 127.0
+                }
+              }
+          }
+        */
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(K_FIELD.getPreferredName(), K)
+            .startObject(QUANTIZATION_FIELD.getPreferredName())
+            .field("type", "int8")
+            .field("scale", 127.0f)
+            .endObject()
+            .endObject()
+            .endObject();
+
+        XContentParser contentParser = createParser(xContentBuilder);
+        contentParser.nextToken();
+        ParsingException exception = expectThrows(ParsingException.class, () -> NeuralQueryBuilder.fromXContent(contentParser));
+        assertTrue(exception.getMessage().contains("the knn_vector fields of k-NN 2.7 can not store byte vectors"));
+    }
+
+    @SneakyThrows
+    public void testFromXContent_whenBuiltWithDimensions_thenBuildSuccessfully() {
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(DIMENSIONS_FIELD.getPreferredName(), 256)
+            .endObject()
+            .endObject();
+
+        XContentParser contentParser = createParser(xContentBuilder);
+        contentParser.nextToken();
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.fromXContent(contentParser);
+
+        assertEquals(Integer.valueOf(256), neuralQueryBuilder.dimensions());
+    }
+
+    @SneakyThrows
+    public void testFromXContent_whenBuiltWithProjection_thenBuildSuccessfully() {
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(PROJECTION_FIELD.getPreferredName(), "projection")
+            .endObject()
+            .endObject();
+
+        XContentParser contentParser = createParser(xContentBuilder);
+        contentParser.nextToken();
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.fromXContent(contentParser);
+
+        assertEquals("projection", neuralQueryBuilder.projection());
+    }
+
+    @SneakyThrows
+    public void testFromXContent_whenDimensionsNotPositive_thenFail() {
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(DIMENSIONS_FIELD.getPreferredName(), 0)
+            .endObject()
+            .endObject();
+
+        XContentParser contentParser = createParser(xContentBuilder);
+        contentParser.nextToken();
+        expectThrows(ParsingException.class, () -> NeuralQueryBuilder.fromXContent(contentParser));
+    }
+
     @SneakyThrows
     public void testStreams() {
         NeuralQueryBuilder original = new NeuralQueryBuilder();
@@ -342,6 +439,9 @@ public class NeuralQueryBuilderTests extends OpenSearchTestCase {
         original.boost(BOOST);
         original.queryName(QUERY_NAME);
         original.filter(TEST_FILTER);
+        original.projection("projection");
+        original.dimensions(256);
+        original.quantization(ScalarQuantizer.ofRange(-1.0f, 1.0f));
 
         BytesStreamOutput streamOutput = new BytesStreamOutput();
         original.writeTo(streamOutput);
@@ -357,6 +457,34 @@ public class NeuralQueryBuilderTests extends OpenSearchTestCase {
         assertEquals(original, copy);
     }
 
+    @SneakyThrows
+    public void testStreams_whenOlderVersion_thenSkipVectorOptions() {
+        NeuralQueryBuilder original = new NeuralQueryBuilder();
+        original.fieldName(FIELD_NAME);
+        original.queryText(QUERY_TEXT);
+        original.modelId(MODEL_ID);
+        original.k(K);
+        original.projection("projection");
+        original.dimensions(256);
+        original.quantization(ScalarQuantizer.ofRange(-1.0f, 1.0f));
+
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        streamOutput.setVersion(Version.V_2_6_0);
+        original.writeTo(streamOutput);
+
+        StreamInput streamInput = streamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_6_0);
+        NeuralQueryBuilder copy = new NeuralQueryBuilder(streamInput);
+        assertEquals(FIELD_NAME, copy.fieldName());
+        assertEquals(QUERY_TEXT, copy.queryText());
+        assertEquals(MODEL_ID, copy.modelId());
+        assertEquals(K, copy.k());
+        assertNull(copy.projection());
+        assertNull(copy.dimensions());
+        assertNull(copy.quantization());
+        assertEquals(0, streamInput.available());
+    }
+
     public void testHashAndEquals() {
         String fieldName1 = "field 1";
         String fieldName2 = "field 2";
@@ -506,14 +634,14 @@ public class NeuralQueryBuilderTests extends OpenSearchTestCase {
     @SneakyThrows
     public void testRewrite_whenVectorSupplierNull_thenSetVectorSupplier() {
         NeuralQueryBuilder neuralQueryBuilder = new NeuralQueryBuilder().fieldName(FIELD_NAME).queryText(QUERY_TEXT).modelId(MODEL_ID).k(K);
-        List<Float> expectedVector = Arrays.asList(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+        float[] expectedVector = new float[] { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f };
         MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
         doAnswer(invocation -> {
-            ActionListener<List<Float>> listener = invocation.getArgument(2);
+            ActionListener<float[]> listener = invocation.getArgument(2);
             listener.onResponse(expectedVector);
             return null;
         }).when(mlCommonsClientAccessor).inferenceSentence(any(), any(), any());
-        NeuralQueryBuilder.initialize(mlCommonsClientAccessor);
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor, new EmbeddingCache(0), mock(VectorProjectionStore.class));
 
         final CountDownLatch inProgressLatch = new CountDownLatch(1);
         QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
@@ -532,7 +660,63 @@ public class NeuralQueryBuilderTests extends OpenSearchTestCase {
         NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) neuralQueryBuilder.doRewrite(queryRewriteContext);
         assertNotNull(queryBuilder.vectorSupplier());
         assertTrue(inProgressLatch.await(5, TimeUnit.SECONDS));
-        assertArrayEquals(VectorUtil.vectorAsListToArray(expectedVector), queryBuilder.vectorSupplier().get(), 0.0f);
+        assertArrayEquals(expectedVector, queryBuilder.vectorSupplier().get(), 0.0f);
+    }
+
+    public void testRewrite_whenQueryTextCached_thenReturnKNNQueryBuilderWithoutInference() {
+        float[] expectedVector = new float[] { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f };
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<float[]> listener = invocation.getArgument(2);
+            listener.onResponse(expectedVector);
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentence(any(), any(), any());
+        EmbeddingCache queryEmbeddingCache = new EmbeddingCache(1024 * 1024);
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor, queryEmbeddingCache, mock(VectorProjectionStore.class));
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(null, ActionListener.wrap(response -> {}, err -> fail("Failed to set vector supplier: " + err.getMessage())));
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+        new NeuralQueryBuilder().fieldName(FIELD_NAME).queryText(QUERY_TEXT).modelId(MODEL_ID).k(K).doRewrite(queryRewriteContext);
+
+        QueryBuilder queryBuilder = new NeuralQueryBuilder().fieldName(FIELD_NAME)
+            .queryText("  " + QUERY_TEXT + " ")
+            .modelId(MODEL_ID)
+            .k(K)
+            .doRewrite(queryRewriteContext);
+
+        assertTrue(queryBuilder instanceof KNNQueryBuilder);
+        assertArrayEquals(expectedVector, (float[]) ((KNNQueryBuilder) queryBuilder).vector(), 0.0f);
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentence(any(), any(), any());
+        verify(queryRewriteContext, times(1)).registerAsyncAction(any());
+        assertEquals(1, queryEmbeddingCache.stats().getHits());
+        assertEquals(1, queryEmbeddingCache.count());
+    }
+
+    public void testRewrite_whenQueryTextHasExtraWhitespaces_thenInferNormalizedText() {
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<float[]> listener = invocation.getArgument(2);
+            listener.onResponse(new float[] { 1.0f, 2.0f });
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentence(any(), any(), any());
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor, new EmbeddingCache(1024 * 1024), mock(VectorProjectionStore.class));
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(null, ActionListener.wrap(response -> {}, err -> fail("Failed to set vector supplier: " + err.getMessage())));
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+
+        new NeuralQueryBuilder().fieldName(FIELD_NAME).queryText(" Hello \t world! ").modelId(MODEL_ID).k(K).doRewrite(queryRewriteContext);
+
+        verify(mlCommonsClientAccessor).inferenceSentence(eq(MODEL_ID), eq("Hello world!"), any());
+    }
+
+    public void testNormalizeQueryText_whenExtraWhitespaces_thenCollapse() {
+        assertEquals("hello world", NeuralQueryBuilder.normalizeQueryText(" hello \t\n world  "));
     }
 
     public void testRewrite_whenVectorNull_thenReturnCopy() {
@@ -572,4 +756,97 @@ public class NeuralQueryBuilderTests extends OpenSearchTestCase {
         KNNQueryBuilder knnQueryBuilder = (KNNQueryBuilder) queryBuilder;
         assertEquals(neuralQueryBuilder.filter(), knnQueryBuilder.getFilter());
     }
+
+    public void testRewrite_whenQuantizationSet_thenQuantizeQueryVector() {
+        NeuralQueryBuilder neuralQueryBuilder = new NeuralQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .vectorSupplier(() -> new float[] { -1.0f, 0.0f, 0.5f })
+            .quantization(ScalarQuantizer.ofScale(100.0f));
+        QueryBuilder queryBuilder = neuralQueryBuilder.doRewrite(null);
+        assertTrue(queryBuilder instanceof KNNQueryBuilder);
+        assertArrayEquals(new float[] { -100.0f, 0.0f, 50.0f }, (float[]) ((KNNQueryBuilder) queryBuilder).vector(), 0.0f);
+    }
+
+    public void testRewrite_whenDimensionsAndQuantizationSet_thenTruncateThenQuantizeQueryVector() {
+        NeuralQueryBuilder neuralQueryBuilder = new NeuralQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .vectorSupplier(() -> new float[] { 3.0f, 4.0f, 12.0f })
+            .dimensions(2)
+            .quantization(ScalarQuantizer.ofScale(100.0f));
+        QueryBuilder queryBuilder = neuralQueryBuilder.doRewrite(null);
+        assertTrue(queryBuilder instanceof KNNQueryBuilder);
+        assertArrayEquals(new float[] { 60.0f, 80.0f }, (float[]) ((KNNQueryBuilder) queryBuilder).vector(), 0.0f);
+    }
+
+    @SneakyThrows
+    public void testRewrite_whenProjectionSet_thenProjectInferredVector() {
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<float[]> listener = invocation.getArgument(2);
+            listener.onResponse(new float[] { 1.0f, 2.0f, 3.0f });
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentence(any(), any(), any());
+        VectorProjectionStore projectionStore = mock(VectorProjectionStore.class);
+        VectorProjection projection = createTestProjection();
+        doAnswer(invocation -> {
+            ActionListener<VectorProjection> listener = invocation.getArgument(1);
+            listener.onResponse(projection);
+            return null;
+        }).when(projectionStore).get(any(), any());
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor, new EmbeddingCache(0), projectionStore);
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(null, ActionListener.wrap(response -> {}, err -> fail("Failed to set vector supplier: " + err.getMessage())));
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+
+        NeuralQueryBuilder queryBuilder = (NeuralQueryBuilder) new NeuralQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .projection("projection")
+            .doRewrite(queryRewriteContext);
+
+        assertEquals("projection", queryBuilder.projection());
+        assertArrayEquals(new float[] { 0.0f, 2.0f }, queryBuilder.vectorSupplier().get(), 0.0f);
+    }
+
+    public void testRewrite_whenQueryTextCachedAndProjectionLoaded_thenProjectWithoutAsyncAction() {
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        EmbeddingCache queryEmbeddingCache = new EmbeddingCache(1024 * 1024);
+        queryEmbeddingCache.put(MODEL_ID, QUERY_TEXT, new float[] { 1.0f, 2.0f, 3.0f });
+        VectorProjectionStore projectionStore = mock(VectorProjectionStore.class);
+        when(projectionStore.getIfLoaded("projection")).thenReturn(createTestProjection());
+        NeuralQueryBuilder.initialize(mlCommonsClientAccessor, queryEmbeddingCache, projectionStore);
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+
+        QueryBuilder queryBuilder = new NeuralQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .k(K)
+            .projection("projection")
+            .doRewrite(queryRewriteContext);
+
+        assertTrue(queryBuilder instanceof KNNQueryBuilder);
+        assertArrayEquals(new float[] { 0.0f, 2.0f }, (float[]) ((KNNQueryBuilder) queryBuilder).vector(), 0.0f);
+        verify(queryRewriteContext, times(0)).registerAsyncAction(any());
+        verify(mlCommonsClientAccessor, times(0)).inferenceSentence(any(), any(), any());
+        assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f }, queryEmbeddingCache.get(MODEL_ID, QUERY_TEXT), 0.0f);
+    }
+
+    private VectorProjection createTestProjection() {
+        return new VectorProjection(
+            "projection",
+            VectorProjection.PCA_METHOD,
+            3,
+            2,
+            new float[] { 1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f },
+            new float[] { 1.0f, 1.0f }
+        );
+    }
 }
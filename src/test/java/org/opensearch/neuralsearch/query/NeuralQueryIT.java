@@ -73,6 +73,9 @@ public class NeuralQueryIT extends BaseNeuralSearchIT {
             modelId.get(),
             1,
             null,
+            null,
+            null,
+            null,
             null
         );
         Map<String, Object> searchResponseAsMap = search(TEST_BASIC_INDEX_NAME, neuralQueryBuilder, 1);
@@ -107,6 +110,9 @@ public class NeuralQueryIT extends BaseNeuralSearchIT {
             modelId.get(),
             1,
             null,
+            null,
+            null,
+            null,
             null
         );
 
@@ -150,6 +156,9 @@ public class NeuralQueryIT extends BaseNeuralSearchIT {
             modelId.get(),
             1,
             null,
+            null,
+            null,
+            null,
             null
         );
 
@@ -197,6 +206,9 @@ public class NeuralQueryIT extends BaseNeuralSearchIT {
             modelId.get(),
             1,
             null,
+            null,
+            null,
+            null,
             null
         );
         NeuralQueryBuilder neuralQueryBuilder2 = new NeuralQueryBuilder(
@@ -205,6 +217,9 @@ public class NeuralQueryIT extends BaseNeuralSearchIT {
             modelId.get(),
             1,
             null,
+            null,
+            null,
+            null,
             null
         );
 
@@ -252,6 +267,9 @@ public class NeuralQueryIT extends BaseNeuralSearchIT {
             modelId.get(),
             1,
             null,
+            null,
+            null,
+            null,
             null
         );
 
@@ -295,6 +313,9 @@ public class NeuralQueryIT extends BaseNeuralSearchIT {
             modelId.get(),
             1,
             null,
+            null,
+            null,
+            null,
             null
         );
 
@@ -336,7 +357,10 @@ public class NeuralQueryIT extends BaseNeuralSearchIT {
             modelId.get(),
             1,
             null,
-            new MatchQueryBuilder("_id", "3")
+            new MatchQueryBuilder("_id", "3"),
+            null,
+            null,
+            null
         );
         Map<String, Object> searchResponseAsMap = search(TEST_MULTI_DOC_INDEX_NAME, neuralQueryBuilder, 3);
         assertEquals(1, getHitCount(searchResponseAsMap));
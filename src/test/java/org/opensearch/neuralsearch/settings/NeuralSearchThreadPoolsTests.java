@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.settings;
+
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
+
+public class NeuralSearchThreadPoolsTests extends OpenSearchTestCase {
+
+    public void testGetExecutorBuilders_whenSizesConfigured_thenRegisterPoolsWithStats() {
+        final Settings settings = Settings.builder()
+            .put("node.name", "testNode")
+            .put("thread_pool." + NeuralSearchThreadPools.INFERENCE_THREAD_POOL + ".size", 3)
+            .put("thread_pool." + NeuralSearchThreadPools.INFERENCE_THREAD_POOL + ".queue_size", 7)
+            .build();
+        final ThreadPool threadPool = new ThreadPool(
+            settings,
+            NeuralSearchThreadPools.getExecutorBuilders(settings).toArray(new ExecutorBuilder<?>[0])
+        );
+        try {
+            final ThreadPool.Info inferenceInfo = info(threadPool, NeuralSearchThreadPools.INFERENCE_THREAD_POOL);
+            assertEquals(ThreadPool.ThreadPoolType.FIXED, inferenceInfo.getThreadPoolType());
+            assertEquals(3, inferenceInfo.getMax());
+            assertEquals(7, inferenceInfo.getQueueSize().singles());
+
+            boolean inferenceStats = false;
+            for (ThreadPoolStats.Stats stats : threadPool.stats()) {
+                inferenceStats |= NeuralSearchThreadPools.INFERENCE_THREAD_POOL.equals(stats.getName());
+            }
+            assertTrue(inferenceStats);
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    private ThreadPool.Info info(final ThreadPool threadPool, final String name) {
+        for (ThreadPool.Info info : threadPool.info()) {
+            if (name.equals(info.getName())) {
+                return info;
+            }
+        }
+        throw new AssertionError("thread pool [" + name + "] is not registered");
+    }
+}
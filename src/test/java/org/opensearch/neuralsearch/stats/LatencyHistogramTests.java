@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.stats;
+
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class LatencyHistogramTests extends OpenSearchTestCase {
+
+    public void testBucketIndex_whenLatencyInBucket_thenUpperBoundCoversIt() {
+        long previousUpperBound = -1;
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT - 1; index++) {
+            final long upperBound = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upperBound > previousUpperBound);
+            assertEquals(index, LatencyHistogram.bucketIndex(previousUpperBound + 1));
+            assertEquals(index, LatencyHistogram.bucketIndex(upperBound));
+            // relative error of the bucket is under 1 / SUB_BUCKET_COUNT
+            assertTrue(upperBound - previousUpperBound - 1 <= (previousUpperBound + 1) / LatencyHistogram.SUB_BUCKET_COUNT);
+            previousUpperBound = upperBound;
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    public void testSnapshot_whenLatenciesRecorded_thenReportPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.getCount());
+        assertEquals(50_500, snapshot.getMeanMicros(), 0.0);
+        assertEquals(100_000, snapshot.getMaxMicros());
+        assertEquals(50_000, snapshot.getPercentileMicros(50), 50_000 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertEquals(99_000, snapshot.getPercentileMicros(99), 99_000 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertEquals(100_000, snapshot.getPercentileMicros(100));
+    }
+
+    public void testSnapshot_whenMergedAndSerialized_thenKeepAllLatencies() throws Exception {
+        final LatencyHistogram first = new LatencyHistogram();
+        first.record(TimeUnit.MILLISECONDS.toNanos(1));
+        final LatencyHistogram second = new LatencyHistogram();
+        second.record(TimeUnit.MILLISECONDS.toNanos(3));
+
+        final LatencyHistogram.Snapshot merged = first.snapshot().merge(second.snapshot());
+        final BytesStreamOutput out = new BytesStreamOutput();
+        merged.writeTo(out);
+        final LatencyHistogram.Snapshot deserialized = new LatencyHistogram.Snapshot(StreamInput.wrap(out.bytes().toBytesRef().bytes));
+
+        assertEquals(2, deserialized.getCount());
+        assertEquals(2_000, deserialized.getMeanMicros(), 0.0);
+        assertEquals(3_000, deserialized.getMaxMicros());
+    }
+
+    public void testSnapshot_whenEmpty_thenReportZero() {
+        final LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getPercentileMicros(99));
+        assertEquals(0, snapshot.getMeanMicros(), 0.0);
+    }
+}
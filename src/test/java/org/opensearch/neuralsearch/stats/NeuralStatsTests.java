@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.stats;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class NeuralStatsTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "modelId";
+    private static final String TAG = "tag";
+
+    private AtomicLong nanoTime;
+    private NeuralStats neuralStats;
+
+    @Before
+    public void setup() {
+        nanoTime = new AtomicLong();
+        neuralStats = new NeuralStats(nanoTime::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testTrack_whenCallsComplete_thenRecordByModelAndTag() {
+        final ActionListener<String> listener = mock(ActionListener.class);
+        final ActionListener<String> succeeding = neuralStats.track(NeuralStatsOperation.PREDICT, MODEL_ID, TAG, 3, listener);
+        final ActionListener<String> failing = neuralStats.track(NeuralStatsOperation.PREDICT, MODEL_ID, null, 2, listener);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        final IllegalStateException exception = new IllegalStateException("failed");
+
+        succeeding.onResponse("response");
+        failing.onFailure(exception);
+
+        verify(listener).onResponse("response");
+        verify(listener).onFailure(exception);
+        final NeuralStatsSnapshot snapshot = neuralStats.snapshot();
+        final OperationStats.Snapshot modelStats = snapshot.getModels().get(MODEL_ID).get(NeuralStatsOperation.PREDICT.getName());
+        assertEquals(2, modelStats.getCount());
+        assertEquals(1, modelStats.getFailedCount());
+        assertEquals(5, modelStats.getItemCount());
+        assertEquals(10_000, modelStats.getLatency().getMaxMicros());
+        final OperationStats.Snapshot tagStats = snapshot.getProcessors().get(TAG).get(NeuralStatsOperation.PREDICT.getName());
+        assertEquals(1, tagStats.getCount());
+        assertEquals(0, tagStats.getFailedCount());
+    }
+
+    public void testIncrement_whenOperationOnlyCounted_thenRenderCountOnly() throws Exception {
+        neuralStats.increment(NeuralStatsOperation.INFERENCE_RETRY, MODEL_ID);
+        neuralStats.increment(NeuralStatsOperation.INFERENCE_RETRY, MODEL_ID);
+
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        neuralStats.snapshot().toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+
+        assertEquals("{\"models\":{\"modelId\":{\"inference_retry\":{\"count\":2}}},\"processors\":{}}", Strings.toString(builder));
+    }
+
+    public void testSnapshot_whenMergedAndSerialized_thenSumNodes() throws Exception {
+        neuralStats.track(NeuralStatsOperation.INFERENCE_SENTENCES, MODEL_ID, null, 4, ActionListener.<Void>wrap(r -> {}, e -> {}))
+            .onResponse(null);
+        final NeuralStats otherNodeStats = new NeuralStats(nanoTime::get);
+        otherNodeStats.track(NeuralStatsOperation.INFERENCE_SENTENCES, MODEL_ID, null, 6, ActionListener.<Void>wrap(r -> {}, e -> {}))
+            .onResponse(null);
+        otherNodeStats.track(NeuralStatsOperation.INFERENCE_SENTENCE, "otherModelId", null, 1, ActionListener.<Void>wrap(r -> {}, e -> {}))
+            .onResponse(null);
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        otherNodeStats.snapshot().writeTo(out);
+        final NeuralStatsSnapshot merged = neuralStats.snapshot()
+            .merge(new NeuralStatsSnapshot(StreamInput.wrap(out.bytes().toBytesRef().bytes)));
+
+        final Map<String, Map<String, OperationStats.Snapshot>> models = merged.getModels();
+        assertEquals(2, models.size());
+        final OperationStats.Snapshot stats = models.get(MODEL_ID).get(NeuralStatsOperation.INFERENCE_SENTENCES.getName());
+        assertEquals(2, stats.getCount());
+        assertEquals(10, stats.getItemCount());
+        assertEquals(2, stats.getLatency().getCount());
+        assertEquals(1, models.get("otherModelId").get(NeuralStatsOperation.INFERENCE_SENTENCE.getName()).getCount());
+    }
+}
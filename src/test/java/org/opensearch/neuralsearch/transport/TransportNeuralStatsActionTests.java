@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.transport;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.mockito.Mockito;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.neuralsearch.constants.TestCommonConstants;
+import org.opensearch.neuralsearch.ml.HedgedInference;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.stats.NeuralStats;
+import org.opensearch.neuralsearch.stats.NeuralStatsSnapshot;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportNeuralStatsActionTests extends OpenSearchTestCase {
+
+    private NeuralStats neuralStats;
+    private ClusterService clusterService;
+    private TransportNeuralStatsAction action;
+
+    @Before
+    public void setup() {
+        neuralStats = new NeuralStats();
+        final MachineLearningNodeClient client = mock(MachineLearningNodeClient.class);
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput());
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final MLCommonsClientAccessor accessor = new MLCommonsClientAccessor(client);
+        accessor.setNeuralStats(neuralStats);
+        final Settings settings = Settings.builder()
+            .put(NeuralSearchSettings.INFERENCE_CONCURRENCY_ENABLED.getKey(), true)
+            .put(NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_ENABLED.getKey(), true)
+            .build();
+        accessor.initializeConcurrencyLimiters(settings);
+        accessor.initializeCircuitBreakers(settings);
+        accessor.setHedgedInference(new HedgedInference(95, 0.05, (delay, task) -> null));
+        accessor.registerComponentStats(neuralStats);
+        accessor.inferenceSentences(
+            TestCommonConstants.MODEL_ID,
+            TestCommonConstants.SENTENCES_LIST,
+            ActionListener.wrap(r -> {}, e -> {})
+        );
+        accessor.inferenceSentence(TestCommonConstants.MODEL_ID, "query", ActionListener.wrap(r -> {}, e -> {}));
+
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("cluster"));
+        when(clusterService.localNode()).thenReturn(createNode("node1"));
+        action = new TransportNeuralStatsAction(
+            mock(ThreadPool.class),
+            clusterService,
+            mock(TransportService.class),
+            new ActionFilters(Set.of()),
+            neuralStats
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testNodeOperation_whenInferenceCalled_thenReportComponentStats() {
+        final NeuralStatsSnapshot stats = action.nodeOperation(new NeuralStatsNodeRequest()).getStats();
+
+        final Map<String, Object> components = stats.getComponents();
+        final Map<String, Object> limiter = (Map<String, Object>) ((Map<String, Object>) components.get(
+            NeuralStats.CONCURRENCY_LIMITERS_COMPONENT
+        )).get(TestCommonConstants.MODEL_ID);
+        // the limit is cut if the second call happens to be much slower than the first one
+        final long limit = (Long) limiter.get("limit");
+        assertTrue(limit >= 1 && limit <= 8);
+        assertEquals(0L, limiter.get("in_flight"));
+        assertEquals(0L, limiter.get("queue_size"));
+        final Map<String, Object> lanes = (Map<String, Object>) limiter.get("lanes");
+        assertEquals(1L, ((Map<String, Object>) lanes.get("bulk")).get("dispatched_count"));
+        assertEquals(1L, ((Map<String, Object>) lanes.get("interactive")).get("dispatched_count"));
+        final Map<String, Object> breaker = (Map<String, Object>) ((Map<String, Object>) components.get(
+            NeuralStats.CIRCUIT_BREAKERS_COMPONENT
+        )).get(TestCommonConstants.MODEL_ID);
+        assertEquals(Map.of("closed", 1L, "half_open", 0L, "open", 0L), breaker.get("state"));
+        assertEquals(0L, breaker.get("rejected_count"));
+        assertEquals(1L, ((Map<String, Object>) components.get(NeuralStats.HEDGING_COMPONENT)).get("call_count"));
+        assertEquals(0L, ((Map<String, Object>) components.get(NeuralStats.RETRIES_COMPONENT)).get("retry_count"));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testNewResponse_whenNodesSerialized_thenMergeComponentStats() throws Exception {
+        final NeuralStatsNodeResponse node1 = serialize(action.nodeOperation(new NeuralStatsNodeRequest()));
+        final Map<String, Object> nodeLimiters = (Map<String, Object>) node1.getStats()
+            .getComponents()
+            .get(NeuralStats.CONCURRENCY_LIMITERS_COMPONENT);
+        final long nodeLimit = (Long) ((Map<String, Object>) nodeLimiters.get(TestCommonConstants.MODEL_ID)).get("limit");
+        when(clusterService.localNode()).thenReturn(createNode("node2"));
+        final NeuralStatsNodeResponse node2 = serialize(action.nodeOperation(new NeuralStatsNodeRequest()));
+
+        final NeuralStatsResponse response = action.newResponse(new NeuralStatsRequest(), List.of(node1, node2), List.of());
+
+        final Map<String, Object> components = response.getClusterStats().getComponents();
+        final Map<String, Object> breaker = (Map<String, Object>) ((Map<String, Object>) components.get(
+            NeuralStats.CIRCUIT_BREAKERS_COMPONENT
+        )).get(TestCommonConstants.MODEL_ID);
+        assertEquals(Map.of("closed", 2L, "half_open", 0L, "open", 0L), breaker.get("state"));
+        final Map<String, Object> limiter = (Map<String, Object>) ((Map<String, Object>) components.get(
+            NeuralStats.CONCURRENCY_LIMITERS_COMPONENT
+        )).get(TestCommonConstants.MODEL_ID);
+        assertEquals(2 * nodeLimit, limiter.get("limit"));
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        response.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        assertTrue(
+            Strings.toString(builder)
+                .contains(
+                    "\"hedging\":{\"call_count\":2,\"hedge_count\":0,\"hedge_win_count\":0,\"hedge_rate\":0.0,\"hedge_win_rate\":0.0}"
+                )
+        );
+    }
+
+    private static NeuralStatsNodeResponse serialize(final NeuralStatsNodeResponse response) throws Exception {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        response.writeTo(out);
+        return new NeuralStatsNodeResponse(StreamInput.wrap(out.bytes().toBytesRef().bytes));
+    }
+
+    private static DiscoveryNode createNode(final String id) {
+        return new DiscoveryNode(id, buildNewFakeTransportAddress(), Version.CURRENT);
+    }
+
+    private static ModelTensorOutput createModelTensorOutput() {
+        final ModelTensor tensor = new ModelTensor(
+            "someValue",
+            new Float[] { 2.0f, 3.0f },
+            new long[] { 1, 2 },
+            MLResultDataType.FLOAT32,
+            null,
+            null,
+            null
+        );
+        return new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor))));
+    }
+}
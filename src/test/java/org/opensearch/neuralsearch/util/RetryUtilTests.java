@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.util;
+
+import java.util.List;
+import java.util.Random;
+
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.NodeNotConnectedException;
+import org.opensearch.transport.RemoteTransportException;
+
+public class RetryUtilTests extends OpenSearchTestCase {
+
+    public void testShouldRetry_whenCauseIsRetryable_thenRetry() {
+        Exception exception = new RemoteTransportException(
+            "remote failure",
+            new CircuitBreakingException("breaker tripped", CircuitBreaker.Durability.TRANSIENT)
+        );
+
+        assertTrue(RetryUtil.shouldRetry(exception, 0));
+        assertFalse(RetryUtil.shouldRetry(exception, 3));
+    }
+
+    public void testShouldRetry_whenNotConfiguredAsRetryable_thenNoRetry() {
+        Exception exception = new NodeNotConnectedException(null, "not connected");
+
+        assertFalse(RetryUtil.shouldRetry(exception, 0, 3, List.of(CircuitBreakingException.class.getName())));
+        assertFalse(RetryUtil.shouldRetry(new IllegalStateException(), 0));
+    }
+
+    public void testShouldRetry_whenSuperclassConfigured_thenRetrySubclass() {
+        assertTrue(RetryUtil.shouldRetry(new IllegalStateException(), 0, 3, List.of(RuntimeException.class.getName())));
+    }
+
+    public void testBackoffDelayMillis_whenRetriesGrow_thenCappedExponentialDelay() {
+        Random random = new Random(42);
+        TimeValue initialBackoff = TimeValue.timeValueMillis(50);
+        TimeValue maxBackoff = TimeValue.timeValueMillis(300);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(RetryUtil.backoffDelayMillis(0, initialBackoff, maxBackoff, random) <= 50);
+            assertTrue(RetryUtil.backoffDelayMillis(2, initialBackoff, maxBackoff, random) <= 200);
+            assertTrue(RetryUtil.backoffDelayMillis(Integer.MAX_VALUE, initialBackoff, maxBackoff, random) <= 300);
+        }
+    }
+}
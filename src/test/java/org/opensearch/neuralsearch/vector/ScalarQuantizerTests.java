@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import static org.opensearch.neuralsearch.TestUtils.xContentBuilderToMap;
+
+import java.util.Map;
+
+import lombok.SneakyThrows;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ScalarQuantizerTests extends OpenSearchTestCase {
+
+    public void testQuantize_whenRange_thenMapMinAndMaxToByteRange() {
+        ScalarQuantizer quantizer = ScalarQuantizer.ofRange(-1.0f, 1.0f);
+
+        assertArrayEquals(new byte[] { -128, 127, 0, -128, 127 }, quantizer.quantize(new float[] { -1.0f, 1.0f, 0.0f, -5.0f, 5.0f }));
+        assertArrayEquals(new float[] { -128, 127, 0 }, quantizer.quantizeAsFloats(new float[] { -1.0f, 1.0f, 0.0f }), 0.0f);
+    }
+
+    public void testQuantize_whenScale_thenKeepZeroAndClamp() {
+        ScalarQuantizer quantizer = ScalarQuantizer.ofScale(100.0f);
+
+        assertArrayEquals(new byte[] { 0, 50, -50, 127, -128 }, quantizer.quantize(new float[] { 0.0f, 0.5f, -0.5f, 2.0f, -2.0f }));
+    }
+
+    public void testParse_whenValidConfig_thenCreateQuantizer() {
+        assertEquals(ScalarQuantizer.ofRange(-0.5f, 0.5f), ScalarQuantizer.parse(Map.of("type", "int8", "min", -0.5, "max", 0.5)));
+        assertEquals(ScalarQuantizer.ofScale(127.0f), ScalarQuantizer.parse(Map.of("scale", "127")));
+    }
+
+    public void testParse_whenInvalidConfig_thenFail() {
+        expectThrows(IllegalArgumentException.class, () -> ScalarQuantizer.parse(Map.of("type", "int4", "scale", 1)));
+        expectThrows(IllegalArgumentException.class, () -> ScalarQuantizer.parse(Map.of("min", -1)));
+        expectThrows(IllegalArgumentException.class, () -> ScalarQuantizer.parse(Map.of("min", -1, "max", 1, "scale", 1)));
+        expectThrows(IllegalArgumentException.class, () -> ScalarQuantizer.parse(Map.of("min", 1, "max", -1)));
+        expectThrows(IllegalArgumentException.class, () -> ScalarQuantizer.parse(Map.of("scale", 0)));
+        expectThrows(IllegalArgumentException.class, () -> ScalarQuantizer.parse(Map.of("scale", "abc")));
+        expectThrows(IllegalArgumentException.class, () -> ScalarQuantizer.parse(Map.of("scale", 1, "offset", 1)));
+    }
+
+    @SneakyThrows
+    public void testStreamsAndXContent() {
+        ScalarQuantizer original = ScalarQuantizer.ofRange(-0.25f, 0.75f);
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        original.writeTo(streamOutput);
+
+        assertEquals(original, new ScalarQuantizer(streamOutput.bytes().streamInput()));
+        Map<String, Object> xContent = xContentBuilderToMap(original.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        assertEquals(original, ScalarQuantizer.parse(xContent));
+    }
+}
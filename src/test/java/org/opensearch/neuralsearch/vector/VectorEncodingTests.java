@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class VectorEncodingTests extends OpenSearchTestCase {
+
+    public void testEncode_whenArray_thenListOfFloats() {
+        assertEquals(List.of(1.0f, -2.5f), VectorEncoding.ARRAY.encode(new float[] { 1.0f, -2.5f }));
+    }
+
+    public void testEncode_whenBase64Float32_thenLittleEndianFloats() {
+        String encoded = (String) VectorEncoding.BASE64_FLOAT32.encode(new float[] { 1.0f, -2.5f });
+
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(8, buffer.remaining());
+        assertEquals(1.0f, buffer.getFloat(), 0.0f);
+        assertEquals(-2.5f, buffer.getFloat(), 0.0f);
+    }
+
+    public void testDecode_whenBase64Float32_thenRoundTripExactly() {
+        Random random = new Random(3);
+        float[] vector = new float[768];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+
+        assertArrayEquals(vector, VectorEncoding.BASE64_FLOAT32.decode(VectorEncoding.BASE64_FLOAT32.encode(vector)), 0.0f);
+    }
+
+    public void testDecode_whenBase64Float16_thenRoundTripWithinHalfPrecision() {
+        Random random = new Random(5);
+        float[] vector = new float[768];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+
+        String encoded = (String) VectorEncoding.BASE64_FLOAT16.encode(vector);
+        float[] decoded = VectorEncoding.BASE64_FLOAT16.decode(encoded);
+
+        assertEquals(768 * 2, Base64.getDecoder().decode(encoded).length);
+        for (int i = 0; i < vector.length; i++) {
+            // 11 significant bits, the relative error of the rounding is at most 2^-11
+            assertEquals(vector[i], decoded[i], Math.abs(vector[i]) * 0x1p-11f + 0x1p-25f);
+        }
+    }
+
+    public void testDecode_whenArray_thenReadWithAnyEncoding() {
+        for (VectorEncoding encoding : VectorEncoding.values()) {
+            assertArrayEquals(new float[] { 1.0f, 2.0f }, encoding.decode(List.of(1.0, 2)), 0.0f);
+        }
+    }
+
+    public void testDecode_whenNotAVector_thenNull() {
+        assertNull(VectorEncoding.BASE64_FLOAT32.decode("not base64!"));
+        assertNull(VectorEncoding.BASE64_FLOAT32.decode(Base64.getEncoder().encodeToString(new byte[] { 1, 2, 3 })));
+        assertNull(VectorEncoding.BASE64_FLOAT16.decode(Base64.getEncoder().encodeToString(new byte[] { 1 })));
+        assertNull(VectorEncoding.ARRAY.decode("AACAPw=="));
+        assertNull(VectorEncoding.BASE64_FLOAT32.decode(42));
+    }
+
+    public void testHalfFloat_whenAllHalfValues_thenRoundTrip() {
+        for (int bits = 0; bits <= 0xffff; bits++) {
+            short half = (short) bits;
+            float value = VectorEncoding.halfToFloat(half);
+            if (Float.isNaN(value)) {
+                assertTrue(Float.isNaN(VectorEncoding.halfToFloat(VectorEncoding.floatToHalf(value))));
+            } else {
+                assertEquals(half, VectorEncoding.floatToHalf(value));
+            }
+        }
+    }
+
+    public void testHalfFloat_whenSpecialValues_thenConvert() {
+        assertEquals(1.0f, VectorEncoding.halfToFloat((short) 0x3c00), 0.0f);
+        assertEquals(65504.0f, VectorEncoding.halfToFloat((short) 0x7bff), 0.0f);
+        assertEquals(0x1p-24f, VectorEncoding.halfToFloat((short) 0x0001), 0.0f);
+        // beyond the largest half float
+        assertEquals((short) 0x7c00, VectorEncoding.floatToHalf(70000.0f));
+        assertEquals((short) 0xfc00, VectorEncoding.floatToHalf(Float.NEGATIVE_INFINITY));
+        // below the smallest subnormal half float
+        assertEquals((short) 0x0000, VectorEncoding.floatToHalf(0x1p-26f));
+        assertEquals((short) 0x8000, VectorEncoding.floatToHalf(-0.0f));
+        // ties round to the even mantissa, 1 + 2^-11 is halfway between 1 and 1 + 2^-10
+        assertEquals((short) 0x3c00, VectorEncoding.floatToHalf(1.0f + 0x1p-11f));
+        assertEquals((short) 0x3c02, VectorEncoding.floatToHalf(1.0f + 3 * 0x1p-11f));
+        assertEquals((short) 0x3c01, VectorEncoding.floatToHalf(1.0f + 0x1p-11f + 0x1p-20f));
+    }
+
+    public void testFromName_whenUnknown_thenFail() {
+        assertEquals(VectorEncoding.BASE64_FLOAT16, VectorEncoding.fromName("base64_float16"));
+        expectThrows(IllegalArgumentException.class, () -> VectorEncoding.fromName("float64"));
+    }
+}
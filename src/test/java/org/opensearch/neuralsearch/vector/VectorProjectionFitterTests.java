@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class VectorProjectionFitterTests extends OpenSearchTestCase {
+
+    public void testRandom_whenSameSeed_thenSameMatrix() {
+        VectorProjection first = VectorProjectionFitter.random("p", 16, 4, 42L);
+        VectorProjection second = VectorProjectionFitter.random("p", 16, 4, 42L);
+        VectorProjection other = VectorProjectionFitter.random("p", 16, 4, 43L);
+
+        assertEquals(VectorProjection.RANDOM_METHOD, first.getMethod());
+        assertNull(first.getBias());
+        assertArrayEquals(first.getMatrix(), second.getMatrix(), 0.0f);
+        assertFalse(Arrays.equals(first.getMatrix(), other.getMatrix()));
+    }
+
+    public void testRandom_whenInvalidDimensions_thenFail() {
+        expectThrows(IllegalArgumentException.class, () -> VectorProjectionFitter.random("p", 4, 8, 0L));
+        expectThrows(IllegalArgumentException.class, () -> VectorProjectionFitter.random("p", 4, 0, 0L));
+    }
+
+    public void testPca_whenSamplesAlongOneDirection_thenFirstComponentIsThatDirection() {
+        Random random = new Random(1);
+        float[] direction = new float[] { 0.6f, 0.8f, 0.0f, 0.0f };
+        float[] mean = new float[] { 1.0f, -1.0f, 2.0f, 0.5f };
+        List<float[]> samples = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            float along = (float) random.nextGaussian() * 10;
+            float[] sample = new float[4];
+            for (int d = 0; d < 4; d++) {
+                sample[d] = mean[d] + along * direction[d] + (float) random.nextGaussian() * 0.1f;
+            }
+            samples.add(sample);
+        }
+
+        VectorProjection projection = VectorProjectionFitter.pca("p", samples, 2, 0L);
+
+        assertEquals(VectorProjection.PCA_METHOD, projection.getMethod());
+        assertEquals(4, projection.getInputDimension());
+        assertEquals(2, projection.getOutputDimension());
+        float[] matrix = projection.getMatrix();
+        double alignment = 0;
+        for (int d = 0; d < 4; d++) {
+            alignment += matrix[d] * direction[d];
+        }
+        assertEquals(1.0, Math.abs(alignment), 1e-3);
+        // the mean of the sample is projected to the origin
+        float[] sampleMean = new float[4];
+        for (float[] sample : samples) {
+            for (int d = 0; d < 4; d++) {
+                sampleMean[d] += sample[d] / samples.size();
+            }
+        }
+        for (float value : projection.project(sampleMean)) {
+            assertEquals(0.0f, value, 1e-4f);
+        }
+    }
+
+    public void testPca_whenFewerDirectionsThanOutputDimension_thenComponentsOrthonormal() {
+        List<float[]> samples = List.of(new float[] { 1.0f, 0.0f, 0.0f, 0.0f }, new float[] { -1.0f, 0.0f, 0.0f, 0.0f });
+
+        VectorProjection projection = VectorProjectionFitter.pca("p", samples, 3, 0L);
+
+        float[] matrix = projection.getMatrix();
+        for (int a = 0; a < 3; a++) {
+            for (int b = 0; b < 3; b++) {
+                double dot = 0;
+                for (int d = 0; d < 4; d++) {
+                    dot += matrix[a * 4 + d] * matrix[b * 4 + d];
+                }
+                assertEquals(a == b ? 1.0 : 0.0, dot, 1e-5);
+            }
+        }
+        assertEquals(1.0f, Math.abs(matrix[0]), 1e-5f);
+    }
+
+    public void testPca_whenInvalidSamples_thenFail() {
+        expectThrows(IllegalArgumentException.class, () -> VectorProjectionFitter.pca("p", List.of(new float[] { 1.0f }), 1, 0L));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> VectorProjectionFitter.pca("p", List.of(new float[] { 1.0f, 2.0f }, new float[] { 1.0f }), 1, 0L)
+        );
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> VectorProjectionFitter.pca("p", List.of(new float[] { 1.0f, 2.0f }, new float[] { 2.0f, 1.0f }), 3, 0L)
+        );
+    }
+}
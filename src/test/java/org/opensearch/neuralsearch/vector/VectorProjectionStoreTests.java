@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class VectorProjectionStoreTests extends OpenSearchTestCase {
+
+    private Client client;
+    private VectorProjectionStore store;
+
+    @Before
+    public void setup() {
+        client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(client.threadPool()).thenReturn(threadPool);
+        store = new VectorProjectionStore(client);
+    }
+
+    public void testGet_whenProjectionExists_thenLoadOnce() {
+        VectorProjection projection = VectorProjectionFitter.random("p", 4, 2, 0L);
+        GetResponse response = mock(GetResponse.class);
+        when(response.isExists()).thenReturn(true);
+        when(response.getSourceAsMap()).thenReturn(projection.toSource());
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+
+        AtomicReference<VectorProjection> first = new AtomicReference<>();
+        AtomicReference<VectorProjection> second = new AtomicReference<>();
+        assertNull(store.getIfLoaded("p"));
+        store.get("p", ActionListener.wrap(first::set, e -> fail(e.getMessage())));
+        store.get("p", ActionListener.wrap(second::set, e -> fail(e.getMessage())));
+
+        assertArrayEquals(projection.getMatrix(), first.get().getMatrix(), 0.0f);
+        assertSame(first.get(), second.get());
+        assertSame(first.get(), store.getIfLoaded("p"));
+        verify(client, times(1)).get(any(GetRequest.class), any());
+    }
+
+    public void testGet_whenProjectionMissing_thenResourceNotFound() {
+        GetResponse response = mock(GetResponse.class);
+        when(response.isExists()).thenReturn(false);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        store.get("missing", ActionListener.wrap(p -> fail("projection should not exist"), failure::set));
+
+        assertTrue(failure.get() instanceof ResourceNotFoundException);
+        assertNull(store.getIfLoaded("missing"));
+    }
+
+    public void testGet_whenIndexMissing_thenResourceNotFound() {
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new IndexNotFoundException(VectorProjectionStore.INDEX_NAME));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        store.get("missing", ActionListener.wrap(p -> fail("projection should not exist"), failure::set));
+
+        assertTrue(failure.get() instanceof ResourceNotFoundException);
+    }
+}
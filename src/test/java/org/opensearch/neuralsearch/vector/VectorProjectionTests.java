@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.neuralsearch.vector;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class VectorProjectionTests extends OpenSearchTestCase {
+
+    public void testProject_whenBlockedRows_thenMatchNaiveProduct() {
+        Random random = new Random(42);
+        // 7 rows, a block of 4 rows and a tail of 3 rows
+        int inputDimension = 13;
+        int outputDimension = 7;
+        float[] matrix = randomFloats(random, inputDimension * outputDimension);
+        float[] bias = randomFloats(random, outputDimension);
+        float[] vector = randomFloats(random, inputDimension);
+        VectorProjection projection = new VectorProjection("p", VectorProjection.PCA_METHOD, inputDimension, outputDimension, matrix, bias);
+
+        float[] projected = projection.project(vector);
+
+        assertEquals(outputDimension, projected.length);
+        for (int row = 0; row < outputDimension; row++) {
+            float expected = 0;
+            for (int i = 0; i < inputDimension; i++) {
+                expected += matrix[row * inputDimension + i] * vector[i];
+            }
+            assertEquals(expected - bias[row], projected[row], 1e-5f);
+        }
+    }
+
+    public void testProject_whenListOfVectors_thenProjectEachInOrder() {
+        VectorProjection projection = new VectorProjection("p", VectorProjection.RANDOM_METHOD, 2, 1, new float[] { 1.0f, -1.0f }, null);
+
+        List<float[]> projected = projection.project(List.of(new float[] { 3.0f, 1.0f }, new float[] { 1.0f, 3.0f }));
+
+        assertArrayEquals(new float[] { 2.0f }, projected.get(0), 0.0f);
+        assertArrayEquals(new float[] { -2.0f }, projected.get(1), 0.0f);
+    }
+
+    public void testProject_whenDimensionMismatch_thenFail() {
+        VectorProjection projection = VectorProjectionFitter.random("p", 4, 2, 0L);
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> projection.project(new float[3]));
+        assertEquals("projection [p] expects vectors of dimension [4] but got [3]", e.getMessage());
+    }
+
+    public void testConstructor_whenOutputDimensionLargerThanInput_thenFail() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new VectorProjection("p", VectorProjection.RANDOM_METHOD, 2, 3, new float[6], null)
+        );
+    }
+
+    public void testConstructor_whenMatrixDoesNotMatchDimensions_thenFail() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new VectorProjection("p", VectorProjection.RANDOM_METHOD, 3, 2, new float[5], null)
+        );
+    }
+
+    public void testSource_whenRoundTrip_thenSameProjection() {
+        Random random = new Random(7);
+        VectorProjection projection = new VectorProjection(
+            "p",
+            VectorProjection.PCA_METHOD,
+            5,
+            3,
+            randomFloats(random, 15),
+            randomFloats(random, 3)
+        );
+
+        Map<String, Object> source = projection.toSource();
+        VectorProjection copy = VectorProjection.fromSource("p", source);
+
+        assertEquals(projection.getMethod(), copy.getMethod());
+        assertEquals(projection.getInputDimension(), copy.getInputDimension());
+        assertEquals(projection.getOutputDimension(), copy.getOutputDimension());
+        assertArrayEquals(projection.getMatrix(), copy.getMatrix(), 0.0f);
+        assertArrayEquals(projection.getBias(), copy.getBias(), 0.0f);
+    }
+
+    public void testSource_whenNoBias_thenBiasOmitted() {
+        VectorProjection projection = VectorProjectionFitter.random("p", 4, 2, 0L);
+
+        Map<String, Object> source = projection.toSource();
+
+        assertFalse(source.containsKey(VectorProjection.BIAS_FIELD));
+        assertNull(VectorProjection.fromSource("p", source).getBias());
+    }
+
+    private static float[] randomFloats(Random random, int length) {
+        float[] values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextFloat() * 2 - 1;
+        }
+        return values;
+    }
+}